@@ -593,6 +593,8 @@ public final class DefaultRepositorySystemSession implements RepositorySystemSes
         } else {
             configProperties.remove(key);
         }
+        // new view instance signals the change to those caching parsed values per config properties instance
+        configPropertiesView = Collections.unmodifiableMap(configProperties);
         return this;
     }
 
@@ -19,6 +19,7 @@
 package org.eclipse.aether;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -135,6 +136,47 @@ public interface RepositorySystem extends Closeable {
     CollectResult collectDependencies(RepositorySystemSession session, CollectRequest request)
             throws DependencyCollectionException;
 
+    /**
+     * Collects the transitive dependencies of several artifacts and builds a dependency graph for each of them, like
+     * {@link #collectDependencies(RepositorySystemSession, CollectRequest)} does for single request. Implementations
+     * may collect the requests concurrently, and may share data (like resolved version ranges) among them, hence this
+     * method is preferred over repeated invocations of single request method when many graphs (for example of all
+     * the modules of a multi-module project) are to be collected at once. All requests are collected, even if some of
+     * them fail.
+     * <p>
+     * The default implementation collects requests one by one.
+     *
+     * @param session The repository session, must not be {@code null}.
+     * @param requests The collection requests, must not be {@code null}.
+     * @return The collection results, in the same order as requests, never {@code null}.
+     * @throws DependencyCollectionException If any of the dependency trees could not be built. The exception of the
+     *                                       first failed request is thrown, while exceptions of subsequent failed
+     *                                       requests are added to it as suppressed exceptions.
+     * @see #collectDependencies(RepositorySystemSession, CollectRequest)
+     * @since 2.0.23
+     */
+    default List<CollectResult> collectDependencies(
+            RepositorySystemSession session, Collection<? extends CollectRequest> requests)
+            throws DependencyCollectionException {
+        List<CollectResult> results = new ArrayList<>(requests.size());
+        DependencyCollectionException failure = null;
+        for (CollectRequest request : requests) {
+            try {
+                results.add(collectDependencies(session, request));
+            } catch (DependencyCollectionException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
     /**
      * Collects and resolves the transitive dependencies of an artifact. This operation is essentially a combination of
      * {@link #collectDependencies(RepositorySystemSession, CollectRequest)} and
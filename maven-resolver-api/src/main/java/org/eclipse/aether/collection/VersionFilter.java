@@ -18,6 +18,8 @@
  */
 package org.eclipse.aether.collection;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -81,6 +83,43 @@ public interface VersionFilter {
          */
         Iterator<Version> iterator();
 
+        /**
+         * Gets the available versions of the dependency as read-only list, in ascending order. The list reflects any
+         * removals made during version filtering. Being sorted, the list may be used to locate versions using binary
+         * search, for example to find the bounds of a version range.
+         * @return The available versions, never {@code null}.
+         * @since 2.0.23
+         */
+        default List<Version> getVersions() {
+            List<Version> versions = new ArrayList<>(getCount());
+            iterator().forEachRemaining(versions::add);
+            return Collections.unmodifiableList(versions);
+        }
+
+        /**
+         * Retains only the available versions with (ascending order) index between {@code fromIndex}, inclusive, and
+         * {@code toIndex}, exclusive, removing all the other versions. This is equivalent of removing these versions
+         * using {@link Iterator#remove()}, but implementations may perform removal in bulk.
+         * @param fromIndex The index of lowest version to retain.
+         * @param toIndex The index after the highest version to retain.
+         * @throws IndexOutOfBoundsException If indexes are out of range or {@code fromIndex > toIndex}.
+         * @since 2.0.23
+         */
+        default void retain(int fromIndex, int toIndex) {
+            int count = getCount();
+            if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException(
+                        "fromIndex=" + fromIndex + ", toIndex=" + toIndex + ", count=" + count);
+            }
+            Iterator<Version> it = iterator();
+            for (int i = 0; it.hasNext(); i++) {
+                it.next();
+                if (i < fromIndex || i >= toIndex) {
+                    it.remove();
+                }
+            }
+        }
+
         /**
          * Gets the version constraint that was parsed from the dependency's version string.
          *
@@ -60,7 +60,7 @@ import org.eclipse.aether.transfer.NoRepositoryConnectorException;
 import org.eclipse.aether.transfer.NoRepositoryLayoutException;
 import org.eclipse.aether.transfer.TransferEvent;
 import org.eclipse.aether.transfer.TransferResource;
-import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.ConfigView;
 import org.eclipse.aether.util.concurrency.RunnableErrorForwarder;
 import org.eclipse.aether.util.concurrency.SmartExecutor;
 import org.eclipse.aether.util.concurrency.SmartExecutorUtils;
@@ -85,6 +85,21 @@ import static org.eclipse.aether.connector.basic.BasicRepositoryConnectorConfigu
 final class BasicRepositoryConnector implements RepositoryConnector {
     private static final Logger LOGGER = LoggerFactory.getLogger(BasicRepositoryConnector.class);
 
+    private static final ConfigView.Key<Integer> UPSTREAM_THREADS =
+            ConfigView.integerKey(DEFAULT_THREADS, CONFIG_PROP_UPSTREAM_THREADS, CONFIG_PROP_THREADS);
+
+    private static final ConfigView.Key<Integer> DOWNSTREAM_THREADS =
+            ConfigView.integerKey(DEFAULT_THREADS, CONFIG_PROP_DOWNSTREAM_THREADS, CONFIG_PROP_THREADS);
+
+    private static final ConfigView.Key<Boolean> INCLUDED_CHECKSUMS = ConfigView.booleanKey(
+            DEFAULT_INCLUDED_CHECKSUMS, CONFIG_PROP_INCLUDED_CHECKSUMS, "aether.connector.smartChecksums");
+
+    private static final ConfigView.Key<Boolean> PARALLEL_PUT =
+            ConfigView.booleanKey(DEFAULT_PARALLEL_PUT, CONFIG_PROP_PARALLEL_PUT);
+
+    private static final ConfigView.Key<Boolean> PERSISTED_CHECKSUMS =
+            ConfigView.booleanKey(DEFAULT_PERSISTED_CHECKSUMS, CONFIG_PROP_PERSISTED_CHECKSUMS);
+
     private final Map<String, ProvidedChecksumsSource> providedChecksumsSources;
 
     private final PathProcessor pathProcessor;
@@ -149,27 +164,12 @@ final class BasicRepositoryConnector implements RepositoryConnector {
         this.executors = new ConcurrentHashMap<>();
         this.closed = new AtomicBoolean(false);
 
-        maxUpstreamThreads = ConfigUtils.getInteger(
-                session,
-                DEFAULT_THREADS,
-                CONFIG_PROP_UPSTREAM_THREADS + "." + repository.getId(),
-                CONFIG_PROP_UPSTREAM_THREADS,
-                CONFIG_PROP_THREADS);
-        maxDownstreamThreads = ConfigUtils.getInteger(
-                session,
-                DEFAULT_THREADS,
-                CONFIG_PROP_DOWNSTREAM_THREADS + "." + repository.getId(),
-                CONFIG_PROP_DOWNSTREAM_THREADS,
-                CONFIG_PROP_THREADS);
-        includedChecksums = ConfigUtils.getBoolean(
-                session, DEFAULT_INCLUDED_CHECKSUMS, CONFIG_PROP_INCLUDED_CHECKSUMS, "aether.connector.smartChecksums");
-        parallelPut = ConfigUtils.getBoolean(
-                session,
-                DEFAULT_PARALLEL_PUT,
-                CONFIG_PROP_PARALLEL_PUT + "." + repository.getId(),
-                CONFIG_PROP_PARALLEL_PUT);
-        persistedChecksums =
-                ConfigUtils.getBoolean(session, DEFAULT_PERSISTED_CHECKSUMS, CONFIG_PROP_PERSISTED_CHECKSUMS);
+        ConfigView config = ConfigView.of(session);
+        maxUpstreamThreads = config.get(UPSTREAM_THREADS, repository);
+        maxDownstreamThreads = config.get(DOWNSTREAM_THREADS, repository);
+        includedChecksums = config.get(INCLUDED_CHECKSUMS);
+        parallelPut = config.get(PARALLEL_PUT, repository);
+        persistedChecksums = config.get(PERSISTED_CHECKSUMS);
     }
 
     /**
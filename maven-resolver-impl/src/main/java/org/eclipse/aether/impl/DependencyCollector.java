@@ -18,6 +18,10 @@
  */
 package org.eclipse.aether.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.collection.CollectRequest;
@@ -53,4 +57,40 @@ public interface DependencyCollector {
      */
     CollectResult collectDependencies(RepositorySystemSession session, CollectRequest request)
             throws DependencyCollectionException;
+
+    /**
+     * Collects the transitive dependencies of several artifacts and builds a dependency graph for each of them. All
+     * requests are collected, even if some of them fail. The default implementation collects requests one by one,
+     * while implementations may collect them concurrently.
+     *
+     * @param session The repository session, must not be {@code null}.
+     * @param requests The collection requests, must not be {@code null}.
+     * @return The collection results, in the same order as requests, never {@code null}.
+     * @throws DependencyCollectionException If any of the dependency trees could not be built. The exception of the
+     *                                       first failed request is thrown, while exceptions of subsequent failed
+     *                                       requests are added to it as suppressed exceptions.
+     * @see RepositorySystem#collectDependencies(RepositorySystemSession, Collection)
+     * @since 2.0.23
+     */
+    default List<CollectResult> collectDependencies(
+            RepositorySystemSession session, Collection<? extends CollectRequest> requests)
+            throws DependencyCollectionException {
+        List<CollectResult> results = new ArrayList<>(requests.size());
+        DependencyCollectionException failure = null;
+        for (CollectRequest request : requests) {
+            try {
+                results.add(collectDependencies(session, request));
+            } catch (DependencyCollectionException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
 }
@@ -20,11 +20,15 @@ package org.eclipse.aether.impl.scope;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.scope.DependencyScope;
 import org.eclipse.aether.scope.ResolutionScope;
 import org.eclipse.aether.scope.ScopeManager;
@@ -54,6 +58,20 @@ public interface InternalScopeManager extends ScopeManager {
      */
     Optional<BuildScope> getDependencyScopeMainProjectBuildScope(DependencyScope dependencyScope);
 
+    /**
+     * Computes artifacts of all build scopes (all {@link ProjectPath} and {@link BuildPath} combinations) from the
+     * passed in dependency graph in one pass, instead of filtering the graph once per build scope. The graph is
+     * expected to have dependency scopes already derived, like a graph produced by collection is.
+     * <p>
+     * Nodes are visited in preorder, each node only once. Artifact of a node is added to artifacts of every build
+     * scope its dependency scope is present in. Nodes without dependency or having unknown dependency scope are
+     * skipped. The returned map is ordered by {@link BuildScope#order()} and contains all build scopes, even those
+     * without any artifact.
+     *
+     * @since 2.0.23
+     */
+    Map<BuildScope, List<Artifact>> getBuildScopeArtifacts(DependencyNode root);
+
     /**
      * Resolver specific: post-processing to be used to support this scope (with its dependency
      * and resolution scopes).
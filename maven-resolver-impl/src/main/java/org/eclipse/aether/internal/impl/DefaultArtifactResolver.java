@@ -23,6 +23,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -33,6 +34,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.eclipse.aether.ConfigurationProperties;
 import org.eclipse.aether.RepositoryEvent;
@@ -78,7 +80,7 @@ import org.eclipse.aether.transfer.ArtifactNotFoundException;
 import org.eclipse.aether.transfer.ArtifactTransferException;
 import org.eclipse.aether.transfer.NoRepositoryConnectorException;
 import org.eclipse.aether.transfer.RepositoryOfflineException;
-import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.ConfigView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -119,8 +121,34 @@ public class DefaultArtifactResolver implements ArtifactResolver {
 
     public static final boolean DEFAULT_SIMPLE_LRM_INTEROP = false;
 
+    /**
+     * Configuration to enable "optimistic" resolution: first attempt to resolve artifacts from local repository
+     * (or workspace) without acquiring any lock, and fall back to locking only if any artifact is not present
+     * locally, is a snapshot, or would need local repository modification. Artifact files found locally are
+     * validated (they must have same size and last modified timestamp) after the resolution is done, and resolution
+     * falls back to locking if any of them was modified concurrently. Beneficial when locking is expensive (like
+     * with file or distributed locks) and all the artifacts are usually already present (like in warm builds).
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Boolean}
+     * @configurationDefaultValue {@link #DEFAULT_OPTIMISTIC_RESOLUTION}
+     */
+    public static final String CONFIG_PROP_OPTIMISTIC_RESOLUTION = CONFIG_PROPS_PREFIX + "optimisticResolution";
+
+    public static final boolean DEFAULT_OPTIMISTIC_RESOLUTION = false;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultArtifactResolver.class);
 
+    private static final ConfigView.Key<Boolean> SNAPSHOT_NORMALIZATION =
+            ConfigView.booleanKey(DEFAULT_SNAPSHOT_NORMALIZATION, CONFIG_PROP_SNAPSHOT_NORMALIZATION);
+
+    private static final ConfigView.Key<Boolean> SIMPLE_LRM_INTEROP =
+            ConfigView.booleanKey(DEFAULT_SIMPLE_LRM_INTEROP, CONFIG_PROP_SIMPLE_LRM_INTEROP);
+
+    private static final ConfigView.Key<Boolean> OPTIMISTIC_RESOLUTION =
+            ConfigView.booleanKey(DEFAULT_OPTIMISTIC_RESOLUTION, CONFIG_PROP_OPTIMISTIC_RESOLUTION);
+
     private final PathProcessor pathProcessor;
 
     private final RepositoryEventDispatcher repositoryEventDispatcher;
@@ -211,15 +239,25 @@ public class DefaultArtifactResolver implements ArtifactResolver {
             Collection<? extends ArtifactRequest> requests)
             throws ArtifactResolutionException {
         SystemDependencyScope systemDependencyScope = session.getSystemDependencyScope();
+        // optimistic: this pass is done without locking, and is discarded (and redone with locking) if not complete
+        final ConfigView config = ConfigView.of(session);
+        boolean optimistic = config.get(OPTIMISTIC_RESOLUTION);
+        final boolean simpleLrmInterop = config.get(SIMPLE_LRM_INTEROP);
+        boolean firstPass = true;
         SyncContext current = shared;
         try {
             while (true) {
-                current.acquire(subjects, null);
+                if (!optimistic) {
+                    current.acquire(subjects, null);
+                }
 
                 boolean failures = false;
+                boolean needsLock = false;
+                final List<LocalFileState> localFiles = optimistic ? new ArrayList<>() : null;
+                // events of the optimistic pass are fired only if the pass is not discarded
+                final List<Runnable> deferredEvents = optimistic ? new ArrayList<>() : null;
+                final Consumer<Runnable> events = optimistic ? deferredEvents::add : Runnable::run;
                 final List<ArtifactResult> results = new ArrayList<>(requests.size());
-                final boolean simpleLrmInterop =
-                        ConfigUtils.getBoolean(session, DEFAULT_SIMPLE_LRM_INTEROP, CONFIG_PROP_SIMPLE_LRM_INTEROP);
                 final LocalRepositoryManager lrm = session.getLocalRepositoryManager();
                 final WorkspaceReader workspace = session.getWorkspaceReader();
                 final List<ResolutionGroup> groups = new ArrayList<>();
@@ -234,8 +272,8 @@ public class DefaultArtifactResolver implements ArtifactResolver {
 
                     Artifact artifact = request.getArtifact();
 
-                    if (current == shared) {
-                        artifactResolving(session, trace, artifact);
+                    if (firstPass) {
+                        events.accept(() -> artifactResolving(session, trace, request.getArtifact()));
                     }
 
                     String localPath =
@@ -250,7 +288,8 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                         } else {
                             artifact = artifact.setPath(path);
                             result.setArtifact(artifact);
-                            artifactResolved(session, trace, artifact, null, result.getExceptions());
+                            events.accept(() -> artifactResolved(
+                                    session, trace, result.getArtifact(), null, result.getExceptions()));
                         }
                         continue;
                     }
@@ -287,6 +326,12 @@ public class DefaultArtifactResolver implements ArtifactResolver {
 
                     artifact = artifact.setVersion(versionResult.getVersion());
 
+                    if (optimistic && artifact.isSnapshot()) {
+                        // snapshots may change and may need normalization (local repository modification)
+                        needsLock = true;
+                        break;
+                    }
+
                     if (versionResult.getRepository() != null) {
                         if (versionResult.getRepository() instanceof RemoteRepository) {
                             filteredRemoteRepositories =
@@ -302,7 +347,8 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                             artifact = artifact.setPath(path);
                             result.setArtifact(artifact);
                             result.setRepository(workspace.getRepository());
-                            artifactResolved(session, trace, artifact, result.getRepository(), null);
+                            events.accept(() -> artifactResolved(
+                                    session, trace, result.getArtifact(), result.getRepository(), null));
                             continue;
                         }
                     }
@@ -318,6 +364,14 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                     // without filtering: simply presence of file drives the logic
                     // "interop" logic with simple LRM leads to RRF breakage: hence is ignored when filtering in effect
                     if (found) {
+                        if (optimistic) {
+                            if (filter == null && simpleLrmInterop && !local.isAvailable()) {
+                                // needs local repository modification (see below)
+                                needsLock = true;
+                                break;
+                            }
+                            localFiles.add(new LocalFileState(local.getPath()));
+                        }
                         if (local.getRepository() != null) {
                             result.setRepository(local.getRepository());
                         } else {
@@ -325,9 +379,10 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                         }
 
                         try {
-                            artifact = artifact.setPath(getPath(session, artifact, local.getPath()));
+                            artifact = artifact.setPath(getPath(config, artifact, local.getPath()));
                             result.setArtifact(artifact);
-                            artifactResolved(session, trace, artifact, result.getRepository(), null);
+                            events.accept(() -> artifactResolved(
+                                    session, trace, result.getArtifact(), result.getRepository(), null));
                         } catch (ArtifactTransferException e) {
                             result.addException(lrm.getRepository(), e);
                         }
@@ -390,14 +445,31 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                     }
                 }
 
-                if (!groups.isEmpty() && current == shared) {
-                    current.close();
-                    current = exclusive;
-                    continue;
-                }
+                if (optimistic) {
+                    // discarded if incomplete, the locked pass then starts over (and fires events)
+                    optimistic = false;
+                    if (needsLock
+                            || !groups.isEmpty()
+                            || failures
+                            || results.stream()
+                                    .anyMatch(r -> r.getArtifact() == null
+                                            || r.getArtifact().getPath() == null)
+                            || !localFiles.stream().allMatch(LocalFileState::isUnchanged)) {
+                        continue;
+                    }
+                    deferredEvents.forEach(Runnable::run);
+                } else {
+                    firstPass = false;
 
-                for (ResolutionGroup group : groups) {
-                    performDownloads(session, group);
+                    if (!groups.isEmpty() && current == shared) {
+                        current.close();
+                        current = exclusive;
+                        continue;
+                    }
+
+                    for (ResolutionGroup group : groups) {
+                        performDownloads(session, group);
+                    }
                 }
 
                 for (ArtifactResolverPostProcessor artifactResolverPostProcessor :
@@ -468,12 +540,10 @@ public class DefaultArtifactResolver implements ArtifactResolver {
         return false;
     }
 
-    private Path getPath(RepositorySystemSession session, Artifact artifact, Path path)
-            throws ArtifactTransferException {
+    private Path getPath(ConfigView config, Artifact artifact, Path path) throws ArtifactTransferException {
         if (artifact.isSnapshot()
                 && !artifact.getVersion().equals(artifact.getBaseVersion())
-                && ConfigUtils.getBoolean(
-                        session, DEFAULT_SNAPSHOT_NORMALIZATION, CONFIG_PROP_SNAPSHOT_NORMALIZATION)) {
+                && config.get(SNAPSHOT_NORMALIZATION)) {
             String name = path.getFileName().toString().replace(artifact.getVersion(), artifact.getBaseVersion());
             Path dst = path.getParent().resolve(name);
 
@@ -574,6 +644,7 @@ public class DefaultArtifactResolver implements ArtifactResolver {
 
     private void evaluateDownloads(RepositorySystemSession session, ResolutionGroup group) {
         LocalRepositoryManager lrm = session.getLocalRepositoryManager();
+        ConfigView config = ConfigView.of(session);
 
         for (ResolutionItem item : group.items) {
             ArtifactDownload download = item.download;
@@ -586,7 +657,7 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                 item.resolved.set(true);
                 item.result.setRepository(group.repository);
                 try {
-                    artifact = artifact.setPath(getPath(session, artifact, download.getPath()));
+                    artifact = artifact.setPath(getPath(config, artifact, download.getPath()));
                     item.result.setArtifact(artifact);
 
                     lrm.add(
@@ -723,4 +794,40 @@ public class DefaultArtifactResolver implements ArtifactResolver {
             this.repository = repository;
         }
     }
+
+    /**
+     * State of a local file used by optimistic resolution, to detect concurrent modifications.
+     */
+    class LocalFileState {
+
+        final Path path;
+
+        final long size;
+
+        final long lastModified;
+
+        LocalFileState(Path path) {
+            long size = -1L;
+            long lastModified = -1L;
+            try {
+                size = pathProcessor.size(path, -1L);
+                lastModified = pathProcessor.lastModified(path, -1L);
+            } catch (UncheckedIOException e) {
+                // state unknown: will not validate
+            }
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        boolean isUnchanged() {
+            try {
+                return size != -1L
+                        && size == pathProcessor.size(path, -1L)
+                        && lastModified == pathProcessor.lastModified(path, -1L);
+            } catch (UncheckedIOException e) {
+                return false;
+            }
+        }
+    }
 }
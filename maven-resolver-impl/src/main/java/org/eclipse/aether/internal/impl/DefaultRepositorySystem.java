@@ -32,7 +32,6 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.eclipse.aether.ConfigurationProperties;
 import org.eclipse.aether.RepositorySystem;
@@ -92,6 +91,7 @@ import org.eclipse.aether.spi.artifact.decorator.ArtifactDecorator;
 import org.eclipse.aether.spi.artifact.decorator.ArtifactDecoratorFactory;
 import org.eclipse.aether.spi.synccontext.SyncContextFactory;
 import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.graph.visitor.DependencyGraphWalker;
 import org.eclipse.aether.util.graph.visitor.LevelOrderDependencyNodeConsumerVisitor;
 import org.eclipse.aether.util.graph.visitor.PostorderDependencyNodeConsumerVisitor;
 import org.eclipse.aether.util.graph.visitor.PreorderDependencyNodeConsumerVisitor;
@@ -381,6 +381,35 @@ public class DefaultRepositorySystem implements RepositorySystem {
         }
     }
 
+    @Override
+    public List<CollectResult> collectDependencies(
+            RepositorySystemSession session, Collection<? extends CollectRequest> requests)
+            throws DependencyCollectionException {
+        requireNonNull(requests, "requests cannot be null");
+        // All requests in a batch share the same trace context, so checking any one is sufficient.
+        RequestTrace firstTrace = requests.stream()
+                .map(CollectRequest::getTrace)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        Runnable exitGuard = null;
+        if (!isReentrant(firstTrace, session)) {
+            validateSession(session);
+            for (CollectRequest request : requests) {
+                repositorySystemValidator.validateCollectRequest(session, request);
+                request.setTrace(stampReentrancyMarker(request.getTrace()));
+            }
+            exitGuard = enterSessionScope(session);
+        }
+        try {
+            return dependencyCollector.collectDependencies(session, requests);
+        } finally {
+            if (exitGuard != null) {
+                exitGuard.run();
+            }
+        }
+    }
+
     @Override
     public DependencyResult resolveDependencies(RepositorySystemSession session, DependencyRequest request)
             throws DependencyResolutionException {
@@ -418,21 +447,24 @@ public class DefaultRepositorySystem implements RepositorySystem {
                 throw new NullPointerException("dependency node and collect request cannot be null");
             }
 
-            final List<DependencyNode> dependencyNodes =
-                    doFlattenDependencyNodes(session, result.getRoot(), request.getFilter());
-
-            final List<ArtifactRequest> requests = dependencyNodes.stream()
-                    .map(n -> {
-                        if (n.getDependency() != null) {
-                            ArtifactRequest artifactRequest = new ArtifactRequest(n);
-                            artifactRequest.setTrace(trace);
-                            return artifactRequest;
-                        } else {
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+            // flatten nodes and create artifact requests in single pass
+            final List<DependencyNode> dependencyNodes = new ArrayList<>();
+            final List<ArtifactRequest> requests = new ArrayList<>();
+            if (result.getRoot() != null) {
+                DependencyGraphWalker.walk(
+                        result.getRoot(),
+                        getDependencyVisitor(
+                                session,
+                                n -> {
+                                    dependencyNodes.add(n);
+                                    if (n.getDependency() != null) {
+                                        ArtifactRequest artifactRequest = new ArtifactRequest(n);
+                                        artifactRequest.setTrace(trace);
+                                        requests.add(artifactRequest);
+                                    }
+                                },
+                                request.getFilter()));
+            }
             List<ArtifactResult> results;
             try {
                 results = artifactResolver.resolveArtifacts(session, requests);
@@ -471,7 +503,7 @@ public class DefaultRepositorySystem implements RepositorySystem {
             RepositorySystemSession session, DependencyNode root, DependencyFilter dependencyFilter) {
         final ArrayList<DependencyNode> dependencyNodes = new ArrayList<>();
         if (root != null) {
-            root.accept(getDependencyVisitor(session, dependencyNodes::add, dependencyFilter));
+            DependencyGraphWalker.walk(root, getDependencyVisitor(session, dependencyNodes::add, dependencyFilter));
         }
         return dependencyNodes;
     }
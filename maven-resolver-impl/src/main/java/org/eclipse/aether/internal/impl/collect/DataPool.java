@@ -18,16 +18,24 @@
  */
 package org.eclipse.aether.internal.impl.collect;
 
+import javax.inject.Named;
+import javax.inject.Singleton;
+
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.eclipse.aether.Keys;
 import org.eclipse.aether.RepositoryCache;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.DependencyCollectionContext;
 import org.eclipse.aether.collection.DependencyManager;
 import org.eclipse.aether.collection.DependencySelector;
 import org.eclipse.aether.collection.DependencyTraverser;
@@ -42,7 +50,9 @@ import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResult;
 import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.concurrency.ConcurrentBoundedCache;
 import org.eclipse.aether.util.concurrency.ConcurrentWeakCache;
+import org.eclipse.aether.util.graph.manager.AbstractDependencyManager;
 import org.eclipse.aether.version.Version;
 import org.eclipse.aether.version.VersionConstraint;
 
@@ -55,7 +65,9 @@ public final class DataPool {
     /**
      * Flag controlling interning data pool type used by dependency collector for Artifact instances, matters for
      * heap consumption. By default, uses “weak” references (consume less heap). Using “hard” will make it much
-     * more memory aggressive and possibly faster (system and Java dependent). Supported values: "hard", "weak".
+     * more memory aggressive and possibly faster (system and Java dependent). Using "bounded" will use hard references,
+     * but keep pool size bounded (see {@link #CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE}). Supported values: "hard",
+     * "weak", "bounded".
      *
      * @since 1.9.5
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
@@ -67,7 +79,9 @@ public final class DataPool {
     /**
      * Flag controlling interning data pool type used by dependency collector for Dependency instances, matters for
      * heap consumption. By default, uses “weak” references (consume less heap). Using “hard” will make it much
-     * more memory aggressive and possibly faster (system and Java dependent). Supported values: "hard", "weak".
+     * more memory aggressive and possibly faster (system and Java dependent). Using "bounded" will use hard references,
+     * but keep pool size bounded (see {@link #CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE}). Supported values: "hard",
+     * "weak", "bounded".
      *
      * @since 1.9.5
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
@@ -79,7 +93,9 @@ public final class DataPool {
     /**
      * Flag controlling interning data pool type used by dependency collector for ArtifactDescriptor (POM) instances,
      * matters for heap consumption. By default, uses “weak” references (consume less heap). Using “hard” will make it
-     * much more memory aggressive and possibly faster (system and Java dependent). Supported values: "hard", "weak".
+     * much more memory aggressive and possibly faster (system and Java dependent). Using "bounded" will use hard
+     * references, but keep pool size bounded (see {@link #CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE}). Supported
+     * values: "hard", "weak", "bounded".
      *
      * @since 1.9.5
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
@@ -91,7 +107,9 @@ public final class DataPool {
     /**
      * Flag controlling interning data pool type used by dependency lists collector for ArtifactDescriptor (POM) instances,
      * matters for heap consumption. By default, uses “weak” references (consume less heap). Using “hard” will make it
-     * much more memory aggressive and possibly faster (system and Java dependent). Supported values: "hard", "weak".
+     * much more memory aggressive and possibly faster (system and Java dependent). Using "bounded" will use hard
+     * references, but keep pool size bounded (see {@link #CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE}). Supported
+     * values: "hard", "weak", "bounded".
      *
      * @since 1.9.22
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
@@ -123,6 +141,55 @@ public final class DataPool {
     public static final String CONFIG_PROP_COLLECTOR_POOL_INTERN_ARTIFACT_DESCRIPTOR_MANAGED_DEPENDENCIES =
             "aether.dependencyCollector.pool.internArtifactDescriptorManagedDependencies";
 
+    /**
+     * The maximum count of entries in interning data pools of type "bounded". Bounded pools use hard references, but
+     * evict least recently and least frequently used entries once the maximum size is reached. They are meant for
+     * long-lived processes, where weak pools cause GC churn and hard pools grow unbounded.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Integer}
+     * @configurationDefaultValue {@link #DEFAULT_COLLECTOR_POOL_BOUNDED_MAX_SIZE}
+     */
+    public static final String CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE = CONFIG_PROPS_PREFIX + "boundedMaxSize";
+
+    public static final int DEFAULT_COLLECTOR_POOL_BOUNDED_MAX_SIZE = 100_000;
+
+    /**
+     * Flag controlling whether Artifact and Dependency interning data pools are shared across all sessions of the
+     * repository system (instead of being bound to session {@link RepositoryCache}). Meant for long-lived processes
+     * (daemons, IDEs, build servers) that run many sessions against same repository system, as interned immutable
+     * instances are reused among them. System scoped pools are always of "bounded" type, and their size is set from
+     * {@link #CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE} of the session that first used them.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Boolean}
+     * @configurationDefaultValue {@link #DEFAULT_COLLECTOR_POOL_SYSTEM_SCOPED}
+     */
+    public static final String CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED = CONFIG_PROPS_PREFIX + "systemScoped";
+
+    public static final boolean DEFAULT_COLLECTOR_POOL_SYSTEM_SCOPED = false;
+
+    /**
+     * Flag controlling whether derivations of {@link DependencySelector}, {@link DependencyManager},
+     * {@link DependencyTraverser} and {@link VersionFilter} instances are memoized and derived instances canonicalized
+     * during single collection. When enabled, derivation of a child instance from same parent instance in same
+     * derivation context (artifact, dependency and managed dependencies) is performed only once, and equal derived
+     * instances are replaced by one canonical instance, so later derivations from them hit the same cache entries and
+     * graph key comparisons are cheaper. Derived managers extending {@link AbstractDependencyManager} are replaced
+     * only if they carry same local path rules as well, as those are left out of their equality. Should be disabled
+     * only if used implementations derive children depending on some other (mutable) state.
+     *
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Boolean}
+     * @configurationDefaultValue {@link #DEFAULT_COLLECTOR_POOL_DERIVATIONS}
+     * @since 2.0.23
+     */
+    public static final String CONFIG_PROP_COLLECTOR_POOL_DERIVATIONS = CONFIG_PROPS_PREFIX + "derivations";
+
+    public static final boolean DEFAULT_COLLECTOR_POOL_DERIVATIONS = true;
+
     private static final Object ARTIFACT_POOL = Keys.of(DataPool.class, "artifact");
 
     private static final Object DEPENDENCY_POOL = Keys.of(DataPool.class, "dependency");
@@ -155,7 +222,8 @@ public final class DataPool {
     private final InternPool<List<Dependency>, List<Dependency>> dependencyLists;
 
     /**
-     * Constraint cache, lives during single collection invocation (same as this DataPool instance).
+     * Constraint cache, lives during single collection invocation (same as this DataPool instance), or is shared with
+     * sibling pools.
      */
     private final ConcurrentHashMap<Object, Constraint> constraints;
 
@@ -164,12 +232,58 @@ public final class DataPool {
      */
     private final ConcurrentHashMap<Object, List<DependencyNode>> nodes;
 
+    /**
+     * Last missed graph key per artifact, used to tell which component caused graph key miss, lives during single
+     * collection invocation (same as this DataPool instance), is {@code null} if misses are not attributed.
+     */
+    private final ConcurrentHashMap<Artifact, GraphKey> lastGraphKeys;
+
+    private final LongAdder graphKeyHits;
+
+    private final LongAdder graphKeyMisses;
+
+    private final ConcurrentHashMap<String, LongAdder> graphKeyMissCauses;
+
+    /**
+     * Derivation cache, lives during single collection invocation (same as this DataPool instance), is {@code null}
+     * if derivations are not memoized.
+     */
+    private final ConcurrentHashMap<DerivationKey, Object> derivations;
+
+    /**
+     * Canonical derived instances, lives during single collection invocation (same as this DataPool instance), is
+     * {@code null} if derivations are not memoized.
+     */
+    private final ConcurrentHashMap<CanonicalKey, Object> canonicals;
+
     private final boolean internArtifactDescriptorDependencies;
 
     private final boolean internArtifactDescriptorManagedDependencies;
 
-    @SuppressWarnings("unchecked")
     public DataPool(RepositorySystemSession session) {
+        this(session, null);
+    }
+
+    /**
+     * Creates data pool that uses passed in system scoped pools for Artifact and Dependency interning, if enabled
+     * by {@link #CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED}.
+     *
+     * @since 2.0.23
+     */
+    public DataPool(RepositorySystemSession session, SystemPools systemPools) {
+        this(session, systemPools, false);
+    }
+
+    /**
+     * Creates data pool that uses passed in system scoped pools for Artifact and Dependency interning, if enabled
+     * by {@link #CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED}, and attributes graph key misses to their causes if
+     * {@code attributeMisses} is {@code true}. Attribution costs a map update and key comparison per miss, hence
+     * should be enabled only if statistics are reported.
+     *
+     * @since 2.0.23
+     */
+    @SuppressWarnings("unchecked")
+    public DataPool(RepositorySystemSession session, SystemPools systemPools, boolean attributeMisses) {
         final RepositoryCache cache = session.getCache();
 
         internArtifactDescriptorDependencies = ConfigUtils.getBoolean(
@@ -181,30 +295,30 @@ public final class DataPool {
         InternPool<Dependency, Dependency> dependenciesPool;
         InternPool<DescriptorKey, Descriptor> descriptorsPool;
         InternPool<List<Dependency>, List<Dependency>> dependencyListsPool;
-        if (cache != null) {
+        if (systemPools != null
+                && ConfigUtils.getBoolean(
+                        session, DEFAULT_COLLECTOR_POOL_SYSTEM_SCOPED, CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED)) {
+            artifactsPool = systemPools.artifacts(session);
+            dependenciesPool = systemPools.dependencies(session);
+        } else if (cache != null) {
             artifactsPool = (InternPool<Artifact, Artifact>) cache.computeIfAbsent(
-                    session,
-                    ARTIFACT_POOL,
-                    () -> createPool(ConfigUtils.getString(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_ARTIFACT)));
+                    session, ARTIFACT_POOL, () -> createPool(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_ARTIFACT));
             dependenciesPool = (InternPool<Dependency, Dependency>) cache.computeIfAbsent(
-                    session,
-                    DEPENDENCY_POOL,
-                    () -> createPool(ConfigUtils.getString(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY)));
+                    session, DEPENDENCY_POOL, () -> createPool(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY));
+        } else {
+            artifactsPool = createPool(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_ARTIFACT);
+            dependenciesPool = createPool(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY);
+        }
+        if (cache != null) {
             descriptorsPool = (InternPool<DescriptorKey, Descriptor>) cache.computeIfAbsent(
-                    session,
-                    DESCRIPTORS,
-                    () -> createPool(ConfigUtils.getString(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DESCRIPTOR)));
+                    session, DESCRIPTORS, () -> createPool(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DESCRIPTOR));
             dependencyListsPool = (InternPool<List<Dependency>, List<Dependency>>) cache.computeIfAbsent(
                     session,
                     DEPENDENCY_LISTS_POOL,
-                    () -> createPool(
-                            ConfigUtils.getString(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY_LISTS)));
+                    () -> createPool(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY_LISTS));
         } else {
-            artifactsPool = createPool(ConfigUtils.getString(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_ARTIFACT));
-            dependenciesPool = createPool(ConfigUtils.getString(session, WEAK, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY));
-            descriptorsPool = createPool(ConfigUtils.getString(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DESCRIPTOR));
-            dependencyListsPool =
-                    createPool(ConfigUtils.getString(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY_LISTS));
+            descriptorsPool = createPool(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DESCRIPTOR);
+            dependencyListsPool = createPool(session, HARD, CONFIG_PROP_COLLECTOR_POOL_DEPENDENCY_LISTS);
         }
 
         this.artifacts = artifactsPool;
@@ -214,6 +328,47 @@ public final class DataPool {
 
         this.constraints = new ConcurrentHashMap<>(256);
         this.nodes = new ConcurrentHashMap<>(256);
+        this.lastGraphKeys = attributeMisses ? new ConcurrentHashMap<>(256) : null;
+        this.graphKeyHits = new LongAdder();
+        this.graphKeyMisses = new LongAdder();
+        this.graphKeyMissCauses = new ConcurrentHashMap<>();
+        if (ConfigUtils.getBoolean(
+                session, DEFAULT_COLLECTOR_POOL_DERIVATIONS, CONFIG_PROP_COLLECTOR_POOL_DERIVATIONS)) {
+            this.derivations = new ConcurrentHashMap<>(256);
+            this.canonicals = new ConcurrentHashMap<>(256);
+        } else {
+            this.derivations = null;
+            this.canonicals = null;
+        }
+    }
+
+    /**
+     * Creates sibling data pool, used for collecting several requests at once. The sibling shares interning pools,
+     * version constraints and derivations with this pool, but has its own dependency node cache (as collected graphs
+     * are transformed independently) and its own graph key statistics.
+     *
+     * @since 2.0.23
+     */
+    public DataPool newSibling() {
+        return new DataPool(this);
+    }
+
+    private DataPool(DataPool shared) {
+        this.internArtifactDescriptorDependencies = shared.internArtifactDescriptorDependencies;
+        this.internArtifactDescriptorManagedDependencies = shared.internArtifactDescriptorManagedDependencies;
+        this.artifacts = shared.artifacts;
+        this.dependencies = shared.dependencies;
+        this.descriptors = shared.descriptors;
+        this.dependencyLists = shared.dependencyLists;
+        this.constraints = shared.constraints;
+        this.derivations = shared.derivations;
+        this.canonicals = shared.canonicals;
+
+        this.nodes = new ConcurrentHashMap<>(256);
+        this.lastGraphKeys = shared.lastGraphKeys != null ? new ConcurrentHashMap<>(256) : null;
+        this.graphKeyHits = new LongAdder();
+        this.graphKeyMisses = new LongAdder();
+        this.graphKeyMissCauses = new ConcurrentHashMap<>();
     }
 
     public Artifact intern(Artifact artifact) {
@@ -280,14 +435,109 @@ public final class DataPool {
         return new GraphKey(artifact, repositories, selector, manager, traverser, filter);
     }
 
+    public DependencySelector deriveChildSelector(DependencySelector parent, DependencyCollectionContext context) {
+        return parent != null ? derive(parent, context, parent::deriveChildSelector) : null;
+    }
+
+    public DependencyManager deriveChildManager(DependencyManager parent, DependencyCollectionContext context) {
+        return parent != null ? derive(parent, context, parent::deriveChildManager) : null;
+    }
+
+    public DependencyTraverser deriveChildTraverser(DependencyTraverser parent, DependencyCollectionContext context) {
+        return parent != null ? derive(parent, context, parent::deriveChildTraverser) : null;
+    }
+
+    public VersionFilter deriveChildFilter(VersionFilter parent, DependencyCollectionContext context) {
+        return parent != null ? derive(parent, context, parent::deriveChildFilter) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T derive(T parent, DependencyCollectionContext context, Function<DependencyCollectionContext, T> fn) {
+        if (derivations == null) {
+            return fn.apply(context);
+        }
+        if (parent instanceof AbstractDependencyManager) {
+            // managers memoize their derivations themselves
+            return canonical(parent, fn.apply(context));
+        }
+        DerivationKey key = new DerivationKey(parent, context);
+        Object child = derivations.get(key);
+        if (child == null) {
+            child = canonical(parent, fn.apply(context));
+            if (child == null) {
+                child = NULL_DERIVATION;
+            }
+            Object existing = derivations.putIfAbsent(key, child);
+            if (existing != null) {
+                child = existing;
+            }
+        }
+        return child != NULL_DERIVATION ? (T) child : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T canonical(T parent, T child) {
+        if (child == null || child == parent) {
+            return child;
+        }
+        Object existing = canonicals.putIfAbsent(new CanonicalKey(child), child);
+        return existing != null ? (T) existing : child;
+    }
+
+    /**
+     * Returns children of a subtree stored in this pool, counting the lookup as graph key hit or miss. If misses are
+     * attributed, the miss is attributed to the first key component that differs from the key missed last for same
+     * artifact, or to "artifact" if the artifact was not seen before.
+     */
     public List<DependencyNode> getChildren(Object key) {
-        return nodes.get(key);
+        List<DependencyNode> children = nodes.get(key);
+        if (children != null) {
+            graphKeyHits.increment();
+        } else {
+            graphKeyMisses.increment();
+            if (lastGraphKeys != null && key instanceof GraphKey) {
+                GraphKey graphKey = (GraphKey) key;
+                GraphKey previous = lastGraphKeys.put(graphKey.artifact, graphKey);
+                graphKeyMissCauses
+                        .computeIfAbsent(graphKey.missCause(previous), k -> new LongAdder())
+                        .increment();
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Returns children of a subtree stored in this pool like {@link #getChildren(Object)} does, but counts hits only:
+     * a speculative miss is expected to be followed by a lookup using the actual key.
+     *
+     * @since 2.0.23
+     */
+    public List<DependencyNode> getChildrenSpeculatively(Object key) {
+        List<DependencyNode> children = nodes.get(key);
+        if (children != null) {
+            graphKeyHits.increment();
+        }
+        return children;
     }
 
     public void putChildren(Object key, List<DependencyNode> children) {
         nodes.put(key, children);
     }
 
+    /**
+     * Adds statistics of this pool to passed in map: graph key hit and miss counts, and miss counts per cause if
+     * misses are attributed.
+     *
+     * @since 2.0.23
+     */
+    public void addStats(Map<String, Object> stats) {
+        String prefix = DataPool.class.getSimpleName() + ".";
+        stats.put(prefix + "graphKeyHits", graphKeyHits.sum());
+        stats.put(prefix + "graphKeyMisses", graphKeyMisses.sum());
+        new TreeMap<>(graphKeyMissCauses)
+                .forEach((cause, count) -> stats.put(prefix + "graphKeyMissCause." + cause, count.sum()));
+    }
+
     public static final class DescriptorKey {
         private final Artifact artifact;
         private final int hashCode;
@@ -463,6 +713,93 @@ public final class DataPool {
         }
     }
 
+    private static final Object NULL_DERIVATION = new Object();
+
+    /**
+     * Key of a derivation: the parent instance (by identity) and the derivation context. Managed dependencies are
+     * compared by identity as well, as these lists come from (cached) artifact descriptors, and comparing them by
+     * equality would cost more than the derivation itself.
+     */
+    static final class DerivationKey {
+        private final Object parent;
+
+        private final Artifact artifact;
+
+        private final Dependency dependency;
+
+        private final List<Dependency> managedDependencies;
+
+        private final int hashCode;
+
+        DerivationKey(Object parent, DependencyCollectionContext context) {
+            this.parent = parent;
+            this.artifact = context.getArtifact();
+            this.dependency = context.getDependency();
+            this.managedDependencies = context.getManagedDependencies();
+
+            int hash = System.identityHashCode(parent);
+            hash = hash * 31 + Objects.hashCode(artifact);
+            hash = hash * 31 + Objects.hashCode(dependency);
+            hash = hash * 31 + System.identityHashCode(managedDependencies);
+            this.hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            } else if (!(obj instanceof DerivationKey)) {
+                return false;
+            }
+            DerivationKey that = (DerivationKey) obj;
+            return parent == that.parent
+                    && managedDependencies == that.managedDependencies
+                    && Objects.equals(artifact, that.artifact)
+                    && Objects.equals(dependency, that.dependency);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Key of canonical derived instance: equal instances share the key, except managers carrying different local path
+     * rules, as those are left out of manager equality.
+     */
+    static final class CanonicalKey {
+        private final Object instance;
+
+        CanonicalKey(Object instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            } else if (!(obj instanceof CanonicalKey)) {
+                return false;
+            }
+            CanonicalKey that = (CanonicalKey) obj;
+            if (instance == that.instance) {
+                return true;
+            } else if (!instance.equals(that.instance)) {
+                return false;
+            } else if (instance instanceof AbstractDependencyManager) {
+                return ((AbstractDependencyManager) instance)
+                        .hasSameLocalPaths((AbstractDependencyManager) that.instance);
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return instance.hashCode();
+        }
+    }
+
     static final class GraphKey {
         private final Artifact artifact;
 
@@ -515,22 +852,96 @@ public final class DataPool {
         public int hashCode() {
             return hashCode;
         }
+
+        /**
+         * Returns the name of first component that differs from passed in key of same artifact.
+         */
+        String missCause(GraphKey previous) {
+            if (previous == null) {
+                return "artifact";
+            } else if (!Objects.equals(repositories, previous.repositories)) {
+                return "repositories";
+            } else if (!Objects.equals(selector, previous.selector)) {
+                return "selector";
+            } else if (!Objects.equals(manager, previous.manager)) {
+                return "manager";
+            } else if (!Objects.equals(traverser, previous.traverser)) {
+                return "traverser";
+            } else if (!Objects.equals(filter, previous.filter)) {
+                return "filter";
+            }
+            return "none";
+        }
     }
 
-    private static <K, V> InternPool<K, V> createPool(String type) {
+    private static <K, V> InternPool<K, V> createPool(
+            RepositorySystemSession session, String defaultType, String configProperty) {
+        String type = ConfigUtils.getString(session, defaultType, configProperty);
         if (HARD.equals(type)) {
             return new HardInternPool<>();
         } else if (WEAK.equals(type)) {
             return new WeakInternPool<>();
+        } else if (BOUNDED.equals(type)) {
+            return new BoundedInternPool<>(boundedMaxSize(session));
         } else {
             throw new IllegalArgumentException("Unknown object pool type: '" + type + "'");
         }
     }
 
+    private static int boundedMaxSize(RepositorySystemSession session) {
+        return ConfigUtils.getInteger(
+                session, DEFAULT_COLLECTOR_POOL_BOUNDED_MAX_SIZE, CONFIG_PROP_COLLECTOR_POOL_BOUNDED_MAX_SIZE);
+    }
+
     public static final String HARD = "hard";
 
     public static final String WEAK = "weak";
 
+    public static final String BOUNDED = "bounded";
+
+    /**
+     * Artifact and Dependency interning pools, a singleton component living as long as the repository system itself,
+     * and shared by all sessions and all dependency collector implementations using it. Pools are bounded, to not
+     * grow unbounded in long-lived processes, and are lazily created on first use.
+     *
+     * @since 2.0.23
+     */
+    @Singleton
+    @Named
+    public static final class SystemPools {
+        private volatile InternPool<Artifact, Artifact> artifacts;
+
+        private volatile InternPool<Dependency, Dependency> dependencies;
+
+        private InternPool<Artifact, Artifact> artifacts(RepositorySystemSession session) {
+            InternPool<Artifact, Artifact> result = artifacts;
+            if (result == null) {
+                synchronized (this) {
+                    result = artifacts;
+                    if (result == null) {
+                        result = new BoundedInternPool<>(boundedMaxSize(session));
+                        artifacts = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private InternPool<Dependency, Dependency> dependencies(RepositorySystemSession session) {
+            InternPool<Dependency, Dependency> result = dependencies;
+            if (result == null) {
+                synchronized (this) {
+                    result = dependencies;
+                    if (result == null) {
+                        result = new BoundedInternPool<>(boundedMaxSize(session));
+                        dependencies = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
     private interface InternPool<K, V> {
         V get(K key);
 
@@ -571,4 +982,26 @@ public final class DataPool {
             return cache.putIfAbsent(key, value);
         }
     }
+
+    /**
+     * Intern pool backed by ConcurrentBoundedCache with hard references and bounded size.
+     * Lock-free reads, CLOCK eviction with frequency based admission once maximum size is reached.
+     */
+    private static class BoundedInternPool<K, V> implements InternPool<K, V> {
+        private final ConcurrentBoundedCache<K, V> cache;
+
+        private BoundedInternPool(int maximumSize) {
+            this.cache = new ConcurrentBoundedCache<>(maximumSize);
+        }
+
+        @Override
+        public V get(K key) {
+            return cache.get(key);
+        }
+
+        @Override
+        public V intern(K key, V value) {
+            return cache.putIfAbsent(key, value);
+        }
+    }
 }
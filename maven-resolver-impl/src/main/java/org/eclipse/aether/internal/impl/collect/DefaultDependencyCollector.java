@@ -22,6 +22,8 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.aether.ConfigurationProperties;
@@ -70,12 +72,29 @@ public class DefaultDependencyCollector implements DependencyCollector {
     @Override
     public CollectResult collectDependencies(RepositorySystemSession session, CollectRequest request)
             throws DependencyCollectionException {
+        return getDelegate(session).collectDependencies(session, request);
+    }
+
+    /**
+     * Collects several requests at once, see
+     * {@link DependencyCollectorDelegate#collectDependencies(RepositorySystemSession, Collection)}.
+     *
+     * @since 2.0.23
+     */
+    @Override
+    public List<CollectResult> collectDependencies(
+            RepositorySystemSession session, Collection<? extends CollectRequest> requests)
+            throws DependencyCollectionException {
+        return getDelegate(session).collectDependencies(session, requests);
+    }
+
+    private DependencyCollectorDelegate getDelegate(RepositorySystemSession session) {
         String delegateName = ConfigUtils.getString(session, DEFAULT_COLLECTOR_IMPL, CONFIG_PROP_COLLECTOR_IMPL);
         DependencyCollectorDelegate delegate = delegates.get(delegateName);
         if (delegate == null) {
             throw new IllegalArgumentException(
                     "Unknown collector impl: '" + delegateName + "', known implementations are " + delegates.keySet());
         }
-        return delegate.collectDependencies(session, request);
+        return delegate;
     }
 }
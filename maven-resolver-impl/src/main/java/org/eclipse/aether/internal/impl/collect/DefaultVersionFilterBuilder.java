@@ -42,6 +42,7 @@ import org.eclipse.aether.util.graph.version.LowestVersionFilter;
 import org.eclipse.aether.util.graph.version.ReleaseVersionFilter;
 import org.eclipse.aether.util.graph.version.SnapshotVersionFilter;
 import org.eclipse.aether.util.graph.version.VersionPredicateVersionFilter;
+import org.eclipse.aether.util.graph.version.VersionRangeVersionFilter;
 import org.eclipse.aether.version.VersionConstraint;
 
 import static java.util.Objects.requireNonNull;
@@ -144,6 +145,9 @@ public class DefaultVersionFilterBuilder implements VersionFilterBuilder {
                     if (expression.startsWith("e(")) {
                         // exclude
                         filter = new VersionPredicateVersionFilter(v -> !versionConstraint.containsVersion(v));
+                    } else if (versionConstraint.getRange() != null) {
+                        // include range: narrowed by bisection
+                        filter = new VersionRangeVersionFilter(versionConstraint.getRange());
                     } else {
                         // include
                         filter = new VersionPredicateVersionFilter(versionConstraint::containsVersion);
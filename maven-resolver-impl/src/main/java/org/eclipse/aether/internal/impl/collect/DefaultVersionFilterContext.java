@@ -119,6 +119,21 @@ public final class DefaultVersionFilterContext implements VersionFilter.VersionF
         return versions.iterator();
     }
 
+    @Override
+    public List<Version> getVersions() {
+        return Collections.unmodifiableList(versions);
+    }
+
+    @Override
+    public void retain(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > versions.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex=" + fromIndex + ", toIndex=" + toIndex + ", count=" + versions.size());
+        }
+        versions.subList(toIndex, versions.size()).clear();
+        versions.subList(0, fromIndex).clear();
+    }
+
     @Override
     public String toString() {
         return dependency + " " + result.getVersions();
@@ -22,9 +22,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.aether.DefaultRepositorySystemSession;
@@ -61,6 +64,8 @@ import org.eclipse.aether.scope.SystemDependencyScope;
 import org.eclipse.aether.spi.artifact.decorator.ArtifactDecorator;
 import org.eclipse.aether.spi.artifact.decorator.ArtifactDecoratorFactory;
 import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.concurrency.SmartExecutor;
+import org.eclipse.aether.util.concurrency.SmartExecutorUtils;
 import org.eclipse.aether.util.graph.transformer.TransformationContextKeys;
 import org.eclipse.aether.version.Version;
 import org.slf4j.Logger;
@@ -111,6 +116,21 @@ public abstract class DependencyCollectorDelegate implements DependencyCollector
 
     public static final int DEFAULT_MAX_RUNS = 5;
 
+    /**
+     * The count of threads to be used when collecting several requests in a batch, see
+     * {@link #collectDependencies(RepositorySystemSession, Collection)}. Value 1 makes batch requests collected one
+     * by one, in caller thread.
+     *
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Integer}
+     * @configurationDefaultValue {@link #DEFAULT_BATCH_THREADS}
+     * @since 2.0.23
+     */
+    public static final String CONFIG_PROP_BATCH_THREADS =
+            DefaultDependencyCollector.CONFIG_PROPS_PREFIX + "batchThreads";
+
+    public static final int DEFAULT_BATCH_THREADS = 4;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     protected final RemoteRepositoryManager remoteRepositoryManager;
@@ -121,26 +141,118 @@ public abstract class DependencyCollectorDelegate implements DependencyCollector
 
     protected final Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories;
 
+    /**
+     * Artifact and Dependency interning pools shared by all sessions and all collector implementations. Used only if
+     * enabled by {@link DataPool#CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED}.
+     */
+    private final DataPool.SystemPools systemPools;
+
     protected DependencyCollectorDelegate(
             RemoteRepositoryManager remoteRepositoryManager,
             ArtifactDescriptorReader artifactDescriptorReader,
             VersionRangeResolver versionRangeResolver,
-            Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories) {
+            Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories,
+            DataPool.SystemPools systemPools) {
         this.remoteRepositoryManager =
                 requireNonNull(remoteRepositoryManager, "remote repository manager cannot be null");
         this.descriptorReader = requireNonNull(artifactDescriptorReader, "artifact descriptor reader cannot be null");
         this.versionRangeResolver = requireNonNull(versionRangeResolver, "version range resolver cannot be null");
         this.artifactDecoratorFactories =
                 requireNonNull(artifactDecoratorFactories, "artifact decorator factories cannot be null");
+        this.systemPools = requireNonNull(systemPools, "system pools cannot be null");
     }
 
-    @SuppressWarnings("checkstyle:methodlength")
     @Override
     public final CollectResult collectDependencies(
             final RepositorySystemSession originalSession, final CollectRequest request)
             throws DependencyCollectionException {
         requireNonNull(originalSession, "session cannot be null");
         requireNonNull(request, "request cannot be null");
+        return collectDependencies(originalSession, request, null);
+    }
+
+    /**
+     * Collects passed in requests concurrently. Requests of the batch share a {@link DataPool}: version range results
+     * and derived selectors, managers, traversers and filters are reused across requests, while cached dependency
+     * nodes are not, as graphs of each result are transformed independently. Descriptor resolution of all requests
+     * uses the session bound executor, as it does for single requests.
+     * <p>
+     * All requests are collected, even if some of them fail. Results are returned in the same order as requests. The
+     * failure of the first failed request is thrown, while failures of subsequent failed requests are added to it as
+     * suppressed exceptions.
+     *
+     * @since 2.0.23
+     */
+    @Override
+    public final List<CollectResult> collectDependencies(
+            final RepositorySystemSession session, final Collection<? extends CollectRequest> requests)
+            throws DependencyCollectionException {
+        requireNonNull(session, "session cannot be null");
+        requireNonNull(requests, "requests cannot be null");
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final DataPool batchPool = new DataPool(session, systemPools, logger.isDebugEnabled());
+        final List<Future<CollectResult>> futures = new ArrayList<>(requests.size());
+        try (SmartExecutor executor = SmartExecutorUtils.smartExecutor(
+                session,
+                requests.size(),
+                ConfigUtils.getInteger(session, DEFAULT_BATCH_THREADS, CONFIG_PROP_BATCH_THREADS),
+                getClass().getSimpleName() + "-batch-")) {
+            for (CollectRequest request : requests) {
+                requireNonNull(request, "request cannot be null");
+                futures.add(executor.submit(() -> collectDependencies(session, request, batchPool)));
+            }
+
+            List<CollectResult> results = new ArrayList<>(requests.size());
+            Throwable failure = null;
+            Iterator<? extends CollectRequest> requestIterator = requests.iterator();
+            for (Future<CollectResult> future : futures) {
+                CollectRequest request = requestIterator.next();
+                Throwable exception;
+                try {
+                    results.add(future.get());
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    exception = new DependencyCollectionException(
+                            new CollectResult(request), "Collection interrupted", e);
+                } catch (ExecutionException e) {
+                    exception = e.getCause();
+                    if (!(exception instanceof DependencyCollectionException)
+                            && !(exception instanceof RuntimeException)
+                            && !(exception instanceof Error)) {
+                        exception = new DependencyCollectionException(
+                                new CollectResult(request), exception.getMessage(), exception);
+                    }
+                }
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+            if (failure instanceof DependencyCollectionException) {
+                throw (DependencyCollectionException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure != null) {
+                throw (Error) failure;
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Collects single request. If {@code batchPool} is not {@code null}, the first collection run uses data pool
+     * sharing data with it, while subsequent runs (if any, requested by {@link DependencyCollectionChecker}) use
+     * private data pools, as they happen with differently prepared session.
+     */
+    @SuppressWarnings("checkstyle:methodlength")
+    private CollectResult collectDependencies(
+            final RepositorySystemSession originalSession, final CollectRequest request, final DataPool batchPool)
+            throws DependencyCollectionException {
 
         final InternalScopeManager scopeManager = (InternalScopeManager) originalSession.getScopeManager();
         final RepositorySystemSession setUpSession = setUpSession(originalSession, request, scopeManager);
@@ -248,7 +360,9 @@ public abstract class DependencyCollectorDelegate implements DependencyCollector
             boolean traverse = root == null || depTraverser == null || depTraverser.traverseDependency(root);
             String errorPath = null;
             if (traverse && !dependencies.isEmpty()) {
-                DataPool pool = new DataPool(session);
+                DataPool pool = batchPool != null && runs.get() == 1
+                        ? batchPool.newSibling()
+                        : new DataPool(session, systemPools, logger.isDebugEnabled());
 
                 DefaultDependencyCollectionContext context = new DefaultDependencyCollectionContext(
                         session, request.getRootArtifact(), root, managedDependencies);
@@ -270,6 +384,7 @@ public abstract class DependencyCollectorDelegate implements DependencyCollector
                         managedDependencies,
                         results);
 
+                pool.addStats(stats);
                 errorPath = results.getErrorPath();
             }
 
@@ -138,8 +138,14 @@ public class BfDependencyCollector extends DependencyCollectorDelegate {
             RemoteRepositoryManager remoteRepositoryManager,
             ArtifactDescriptorReader artifactDescriptorReader,
             VersionRangeResolver versionRangeResolver,
-            Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories) {
-        super(remoteRepositoryManager, artifactDescriptorReader, versionRangeResolver, artifactDecoratorFactories);
+            Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories,
+            DataPool.SystemPools systemPools) {
+        super(
+                remoteRepositoryManager,
+                artifactDescriptorReader,
+                versionRangeResolver,
+                artifactDecoratorFactories,
+                systemPools);
     }
 
     @SuppressWarnings("checkstyle:parameternumber")
@@ -182,18 +188,11 @@ public class BfDependencyCollector extends DependencyCollectorDelegate {
                                 getClass().getSimpleName() + "-"))) {
             Args args = new Args(session, pool, context, versionContext, request, skipper, parallelDescriptorResolver);
 
-            DependencySelector rootDepSelector = session.getDependencySelector() != null
-                    ? session.getDependencySelector().deriveChildSelector(context)
-                    : null;
-            DependencyManager rootDepManager = session.getDependencyManager() != null
-                    ? session.getDependencyManager().deriveChildManager(context)
-                    : null;
-            DependencyTraverser rootDepTraverser = session.getDependencyTraverser() != null
-                    ? session.getDependencyTraverser().deriveChildTraverser(context)
-                    : null;
-            VersionFilter rootVerFilter = session.getVersionFilter() != null
-                    ? session.getVersionFilter().deriveChildFilter(context)
-                    : null;
+            DependencySelector rootDepSelector = pool.deriveChildSelector(session.getDependencySelector(), context);
+            DependencyManager rootDepManager = pool.deriveChildManager(session.getDependencyManager(), context);
+            DependencyTraverser rootDepTraverser =
+                    pool.deriveChildTraverser(session.getDependencyTraverser(), context);
+            VersionFilter rootVerFilter = pool.deriveChildFilter(session.getVersionFilter(), context);
 
             List<DependencyNode> parents = Collections.singletonList(node);
             for (Dependency dependency : dependencies) {
@@ -375,12 +374,9 @@ public class BfDependencyCollector extends DependencyCollectorDelegate {
                 context, context.set(parentContext.dependency, descriptorResult.getManagedDependencies()));
         context = args.collectionContext.get();
 
-        DependencySelector childSelector =
-                parentContext.depSelector != null ? parentContext.depSelector.deriveChildSelector(context) : null;
-        DependencyTraverser childTraverser =
-                parentContext.depTraverser != null ? parentContext.depTraverser.deriveChildTraverser(context) : null;
-        VersionFilter childFilter =
-                parentContext.verFilter != null ? parentContext.verFilter.deriveChildFilter(context) : null;
+        DependencySelector childSelector = args.pool.deriveChildSelector(parentContext.depSelector, context);
+        DependencyTraverser childTraverser = args.pool.deriveChildTraverser(parentContext.depTraverser, context);
+        VersionFilter childFilter = args.pool.deriveChildFilter(parentContext.verFilter, context);
 
         final List<RemoteRepository> childRepos = args.ignoreRepos
                 ? parentContext.repositories
@@ -399,19 +395,18 @@ public class BfDependencyCollector extends DependencyCollectorDelegate {
                 parentContext.depManager,
                 childTraverser,
                 childFilter);
-        List<DependencyNode> children = args.pool.getChildren(speculativeKey);
+        List<DependencyNode> children = args.pool.getChildrenSpeculatively(speculativeKey);
         if (children != null) {
             child.setChildren(children);
             return;
         }
 
         // Speculative miss — compute the actual derived manager
-        DependencyManager childManager =
-                parentContext.depManager != null ? parentContext.depManager.deriveChildManager(context) : null;
+        DependencyManager childManager = args.pool.deriveChildManager(parentContext.depManager, context);
 
         Object key;
         if (childManager == parentContext.depManager) {
-            // Manager unchanged — speculative key was correct, already checked and missed
+            // Manager unchanged — speculative key was correct, lookup again only to count the miss
             key = speculativeKey;
         } else {
             // Manager changed — recompute key and check pool again with the correct manager
@@ -422,11 +417,11 @@ public class BfDependencyCollector extends DependencyCollectorDelegate {
                     childManager,
                     childTraverser,
                     childFilter);
-            children = args.pool.getChildren(key);
-            if (children != null) {
-                child.setChildren(children);
-                return;
-            }
+        }
+        children = args.pool.getChildren(key);
+        if (children != null) {
+            child.setChildren(children);
+            return;
         }
 
         // True cache miss — do full resolution
@@ -75,8 +75,14 @@ public class DfDependencyCollector extends DependencyCollectorDelegate {
             RemoteRepositoryManager remoteRepositoryManager,
             ArtifactDescriptorReader artifactDescriptorReader,
             VersionRangeResolver versionRangeResolver,
-            Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories) {
-        super(remoteRepositoryManager, artifactDescriptorReader, versionRangeResolver, artifactDecoratorFactories);
+            Map<String, ArtifactDecoratorFactory> artifactDecoratorFactories,
+            DataPool.SystemPools systemPools) {
+        super(
+                remoteRepositoryManager,
+                artifactDescriptorReader,
+                versionRangeResolver,
+                artifactDecoratorFactories,
+                systemPools);
     }
 
     @SuppressWarnings("checkstyle:parameternumber")
@@ -105,16 +111,10 @@ public class DfDependencyCollector extends DependencyCollectorDelegate {
                 results,
                 dependencies,
                 repositories,
-                session.getDependencySelector() != null
-                        ? session.getDependencySelector().deriveChildSelector(context)
-                        : null,
-                session.getDependencyManager() != null
-                        ? session.getDependencyManager().deriveChildManager(context)
-                        : null,
-                session.getDependencyTraverser() != null
-                        ? session.getDependencyTraverser().deriveChildTraverser(context)
-                        : null,
-                session.getVersionFilter() != null ? session.getVersionFilter().deriveChildFilter(context) : null);
+                pool.deriveChildSelector(session.getDependencySelector(), context),
+                pool.deriveChildManager(session.getDependencyManager(), context),
+                pool.deriveChildTraverser(session.getDependencyTraverser(), context),
+                pool.deriveChildFilter(session.getVersionFilter(), context));
 
         if (args.interruptedException.get() != null) {
             throw new DependencyCollectionException(
@@ -327,10 +327,10 @@ public class DfDependencyCollector extends DependencyCollectorDelegate {
         args.collectionContext.compareAndSet(context, context.set(d, descriptorResult.getManagedDependencies()));
         context = args.collectionContext.get();
 
-        DependencySelector childSelector = depSelector != null ? depSelector.deriveChildSelector(context) : null;
-        DependencyManager childManager = depManager != null ? depManager.deriveChildManager(context) : null;
-        DependencyTraverser childTraverser = depTraverser != null ? depTraverser.deriveChildTraverser(context) : null;
-        VersionFilter childFilter = verFilter != null ? verFilter.deriveChildFilter(context) : null;
+        DependencySelector childSelector = args.pool.deriveChildSelector(depSelector, context);
+        DependencyManager childManager = args.pool.deriveChildManager(depManager, context);
+        DependencyTraverser childTraverser = args.pool.deriveChildTraverser(depTraverser, context);
+        VersionFilter childFilter = args.pool.deriveChildFilter(verFilter, context);
 
         final List<RemoteRepository> childRepos = args.ignoreRepos
                 ? repositories
@@ -52,6 +52,7 @@ import org.eclipse.aether.spi.io.PathProcessor;
 import org.eclipse.aether.spi.remoterepo.RepositoryKeyFunctionFactory;
 import org.eclipse.aether.spi.resolution.ArtifactResolverPostProcessor;
 import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.ConfigView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -167,6 +168,19 @@ public final class GroupIdRemoteRepositoryFilterSource extends RemoteRepositoryF
 
     static final String GROUP_ID_FILE_SUFFIX = ".txt";
 
+    private static final ConfigView.Key<Boolean> ENABLED = ConfigView.booleanKey(DEFAULT_ENABLED, CONFIG_PROP_ENABLED);
+
+    private static final ConfigView.Key<Boolean> SKIPPED = ConfigView.booleanKey(DEFAULT_SKIPPED, CONFIG_PROP_SKIPPED);
+
+    private static final ConfigView.Key<Boolean> REPOSITORY_ENABLED =
+            ConfigView.booleanKey(DEFAULT_ENABLED, CONFIG_PROP_ENABLED + ".*").withRepositoryKey(CONFIG_PROP_ENABLED);
+
+    private static final ConfigView.Key<Boolean> REPOSITORY_SKIPPED =
+            ConfigView.booleanKey(DEFAULT_SKIPPED, CONFIG_PROP_SKIPPED + ".*").withRepositoryKey(CONFIG_PROP_SKIPPED);
+
+    private static final ConfigView.Key<Boolean> NO_INPUT_OUTCOME =
+            ConfigView.booleanKey(DEFAULT_NO_INPUT_OUTCOME, CONFIG_PROP_NO_INPUT_OUTCOME);
+
     private final Logger logger = LoggerFactory.getLogger(GroupIdRemoteRepositoryFilterSource.class);
 
     private final RepositorySystemLifecycle repositorySystemLifecycle;
@@ -216,22 +230,15 @@ public final class GroupIdRemoteRepositoryFilterSource extends RemoteRepositoryF
 
     @Override
     protected boolean isEnabled(RepositorySystemSession session) {
-        return ConfigUtils.getBoolean(session, DEFAULT_ENABLED, CONFIG_PROP_ENABLED)
-                && !ConfigUtils.getBoolean(session, DEFAULT_SKIPPED, CONFIG_PROP_SKIPPED);
+        ConfigView config = ConfigView.of(session);
+        return config.get(ENABLED) && !config.get(SKIPPED);
     }
 
     private boolean isRepositoryFilteringEnabled(RepositorySystemSession session, RemoteRepository remoteRepository) {
         if (isEnabled(session)) {
-            return ConfigUtils.getBoolean(
-                            session,
-                            DEFAULT_ENABLED,
-                            CONFIG_PROP_ENABLED + "." + remoteRepository.getId(),
-                            CONFIG_PROP_ENABLED + ".*")
-                    && !ConfigUtils.getBoolean(
-                            session,
-                            DEFAULT_SKIPPED,
-                            CONFIG_PROP_SKIPPED + "." + remoteRepository.getId(),
-                            CONFIG_PROP_SKIPPED + ".*");
+            ConfigView config = ConfigView.of(session);
+            return config.get(REPOSITORY_ENABLED, remoteRepository)
+                    && !config.get(REPOSITORY_SKIPPED, remoteRepository);
         }
         return false;
     }
@@ -319,9 +326,11 @@ public final class GroupIdRemoteRepositoryFilterSource extends RemoteRepositoryF
 
     private class GroupIdFilter implements RemoteRepositoryFilter {
         private final RepositorySystemSession session;
+        private final ConfigView config;
 
         private GroupIdFilter(RepositorySystemSession session) {
             this.session = session;
+            this.config = ConfigView.of(session);
         }
 
         @Override
@@ -339,14 +348,7 @@ public final class GroupIdRemoteRepositoryFilterSource extends RemoteRepositoryF
             if (groupTree == DISABLED) {
                 return result(true, NAME, "Disabled");
             } else if (groupTree == ENABLED_NO_INPUT) {
-                return result(
-                        ConfigUtils.getBoolean(
-                                session,
-                                DEFAULT_NO_INPUT_OUTCOME,
-                                CONFIG_PROP_NO_INPUT_OUTCOME + "." + repository.getId(),
-                                CONFIG_PROP_NO_INPUT_OUTCOME),
-                        NAME,
-                        "No input available");
+                return result(config.get(NO_INPUT_OUTCOME, repository), NAME, "No input available");
             }
 
             boolean accepted = groupTree.acceptedGroupId(groupId);
@@ -56,6 +56,7 @@ import org.eclipse.aether.spi.connector.transport.TransporterProvider;
 import org.eclipse.aether.spi.remoterepo.RepositoryKeyFunctionFactory;
 import org.eclipse.aether.transfer.NoRepositoryLayoutException;
 import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.ConfigView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -248,6 +249,22 @@ public final class PrefixesRemoteRepositoryFilterSource extends RemoteRepository
 
     static final String PREFIXES_FILE_SUFFIX = ".txt";
 
+    private static final ConfigView.Key<Boolean> ENABLED = ConfigView.booleanKey(DEFAULT_ENABLED, CONFIG_PROP_ENABLED);
+
+    private static final ConfigView.Key<Boolean> SKIPPED = ConfigView.booleanKey(DEFAULT_SKIPPED, CONFIG_PROP_SKIPPED);
+
+    private static final ConfigView.Key<Boolean> REPOSITORY_ENABLED =
+            ConfigView.booleanKey(DEFAULT_ENABLED, CONFIG_PROP_ENABLED + ".*").withRepositoryKey(CONFIG_PROP_ENABLED);
+
+    private static final ConfigView.Key<Boolean> REPOSITORY_SKIPPED =
+            ConfigView.booleanKey(DEFAULT_SKIPPED, CONFIG_PROP_SKIPPED + ".*").withRepositoryKey(CONFIG_PROP_SKIPPED);
+
+    private static final ConfigView.Key<Boolean> NO_INPUT_OUTCOME =
+            ConfigView.booleanKey(DEFAULT_NO_INPUT_OUTCOME, CONFIG_PROP_NO_INPUT_OUTCOME);
+
+    private static final ConfigView.Key<Boolean> VERIFY_DENIED =
+            ConfigView.booleanKey(DEFAULT_VERIFY_DENIED, CONFIG_PROP_VERIFY_DENIED);
+
     private final Logger logger = LoggerFactory.getLogger(PrefixesRemoteRepositoryFilterSource.class);
 
     private final Supplier<MetadataResolver> metadataResolver;
@@ -290,22 +307,15 @@ public final class PrefixesRemoteRepositoryFilterSource extends RemoteRepository
 
     @Override
     protected boolean isEnabled(RepositorySystemSession session) {
-        return ConfigUtils.getBoolean(session, DEFAULT_ENABLED, CONFIG_PROP_ENABLED)
-                && !ConfigUtils.getBoolean(session, DEFAULT_SKIPPED, CONFIG_PROP_SKIPPED);
+        ConfigView config = ConfigView.of(session);
+        return config.get(ENABLED) && !config.get(SKIPPED);
     }
 
     private boolean isRepositoryFilteringEnabled(RepositorySystemSession session, RemoteRepository remoteRepository) {
         if (isEnabled(session)) {
-            return ConfigUtils.getBoolean(
-                            session,
-                            DEFAULT_ENABLED,
-                            CONFIG_PROP_ENABLED + "." + remoteRepository.getId(),
-                            CONFIG_PROP_ENABLED + ".*")
-                    && !ConfigUtils.getBoolean(
-                            session,
-                            DEFAULT_SKIPPED,
-                            CONFIG_PROP_SKIPPED + "." + remoteRepository.getId(),
-                            CONFIG_PROP_SKIPPED + ".*");
+            ConfigView config = ConfigView.of(session);
+            return config.get(REPOSITORY_ENABLED, remoteRepository)
+                    && !config.get(REPOSITORY_SKIPPED, remoteRepository);
         }
         return false;
     }
@@ -483,10 +493,12 @@ public final class PrefixesRemoteRepositoryFilterSource extends RemoteRepository
 
     private class PrefixesFilter implements RemoteRepositoryFilter {
         private final RepositorySystemSession session;
+        private final ConfigView config;
         private final Path basedir;
 
         private PrefixesFilter(RepositorySystemSession session, Path basedir) {
             this.session = session;
+            this.config = ConfigView.of(session);
             this.basedir = basedir;
         }
 
@@ -549,23 +561,11 @@ public final class PrefixesRemoteRepositoryFilterSource extends RemoteRepository
         }
 
         private Result noInputResult(RemoteRepository repository, String reasoning) {
-            return result(
-                    ConfigUtils.getBoolean(
-                            session,
-                            DEFAULT_NO_INPUT_OUTCOME,
-                            CONFIG_PROP_NO_INPUT_OUTCOME + "." + repository.getId(),
-                            CONFIG_PROP_NO_INPUT_OUTCOME),
-                    NAME,
-                    reasoning);
+            return result(config.get(NO_INPUT_OUTCOME, repository), NAME, reasoning);
         }
 
         private boolean isVerifyDeniedEnabled(RemoteRepository repository) {
-            return !session.isOffline()
-                    && ConfigUtils.getBoolean(
-                            session,
-                            DEFAULT_VERIFY_DENIED,
-                            CONFIG_PROP_VERIFY_DENIED + "." + repository.getId(),
-                            CONFIG_PROP_VERIFY_DENIED);
+            return !session.isOffline() && config.get(VERIFY_DENIED, repository);
         }
 
         /**
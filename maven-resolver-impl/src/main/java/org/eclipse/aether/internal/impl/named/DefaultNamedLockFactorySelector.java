@@ -53,7 +53,8 @@ public class DefaultNamedLockFactorySelector implements NamedLockFactorySelector
 
     /**
      * Name of the lock factory to use in system. Out of the box supported ones are "file-lock", "rwlock-local",
-     * "semaphore-local", "noop". By adding extensions one can extend available lock factories (for example IPC locking).
+     * "rwlock-local-striped", "semaphore-local", "noop". By adding extensions one can extend available lock factories
+     * (for example IPC locking).
      *
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
      * @configurationType {@link java.lang.String}
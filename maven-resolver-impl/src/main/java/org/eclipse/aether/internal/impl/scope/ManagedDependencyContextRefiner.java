@@ -22,9 +22,12 @@ import org.eclipse.aether.collection.DependencyGraphTransformationContext;
 import org.eclipse.aether.collection.DependencyGraphTransformer;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.impl.scope.BuildScope;
 import org.eclipse.aether.impl.scope.InternalScopeManager;
 import org.eclipse.aether.scope.DependencyScope;
+import org.eclipse.aether.util.graph.visitor.DependencyGraphWalker;
+import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,6 +51,24 @@ public final class ManagedDependencyContextRefiner implements DependencyGraphTra
     public DependencyNode transformGraph(DependencyNode node, DependencyGraphTransformationContext context) {
         requireNonNull(node, "node cannot be null");
         requireNonNull(context, "context cannot be null");
+        // refinement does not depend on path, so nodes reachable via multiple paths are refined only once
+        DependencyGraphWalker.walk(node, new TreeDependencyVisitor(new DependencyVisitor() {
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                refine(node);
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                return true;
+            }
+        }));
+
+        return node;
+    }
+
+    private void refine(DependencyNode node) {
         String ctx = node.getRequestContext();
 
         if ("project".equals(ctx)) {
@@ -57,12 +78,6 @@ public final class ManagedDependencyContextRefiner implements DependencyGraphTra
                 node.setRequestContext(ctx);
             }
         }
-
-        for (DependencyNode child : node.getChildren()) {
-            transformGraph(child, context);
-        }
-
-        return node;
     }
 
     private String getBuildpathScope(DependencyNode node) {
@@ -18,11 +18,15 @@
  */
 package org.eclipse.aether.internal.impl.scope;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,7 +38,10 @@ import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.collection.CollectResult;
 import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.impl.scope.BuildPath;
 import org.eclipse.aether.impl.scope.BuildScope;
 import org.eclipse.aether.impl.scope.BuildScopeQuery;
@@ -49,6 +56,7 @@ import org.eclipse.aether.util.filter.ScopeDependencyFilter;
 import org.eclipse.aether.util.graph.selector.AndDependencySelector;
 import org.eclipse.aether.util.graph.selector.ExclusionDependencySelector;
 import org.eclipse.aether.util.graph.visitor.CloningDependencyVisitor;
+import org.eclipse.aether.util.graph.visitor.DependencyGraphWalker;
 import org.eclipse.aether.util.graph.visitor.FilteringDependencyVisitor;
 
 import static java.util.Objects.requireNonNull;
@@ -58,6 +66,7 @@ public final class ScopeManagerImpl implements InternalScopeManager {
     private final boolean strictDependencyScopes;
     private final boolean strictResolutionScopes;
     private final BuildScopeSource buildScopeSource;
+    private final List<BuildScope> buildScopes;
     private final AtomicReference<SystemDependencyScopeImpl> systemDependencyScope;
     private final Map<String, DependencyScopeImpl> dependencyScopes;
     private final Collection<DependencyScope> dependencyScopesUniverse;
@@ -69,6 +78,9 @@ public final class ScopeManagerImpl implements InternalScopeManager {
         this.strictDependencyScopes = configuration.isStrictDependencyScopes();
         this.strictResolutionScopes = configuration.isStrictResolutionScopes();
         this.buildScopeSource = configuration.getBuildScopeSource();
+        this.buildScopes = Collections.unmodifiableList(buildScopeSource.query(BuildScopeQuery.all()).stream()
+                .sorted(Comparator.comparing(BuildScope::order))
+                .collect(Collectors.toList()));
         this.systemDependencyScope = new AtomicReference<>(null);
         this.dependencyScopes = Collections.unmodifiableMap(buildDependencyScopes(configuration));
         this.dependencyScopesUniverse = Collections.unmodifiableCollection(new HashSet<>(dependencyScopes.values()));
@@ -176,12 +188,55 @@ public final class ScopeManagerImpl implements InternalScopeManager {
             CloningDependencyVisitor cloning = new CloningDependencyVisitor();
             FilteringDependencyVisitor filter = new FilteringDependencyVisitor(
                     cloning, new ScopeDependencyFilter(null, getDirectlyExcludedLabels(rs)));
-            collectResult.getRoot().accept(filter);
+            DependencyGraphWalker.walk(collectResult.getRoot(), filter);
             collectResult.setRoot(cloning.getRootNode());
         }
         return collectResult;
     }
 
+    @Override
+    public Map<BuildScope, List<Artifact>> getBuildScopeArtifacts(DependencyNode root) {
+        requireNonNull(root, "root");
+        if (buildScopes.size() > Long.SIZE) {
+            throw new IllegalStateException("too many build scopes: " + buildScopes.size());
+        }
+        List<List<Artifact>> artifacts = new ArrayList<>(buildScopes.size());
+        for (int i = 0; i < buildScopes.size(); i++) {
+            artifacts.add(new ArrayList<>());
+        }
+        Map<DependencyNode, Boolean> visited = new IdentityHashMap<>(512);
+        DependencyGraphWalker.walk(root, new DependencyVisitor() {
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                if (visited.put(node, Boolean.TRUE) != null) {
+                    return false;
+                }
+                Dependency dependency = node.getDependency();
+                if (dependency != null) {
+                    DependencyScopeImpl dependencyScope = dependencyScopes.get(dependency.getScope());
+                    if (dependencyScope != null) {
+                        long mask = dependencyScope.getBuildScopeMask();
+                        while (mask != 0) {
+                            artifacts.get(Long.numberOfTrailingZeros(mask)).add(dependency.getArtifact());
+                            mask &= mask - 1;
+                        }
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                return true;
+            }
+        });
+        LinkedHashMap<BuildScope, List<Artifact>> result = new LinkedHashMap<>();
+        for (int i = 0; i < buildScopes.size(); i++) {
+            result.put(buildScopes.get(i), Collections.unmodifiableList(artifacts.get(i)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
     @Override
     public DependencyScope createDependencyScope(String id, boolean transitive, Collection<BuildScopeQuery> presence) {
         return new DependencyScopeImpl(id, transitive, presence);
@@ -235,6 +290,17 @@ public final class ScopeManagerImpl implements InternalScopeManager {
         return result;
     }
 
+    private long calculateBuildScopeMask(DependencyScopeImpl dependencyScope) {
+        long result = 0;
+        for (BuildScope buildScope : buildScopeSource.query(dependencyScope.getPresence())) {
+            int index = buildScopes.indexOf(buildScope);
+            if (index >= 0 && index < Long.SIZE) {
+                result |= 1L << index;
+            }
+        }
+        return result;
+    }
+
     private BuildScope calculateMainProjectBuildScope(DependencyScopeImpl dependencyScope) {
         for (ProjectPath projectPath : buildScopeSource.allProjectPaths().stream()
                 .sorted(Comparator.comparing(ProjectPath::order))
@@ -332,6 +398,7 @@ public final class ScopeManagerImpl implements InternalScopeManager {
         private final Set<BuildScopeQuery> presence;
         private final BuildScope mainBuildScope;
         private final int width;
+        private final long buildScopeMask;
 
         private DependencyScopeImpl(String id, boolean transitive, Collection<BuildScopeQuery> presence) {
             this.id = requireNonNull(id, "id");
@@ -339,6 +406,7 @@ public final class ScopeManagerImpl implements InternalScopeManager {
             this.presence = Collections.unmodifiableSet(new HashSet<>(presence));
             this.mainBuildScope = calculateMainProjectBuildScope(this);
             this.width = calculateDependencyScopeWidth(this);
+            this.buildScopeMask = calculateBuildScopeMask(this);
         }
 
         @Override
@@ -363,6 +431,10 @@ public final class ScopeManagerImpl implements InternalScopeManager {
             return width;
         }
 
+        public long getBuildScopeMask() {
+            return buildScopeMask;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
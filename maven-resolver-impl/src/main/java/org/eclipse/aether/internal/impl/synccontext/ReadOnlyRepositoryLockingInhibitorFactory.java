@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.internal.impl.synccontext;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.spi.locking.LockingInhibitor;
+import org.eclipse.aether.spi.locking.LockingInhibitorFactory;
+import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.repository.ChainedLocalRepositoryManager;
+
+/**
+ * Locking inhibitor for reading release artifacts present in the read-only tail of chained local repository. Release
+ * artifacts are immutable, and as read-only tail is never written to, once a release artifact is present in it,
+ * resolving it is a plain read: chained local repository manager (with default "ignore tail availability" setting)
+ * will find it there, and it will not be downloaded or written. Hence, such artifacts do not need shared locks.
+ * Exclusive locks (install, deploy, or download into the chain head) are never inhibited.
+ * <p>
+ * The read-only tail is taken from the session {@link ChainedLocalRepositoryManager}, see
+ * {@link ChainedLocalRepositoryManager#getReadOnlyTail()}. If session does not use chained local repository manager,
+ * this inhibitor is disabled.
+ * <p>
+ * This inhibitor is disabled by default. <em>Warning: enable it only if the tail local repositories are really
+ * read-only (not written to by any process), otherwise lock inhibition may lead to corruption.</em>
+ *
+ * @since 2.0.23
+ */
+@Singleton
+@Named(ReadOnlyRepositoryLockingInhibitorFactory.NAME)
+public class ReadOnlyRepositoryLockingInhibitorFactory implements LockingInhibitorFactory {
+    public static final String NAME = "read-only-repository";
+
+    /**
+     * Whether shared locks of release artifacts present in read-only tail of chained local repository should be
+     * inhibited.
+     *
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Boolean}
+     * @configurationDefaultValue {@link #DEFAULT_ENABLED}
+     */
+    public static final String CONFIG_PROP_ENABLED =
+            ConfigurationProperties.PREFIX_SYNC_CONTEXT + "readOnlyRepository.enabled";
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    @Override
+    public Optional<LockingInhibitor> newInstance(RepositorySystemSession session) {
+        if (!ConfigUtils.getBoolean(session, DEFAULT_ENABLED, CONFIG_PROP_ENABLED)
+                || !(session.getLocalRepositoryManager() instanceof ChainedLocalRepositoryManager)) {
+            return Optional.empty();
+        }
+        List<LocalRepositoryManager> readOnlyTail =
+                ((ChainedLocalRepositoryManager) session.getLocalRepositoryManager()).getReadOnlyTail();
+        if (readOnlyTail.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ReadOnlyRepositoryLockingInhibitor(readOnlyTail));
+    }
+
+    private static final class ReadOnlyRepositoryLockingInhibitor implements LockingInhibitor {
+        private final List<LocalRepositoryManager> readOnlyTail;
+
+        /**
+         * Presence of release artifacts in read-only repositories cannot change, hence is cached.
+         */
+        private final ConcurrentMap<Artifact, Boolean> present;
+
+        private ReadOnlyRepositoryLockingInhibitor(List<LocalRepositoryManager> readOnlyTail) {
+            this.readOnlyTail = readOnlyTail;
+            this.present = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public boolean preventArtifactLocking(Artifact artifact, boolean shared) {
+            if (!shared || artifact.isSnapshot()) {
+                return false;
+            }
+            return present.computeIfAbsent(artifact, this::isPresent);
+        }
+
+        private boolean isPresent(Artifact artifact) {
+            for (LocalRepositoryManager lrm : readOnlyTail) {
+                if (Files.isRegularFile(lrm.getAbsolutePathForLocalArtifact(artifact))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -42,7 +42,10 @@ import static java.util.Objects.requireNonNull;
  */
 public class HashingNameMapper implements NameMapper {
     /**
-     * The depth how many levels should adapter create. Acceptable values are 0-4 (inclusive).
+     * The depth how many levels should adapter create. Acceptable values are 0-4 (inclusive). Each level is a
+     * directory named by two hexadecimal characters of the hash, hence locks are spread over 256<sup>depth</sup>
+     * directories. With depth 0 all lock files end up in single (flat) directory, which may become slow on some file
+     * systems when it grows large.
      *
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
      * @configurationType {@link java.lang.Integer}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.internal.impl.synccontext.named;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.DefaultMetadata;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.named.NamedLockKey;
+import org.eclipse.aether.util.ConfigUtils;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Wrapping {@link NameMapper} class that adds groupId level locks on top of names produced by wrapped
+ * {@link NameMapper}, to implement hierarchical (intention) locking:
+ * <ul>
+ *     <li>Operations take groupId lock as shared ("intention shared" or "intention exclusive" lock), and then the
+ *     fine-grained locks of coordinates in requested mode. Hence, operations on distinct coordinates of same
+ *     groupId remain concurrent.</li>
+ *     <li>Exclusive operations involving at least {@link #CONFIG_PROP_GROUP_LOCK_THRESHOLD} coordinates of same
+ *     groupId (like reactor-wide installs are) take the groupId lock exclusively, and no fine-grained locks
+ *     for coordinates of that groupId. This reduces the count of locks (and their bookkeeping) to one per
+ *     groupId.</li>
+ * </ul>
+ * Shared operations always use fine-grained locks, as shared groupId lock is the intention lock, that does not
+ * exclude concurrent exclusive fine-grained locks. Metadata without groupId (repository root level) get no group
+ * lock. Group lock names are created by the wrapped name mapper from synthetic metadata of type
+ * {@link #GROUP_LOCK_TYPE}, so all the wrapped name mapper features (ie. file system friendliness) apply to them.
+ * <p>
+ * The shared groupId locks cost one extra lock acquisition per operation (group locks of same mode are acquired at
+ * once), as without them operations would not exclude the exclusive groupId locks. Hence, this name mapper pays off
+ * only if exclusive operations on many coordinates of same groupId are frequent.
+ * <p>
+ * Locks of this name mapper must be acquired using
+ * {@link #nameHierarchicalLocks(RepositorySystemSession, Collection, Collection, boolean)}. The
+ * {@link #nameLocks(RepositorySystemSession, Collection, Collection)} method returns group locks along with
+ * fine-grained locks, as acquiring all of them in same mode is still safe (albeit less concurrent). Also, to not
+ * hit lock upgrade failures, same thread should not take groupId lock exclusively while it already holds locks
+ * of that groupId as shared (ie. in an "outer" sync context).
+ *
+ * @since 2.0.23
+ */
+public class HierarchicalNameMapper implements NameMapper {
+    /**
+     * The minimum count of artifacts and metadata of same groupId in an exclusive lock request, that makes
+     * groupId lock acquired exclusively, instead of fine-grained locks.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Integer}
+     * @configurationDefaultValue {@link #DEFAULT_GROUP_LOCK_THRESHOLD}
+     */
+    public static final String CONFIG_PROP_GROUP_LOCK_THRESHOLD =
+            NamedLockFactoryAdapter.CONFIG_PROPS_PREFIX + "hierarchical.groupLockThreshold";
+
+    public static final int DEFAULT_GROUP_LOCK_THRESHOLD = 16;
+
+    /**
+     * The type of synthetic metadata used to name groupId locks.
+     */
+    public static final String GROUP_LOCK_TYPE = "maven-resolver-group";
+
+    private final NameMapper delegate;
+
+    public HierarchicalNameMapper(final NameMapper delegate) {
+        this.delegate = requireNonNull(delegate);
+    }
+
+    @Override
+    public boolean isFileSystemFriendly() {
+        return delegate.isFileSystemFriendly();
+    }
+
+    @Override
+    public Collection<NamedLockKey> nameLocks(
+            final RepositorySystemSession session,
+            final Collection<? extends Artifact> artifacts,
+            final Collection<? extends Metadata> metadatas) {
+        TreeSet<String> groupIds = new TreeSet<>();
+        if (artifacts != null) {
+            artifacts.forEach(a -> groupIds.add(a.getGroupId()));
+        }
+        if (metadatas != null) {
+            metadatas.stream()
+                    .filter(m -> !m.getGroupId().isEmpty())
+                    .forEach(m -> groupIds.add(m.getGroupId()));
+        }
+        if (groupIds.isEmpty()) {
+            return delegate.nameLocks(session, artifacts, metadatas);
+        }
+        // group locks first, in stable order
+        List<NamedLockKey> result = new ArrayList<>(nameGroupLocks(session, groupIds).values());
+        result.sort(Comparator.comparing(NamedLockKey::name));
+        result.addAll(delegate.nameLocks(session, artifacts, metadatas));
+        return result;
+    }
+
+    @Override
+    public HierarchicalNames nameHierarchicalLocks(
+            final RepositorySystemSession session,
+            final Collection<? extends Artifact> artifacts,
+            final Collection<? extends Metadata> metadatas,
+            final boolean shared) {
+        TreeMap<String, Group> groups = new TreeMap<>();
+        List<Metadata> rootMetadata = new ArrayList<>();
+        if (artifacts != null) {
+            for (Artifact artifact : artifacts) {
+                groups.computeIfAbsent(artifact.getGroupId(), g -> new Group()).artifacts.add(artifact);
+            }
+        }
+        if (metadatas != null) {
+            for (Metadata metadata : metadatas) {
+                if (metadata.getGroupId().isEmpty()) {
+                    rootMetadata.add(metadata);
+                } else {
+                    groups.computeIfAbsent(metadata.getGroupId(), g -> new Group()).metadatas.add(metadata);
+                }
+            }
+        }
+        if (groups.isEmpty()) {
+            return new HierarchicalNames(Collections.emptyMap(), delegate.nameLocks(session, null, rootMetadata));
+        }
+
+        int threshold =
+                ConfigUtils.getInteger(session, DEFAULT_GROUP_LOCK_THRESHOLD, CONFIG_PROP_GROUP_LOCK_THRESHOLD);
+        Map<String, NamedLockKey> groupKeys = nameGroupLocks(session, groups.keySet());
+        TreeMap<NamedLockKey, Boolean> groupLocks = new TreeMap<>(Comparator.comparing(NamedLockKey::name));
+        List<Artifact> fineArtifacts = new ArrayList<>();
+        List<Metadata> fineMetadata = new ArrayList<>(rootMetadata);
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            boolean exclusive = !shared && group.size() >= threshold;
+            groupLocks.put(groupKeys.get(entry.getKey()), exclusive);
+            if (!exclusive) {
+                fineArtifacts.addAll(group.artifacts);
+                fineMetadata.addAll(group.metadatas);
+            }
+        }
+        return new HierarchicalNames(
+                new LinkedHashMap<>(groupLocks), delegate.nameLocks(session, fineArtifacts, fineMetadata));
+    }
+
+    private Map<String, NamedLockKey> nameGroupLocks(RepositorySystemSession session, Collection<String> groupIds) {
+        LinkedHashMap<String, NamedLockKey> result = new LinkedHashMap<>();
+        for (String groupId : groupIds) {
+            Collection<NamedLockKey> keys = delegate.nameLocks(
+                    session,
+                    null,
+                    Collections.singletonList(
+                            new DefaultMetadata(groupId, GROUP_LOCK_TYPE, Metadata.Nature.RELEASE_OR_SNAPSHOT)));
+            if (keys.size() != 1) {
+                throw new IllegalStateException("Delegate name mapper must name one lock per metadata");
+            }
+            result.put(groupId, keys.iterator().next());
+        }
+        return result;
+    }
+
+    private static final class Group {
+        private final List<Artifact> artifacts = new ArrayList<>();
+
+        private final List<Metadata> metadatas = new ArrayList<>();
+
+        private int size() {
+            return artifacts.size() + metadatas.size();
+        }
+    }
+}
@@ -57,15 +57,37 @@ public class InhibitingNameMapper implements NameMapper {
         if (lockingInhibitors.isEmpty()) {
             return delegate.nameLocks(session, artifacts, metadatas);
         }
+        // locking mode is unknown here, hence be conservative and assume exclusive
+        return delegate.nameLocks(session, filterArtifacts(artifacts, false), filterMetadata(metadatas));
+    }
+
+    @Override
+    public HierarchicalNames nameHierarchicalLocks(
+            RepositorySystemSession session,
+            Collection<? extends Artifact> artifacts,
+            Collection<? extends Metadata> metadatas,
+            boolean shared) {
+        if (lockingInhibitors.isEmpty()) {
+            return delegate.nameHierarchicalLocks(session, artifacts, metadatas, shared);
+        }
+        return delegate.nameHierarchicalLocks(
+                session, filterArtifacts(artifacts, shared), filterMetadata(metadatas), shared);
+    }
+
+    private Collection<? extends Artifact> filterArtifacts(Collection<? extends Artifact> artifacts, boolean shared) {
         if (artifacts != null && !artifacts.isEmpty()) {
             List<Artifact> filtered = new ArrayList<>(artifacts.size());
             for (Artifact a : artifacts) {
-                if (!isArtifactInhibited(a)) {
+                if (!isArtifactInhibited(a, shared)) {
                     filtered.add(a);
                 }
             }
-            artifacts = filtered;
+            return filtered;
         }
+        return artifacts;
+    }
+
+    private Collection<? extends Metadata> filterMetadata(Collection<? extends Metadata> metadatas) {
         if (metadatas != null && !metadatas.isEmpty()) {
             List<Metadata> filtered = new ArrayList<>(metadatas.size());
             for (Metadata m : metadatas) {
@@ -73,14 +95,14 @@ public class InhibitingNameMapper implements NameMapper {
                     filtered.add(m);
                 }
             }
-            metadatas = filtered;
+            return filtered;
         }
-        return delegate.nameLocks(session, artifacts, metadatas);
+        return metadatas;
     }
 
-    private boolean isArtifactInhibited(Artifact artifact) {
+    private boolean isArtifactInhibited(Artifact artifact, boolean shared) {
         for (LockingInhibitor inhibitor : lockingInhibitors) {
-            if (inhibitor.preventArtifactLocking(artifact)) {
+            if (inhibitor.preventArtifactLocking(artifact, shared)) {
                 return true;
             }
         }
@@ -19,6 +19,8 @@
 package org.eclipse.aether.internal.impl.synccontext.named;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
@@ -61,4 +63,56 @@ public interface NameMapper {
             RepositorySystemSession session,
             Collection<? extends Artifact> artifacts,
             Collection<? extends Metadata> metadatas);
+
+    /**
+     * Creates (opaque) names for passed in artifacts and metadata for hierarchical locking: besides the names as
+     * {@link #nameLocks(RepositorySystemSession, Collection, Collection)} would return, it may return names of
+     * "group" locks, that must be acquired (in returned order, and in returned mode) before the other locks. A group
+     * lock acquired as shared acts as "intention" lock, while a group lock acquired exclusively covers all locks
+     * of the group, that are hence omitted from returned names.
+     * <p>
+     * The default implementation returns no group locks.
+     *
+     * @param shared whether the caller wants to acquire shared or exclusive locks.
+     * @since 2.0.23
+     */
+    default HierarchicalNames nameHierarchicalLocks(
+            RepositorySystemSession session,
+            Collection<? extends Artifact> artifacts,
+            Collection<? extends Metadata> metadatas,
+            boolean shared) {
+        return new HierarchicalNames(Collections.emptyMap(), nameLocks(session, artifacts, metadatas));
+    }
+
+    /**
+     * Names of locks for hierarchical locking.
+     *
+     * @since 2.0.23
+     */
+    final class HierarchicalNames {
+        private final Map<NamedLockKey, Boolean> groupLocks;
+
+        private final Collection<NamedLockKey> locks;
+
+        public HierarchicalNames(Map<NamedLockKey, Boolean> groupLocks, Collection<NamedLockKey> locks) {
+            this.groupLocks = Collections.unmodifiableMap(groupLocks);
+            this.locks = Collections.unmodifiableCollection(locks);
+        }
+
+        /**
+         * The group locks to acquire first, in map iteration order, mapped to {@code true} if lock must be acquired
+         * exclusively, or {@code false} if lock must be acquired as shared. Consecutive group locks of same mode may be
+         * acquired at once.
+         */
+        public Map<NamedLockKey, Boolean> getGroupLocks() {
+            return groupLocks;
+        }
+
+        /**
+         * The locks to acquire after group locks, in the mode caller wants.
+         */
+        public Collection<NamedLockKey> getLocks() {
+            return locks;
+        }
+    }
 }
@@ -59,6 +59,16 @@ public final class NameMappers {
 
     public static final String DISCRIMINATING_NAME = "discriminating";
 
+    /**
+     * @since 2.0.23
+     */
+    public static final String HIERARCHICAL_GAECV_NAME = "hierarchical-gaecv";
+
+    /**
+     * @since 2.0.23
+     */
+    public static final String FILE_HIERARCHICAL_GAECV_NAME = "file-hierarchical-gaecv";
+
     public static NameMapper staticNameMapper() {
         return new StaticNameMapper();
     }
@@ -128,4 +138,18 @@ public final class NameMappers {
     public static NameMapper discriminatingNameMapper() {
         return new DiscriminatingNameMapper(gavNameMapper(false));
     }
+
+    /**
+     * @since 2.0.23
+     */
+    public static NameMapper hierarchicalGaecvNameMapper() {
+        return new HierarchicalNameMapper(gaecvNameMapper());
+    }
+
+    /**
+     * @since 2.0.23
+     */
+    public static NameMapper fileHierarchicalGaecvNameMapper() {
+        return new HierarchicalNameMapper(fileGaecvNameMapper());
+    }
 }
@@ -19,8 +19,11 @@
 package org.eclipse.aether.internal.impl.synccontext.named;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -34,6 +37,7 @@ import org.eclipse.aether.named.NamedLock;
 import org.eclipse.aether.named.NamedLockFactory;
 import org.eclipse.aether.named.NamedLockKey;
 import org.eclipse.aether.named.providers.FileLockNamedLockFactory;
+import org.eclipse.aether.named.support.Retry;
 import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.slf4j.Logger;
@@ -101,6 +105,39 @@ public final class NamedLockFactoryAdapter {
 
     public static final long DEFAULT_RETRY_WAIT = 200L;
 
+    /**
+     * The strategy of waiting between retries on time-out. Supported values are {@link #RETRY_BACKOFF_FIXED}, that
+     * waits {@link #CONFIG_PROP_RETRY_WAIT} milliseconds before each retry, and {@link #RETRY_BACKOFF_EXPONENTIAL},
+     * that starts with {@link #CONFIG_PROP_RETRY_WAIT} milliseconds and doubles the wait on each retry up to
+     * {@link #CONFIG_PROP_RETRY_MAX_WAIT} milliseconds, with random jitter applied, so contending sessions do not
+     * retry all at the same time.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.String}
+     * @configurationDefaultValue {@link #DEFAULT_RETRY_BACKOFF}
+     */
+    public static final String CONFIG_PROP_RETRY_BACKOFF = CONFIG_PROPS_PREFIX + "retry.backoff";
+
+    public static final String RETRY_BACKOFF_FIXED = "fixed";
+
+    public static final String RETRY_BACKOFF_EXPONENTIAL = "exponential";
+
+    public static final String DEFAULT_RETRY_BACKOFF = RETRY_BACKOFF_FIXED;
+
+    /**
+     * The maximum amount of milliseconds to wait between retries on time-out, when
+     * {@link #RETRY_BACKOFF_EXPONENTIAL} backoff is used.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Long}
+     * @configurationDefaultValue {@link #DEFAULT_RETRY_MAX_WAIT}
+     */
+    public static final String CONFIG_PROP_RETRY_MAX_WAIT = CONFIG_PROPS_PREFIX + "retry.maxWait";
+
+    public static final long DEFAULT_RETRY_MAX_WAIT = 5000L;
+
     private final NameMapper nameMapper;
 
     private final NamedLockFactory namedLockFactory;
@@ -169,7 +206,9 @@ public final class NamedLockFactoryAdapter {
 
         private final long retryWait;
 
-        private final Deque<NamedLock> locks;
+        private final long retryMaxWait;
+
+        private final Deque<HeldLock> locks;
 
         private AdaptedLockSyncContext(
                 final RepositorySystemSession session,
@@ -186,6 +225,7 @@ public final class NamedLockFactoryAdapter {
             this.timeUnit = lockWaitUnit;
             this.retry = getRetry(session);
             this.retryWait = getRetryWait(session);
+            this.retryMaxWait = getRetryMaxWait(session, retryWait);
             this.locks = new ArrayDeque<>();
 
             if (retry < 0L) {
@@ -204,13 +244,48 @@ public final class NamedLockFactoryAdapter {
             return ConfigUtils.getLong(session, DEFAULT_RETRY_WAIT, CONFIG_PROP_RETRY_WAIT);
         }
 
+        private long getRetryMaxWait(final RepositorySystemSession session, final long retryWait) {
+            String backoff = ConfigUtils.getString(session, DEFAULT_RETRY_BACKOFF, CONFIG_PROP_RETRY_BACKOFF);
+            if (RETRY_BACKOFF_FIXED.equals(backoff)) {
+                return retryWait;
+            } else if (RETRY_BACKOFF_EXPONENTIAL.equals(backoff)) {
+                return Math.max(
+                        retryWait, ConfigUtils.getLong(session, DEFAULT_RETRY_MAX_WAIT, CONFIG_PROP_RETRY_MAX_WAIT));
+            } else {
+                throw new IllegalArgumentException("Unknown " + CONFIG_PROP_RETRY_BACKOFF + " value '" + backoff
+                        + "'; supported values are '" + RETRY_BACKOFF_FIXED + "' and '" + RETRY_BACKOFF_EXPONENTIAL
+                        + "'");
+            }
+        }
+
         @Override
         public void acquire(Collection<? extends Artifact> artifacts, Collection<? extends Metadata> metadatas) {
-            Collection<NamedLockKey> keys = lockNaming.nameLocks(session, artifacts, metadatas);
-            if (keys.isEmpty()) {
-                return;
+            NameMapper.HierarchicalNames names =
+                    lockNaming.nameHierarchicalLocks(session, artifacts, metadatas, shared);
+            // consecutive group locks of same mode are acquired at once, keeping their order
+            List<NamedLockKey> groupKeys = new ArrayList<>();
+            boolean groupShared = true;
+            for (Map.Entry<NamedLockKey, Boolean> groupLock : names.getGroupLocks().entrySet()) {
+                if (!groupKeys.isEmpty() && groupShared == groupLock.getValue()) {
+                    acquire(groupKeys, groupShared, artifacts, metadatas);
+                    groupKeys = new ArrayList<>();
+                }
+                groupShared = !groupLock.getValue();
+                groupKeys.add(groupLock.getKey());
+            }
+            if (!groupKeys.isEmpty()) {
+                acquire(groupKeys, groupShared, artifacts, metadatas);
             }
+            if (!names.getLocks().isEmpty()) {
+                acquire(names.getLocks(), shared, artifacts, metadatas);
+            }
+        }
 
+        private void acquire(
+                Collection<NamedLockKey> keys,
+                boolean shared,
+                Collection<? extends Artifact> artifacts,
+                Collection<? extends Metadata> metadatas) {
             final String timeStr = time + " " + timeUnit;
             final String lockKind = shared ? "shared" : "exclusive";
             final NamedLock namedLock = namedLockFactory.getLock(keys);
@@ -233,7 +308,7 @@ public final class NamedLockFactoryAdapter {
                 }
                 try {
                     if (attempt > 1) {
-                        Thread.sleep(retryWait);
+                        Thread.sleep(Retry.backoff(attempt - 1, retryWait, retryMaxWait));
                     }
                     boolean locked;
                     if (shared) {
@@ -244,7 +319,7 @@ public final class NamedLockFactoryAdapter {
 
                     if (locked) {
                         // we are done, get out
-                        locks.push(namedLock);
+                        locks.push(new HeldLock(namedLock, shared));
                         return;
                     }
 
@@ -310,14 +385,28 @@ public final class NamedLockFactoryAdapter {
         @Override
         public void close() {
             while (!locks.isEmpty()) {
-                try (NamedLock namedLock = locks.pop()) {
+                HeldLock heldLock = locks.pop();
+                try (NamedLock namedLock = heldLock.namedLock) {
                     namedLock.unlock();
                     if (LOGGER.isTraceEnabled()) {
                         LOGGER.trace(
-                                "Unlocked and closed {} lock of {}", shared ? "shared" : "exclusive", namedLock.key());
+                                "Unlocked and closed {} lock of {}",
+                                heldLock.shared ? "shared" : "exclusive",
+                                namedLock.key());
                     }
                 }
             }
         }
     }
+
+    private static final class HeldLock {
+        private final NamedLock namedLock;
+
+        private final boolean shared;
+
+        private HeldLock(NamedLock namedLock, boolean shared) {
+            this.namedLock = namedLock;
+            this.shared = shared;
+        }
+    }
 }
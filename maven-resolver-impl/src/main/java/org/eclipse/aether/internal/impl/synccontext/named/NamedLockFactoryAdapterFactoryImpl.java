@@ -57,7 +57,8 @@ public class NamedLockFactoryAdapterFactoryImpl implements NamedLockFactoryAdapt
 
     /**
      * Name of the lock factory to use in session. Out of the box supported ones are "file-lock", "rwlock-local",
-     * "semaphore-local", "noop". By adding extensions one can extend available lock factories (for example IPC locking).
+     * "rwlock-local-striped", "semaphore-local", "noop". By adding extensions one can extend available lock factories
+     * (for example IPC locking).
      * <strong>Deprecated: use {@code aether.system.named...} configuration instead.</strong>
      *
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
@@ -69,7 +70,8 @@ public class NamedLockFactoryAdapterFactoryImpl implements NamedLockFactoryAdapt
 
     /**
      * Name of the name mapper to use in session. Out of the box supported ones are "static", "gav", "gaecv", "file-gav",
-     * "file-gaecv", "file-hgav", "file-hgaecv", "file-static" and "discriminating".
+     * "file-gaecv", "file-hgav", "file-hgaecv", "file-static", "hierarchical-gaecv", "file-hierarchical-gaecv" and
+     * "discriminating".
      *
      * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
      * @configurationType {@link java.lang.String}
@@ -21,17 +21,20 @@ package org.eclipse.aether.internal.impl;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositoryEvent;
 import org.eclipse.aether.RepositoryEvent.EventType;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SyncContext;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactProperties;
 import org.eclipse.aether.artifact.DefaultArtifact;
@@ -67,6 +70,8 @@ import org.eclipse.aether.spi.connector.MetadataDownload;
 import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilter;
 import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilterSource;
 import org.eclipse.aether.spi.io.PathProcessorSupport;
+import org.eclipse.aether.spi.resolution.ArtifactResolverPostProcessor;
+import org.eclipse.aether.spi.synccontext.SyncContextFactory;
 import org.eclipse.aether.transfer.ArtifactNotFoundException;
 import org.eclipse.aether.transfer.ArtifactTransferException;
 import org.eclipse.aether.util.repository.SimpleResolutionErrorPolicy;
@@ -115,6 +120,22 @@ public class DefaultArtifactResolverTest {
 
     private DefaultArtifactResolver setupArtifactResolver(
             VersionResolver versionResolver, UpdateCheckManager updateCheckManager) {
+        return setupArtifactResolver(versionResolver, updateCheckManager, new StubSyncContextFactory());
+    }
+
+    private DefaultArtifactResolver setupArtifactResolver(
+            VersionResolver versionResolver,
+            UpdateCheckManager updateCheckManager,
+            SyncContextFactory syncContextFactory) {
+        return setupArtifactResolver(
+                versionResolver, updateCheckManager, syncContextFactory, Collections.emptyMap());
+    }
+
+    private DefaultArtifactResolver setupArtifactResolver(
+            VersionResolver versionResolver,
+            UpdateCheckManager updateCheckManager,
+            SyncContextFactory syncContextFactory,
+            Map<String, ArtifactResolverPostProcessor> artifactResolverPostProcessors) {
         return new DefaultArtifactResolver(
                 new PathProcessorSupport(),
                 new StubRepositoryEventDispatcher(),
@@ -122,9 +143,9 @@ public class DefaultArtifactResolverTest {
                 updateCheckManager,
                 repositoryConnectorProvider,
                 new StubRemoteRepositoryManager(),
-                new StubSyncContextFactory(),
+                syncContextFactory,
                 new DefaultOfflineController(),
-                Collections.emptyMap(),
+                artifactResolverPostProcessors,
                 remoteRepositoryFilterManager);
     }
 
@@ -154,6 +175,106 @@ public class DefaultArtifactResolverTest {
         assertEquals(artifact, resolved);
     }
 
+    @Test
+    void testOptimisticResolutionOfLocalArtifact() throws IOException, ArtifactResolutionException {
+        AtomicInteger acquires = new AtomicInteger();
+        resolver = setupArtifactResolver(
+                new StubVersionResolver(), new StaticUpdateCheckManager(true), countingSyncContextFactory(acquires));
+        session.setConfigProperty(DefaultArtifactResolver.CONFIG_PROP_OPTIMISTIC_RESOLUTION, true);
+        File file = new File(lrm.getRepository().getBasedir(), lrm.getPathForLocalArtifact(artifact));
+        TestFileUtils.writeString(file, "artifact");
+
+        ArtifactRequest request = new ArtifactRequest(artifact, null, "");
+        request.addRepository(new RemoteRepository.Builder("id", "default", "file:///").build());
+        ArtifactResult result = resolver.resolveArtifact(session, request);
+
+        assertTrue(result.getExceptions().isEmpty());
+        assertEquals(file.toPath(), result.getArtifact().getPath());
+        assertEquals(0, acquires.get());
+        connector.assertSeenExpected();
+    }
+
+    @Test
+    void testOptimisticResolutionFallsBackToLocking() throws ArtifactResolutionException {
+        AtomicInteger acquires = new AtomicInteger();
+        resolver = setupArtifactResolver(
+                new StubVersionResolver(), new StaticUpdateCheckManager(true), countingSyncContextFactory(acquires));
+        session.setConfigProperty(DefaultArtifactResolver.CONFIG_PROP_OPTIMISTIC_RESOLUTION, true);
+        connector.setExpectGet(artifact);
+
+        ArtifactRequest request = new ArtifactRequest(artifact, null, "");
+        request.addRepository(new RemoteRepository.Builder("id", "default", "file:///").build());
+        ArtifactResult result = resolver.resolveArtifact(session, request);
+
+        assertTrue(result.getExceptions().isEmpty());
+        assertNotNull(result.getArtifact().getPath());
+        // shared, then exclusive to download
+        assertEquals(2, acquires.get());
+        connector.assertSeenExpected();
+    }
+
+    @Test
+    void testOptimisticResolutionEventsAndPostProcessing() throws IOException, ArtifactResolutionException {
+        assertOptimisticResolutionOfBatch("ver", 0);
+    }
+
+    @Test
+    void testOptimisticResolutionWithSnapshotInBatch() throws IOException, ArtifactResolutionException {
+        // snapshot in the middle of batch discards the optimistic pass
+        assertOptimisticResolutionOfBatch("1.0-SNAPSHOT", 1);
+    }
+
+    private void assertOptimisticResolutionOfBatch(String secondVersion, int expectedAcquires)
+            throws IOException, ArtifactResolutionException {
+        AtomicInteger acquires = new AtomicInteger();
+        AtomicInteger postProcessed = new AtomicInteger();
+        resolver = setupArtifactResolver(
+                new StubVersionResolver(),
+                new StaticUpdateCheckManager(true),
+                countingSyncContextFactory(acquires),
+                Collections.singletonMap("counting", (s, results) -> postProcessed.incrementAndGet()));
+        session.setConfigProperty(DefaultArtifactResolver.CONFIG_PROP_OPTIMISTIC_RESOLUTION, true);
+        RecordingRepositoryListener listener = new RecordingRepositoryListener();
+        session.setRepositoryListener(listener);
+        List<Artifact> artifacts = Arrays.asList(
+                new DefaultArtifact("gid:a:ver"),
+                new DefaultArtifact("gid:b:" + secondVersion),
+                new DefaultArtifact("gid:c:ver"));
+        List<ArtifactRequest> requests = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            TestFileUtils.writeString(
+                    new File(lrm.getRepository().getBasedir(), lrm.getPathForLocalArtifact(artifact)), "artifact");
+            requests.add(new ArtifactRequest(artifact, null, ""));
+        }
+
+        List<ArtifactResult> results = resolver.resolveArtifacts(session, requests);
+
+        assertEquals(3, results.size());
+        results.forEach(r -> assertNotNull(r.getArtifact().getPath()));
+        assertEquals(expectedAcquires, acquires.get());
+        assertEquals(1, postProcessed.get());
+        List<RepositoryEvent> events = listener.getEvents();
+        assertEquals(6, events.size(), events.toString());
+        for (int i = 0; i < artifacts.size(); i++) {
+            assertEquals(EventType.ARTIFACT_RESOLVING, events.get(2 * i).getType());
+            assertEquals(artifacts.get(i), events.get(2 * i).getArtifact());
+            assertEquals(EventType.ARTIFACT_RESOLVED, events.get(2 * i + 1).getType());
+            assertEquals(artifacts.get(i), events.get(2 * i + 1).getArtifact().setPath(null));
+        }
+    }
+
+    private static SyncContextFactory countingSyncContextFactory(AtomicInteger acquires) {
+        return (session, shared) -> new SyncContext() {
+            @Override
+            public void acquire(Collection<? extends Artifact> artifacts, Collection<? extends Metadata> metadatas) {
+                acquires.incrementAndGet();
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
     @Test
     void testResolveLocalArtifactUnsuccessful() throws IOException {
         File tmpFile = TestFileUtils.createTempFile("tmp");
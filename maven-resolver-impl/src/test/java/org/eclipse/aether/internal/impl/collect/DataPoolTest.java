@@ -18,15 +18,29 @@
  */
 package org.eclipse.aether.internal.impl.collect;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.ArtifactProperties;
 import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencyManager;
+import org.eclipse.aether.collection.DependencySelector;
 import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.Exclusion;
 import org.eclipse.aether.internal.test.util.TestUtils;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
 import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
+import org.eclipse.aether.util.graph.manager.TransitiveDependencyManager;
+import org.eclipse.aether.util.graph.selector.ExclusionDependencySelector;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,4 +89,138 @@ public class DataPoolTest {
         Object key2 = pool.toKey(request);
         assertEquals(key1, key2);
     }
+
+    @Test
+    void testSystemScopedPools() {
+        DataPool.SystemPools systemPools = new DataPool.SystemPools();
+        DefaultRepositorySystemSession session1 = TestUtils.newSession();
+        session1.setConfigProperty(DataPool.CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED, true);
+        DefaultRepositorySystemSession session2 = TestUtils.newSession();
+        session2.setConfigProperty(DataPool.CONFIG_PROP_COLLECTOR_POOL_SYSTEM_SCOPED, true);
+
+        Artifact artifact = new DefaultArtifact("gid:aid:1");
+        Dependency dependency = new Dependency(artifact, "compile");
+        assertSame(artifact, new DataPool(session1, systemPools).intern(artifact));
+        assertSame(dependency, new DataPool(session1, systemPools).intern(dependency));
+        assertSame(artifact, new DataPool(session2, systemPools).intern(new DefaultArtifact("gid:aid:1")));
+        assertSame(
+                dependency,
+                new DataPool(session2, systemPools).intern(new Dependency(new DefaultArtifact("gid:aid:1"), "compile")));
+
+        // not enabled: session scoped pool is used
+        DefaultRepositorySystemSession session3 = TestUtils.newSession();
+        assertNotSame(artifact, new DataPool(session3, systemPools).intern(new DefaultArtifact("gid:aid:1")));
+    }
+
+    @Test
+    void testDerivations() {
+        AtomicInteger derivations = new AtomicInteger();
+        DependencySelector delegate = new ExclusionDependencySelector();
+        DependencySelector parent = new DependencySelector() {
+            @Override
+            public boolean selectDependency(Dependency dependency) {
+                return delegate.selectDependency(dependency);
+            }
+
+            @Override
+            public DependencySelector deriveChildSelector(DependencyCollectionContext context) {
+                derivations.incrementAndGet();
+                return delegate.deriveChildSelector(context);
+            }
+        };
+        Collection<Exclusion> exclusions = Collections.singleton(new Exclusion("gid", "excluded", "*", "*"));
+        Dependency dep1 = new Dependency(new DefaultArtifact("gid:aid1:1"), "compile", false, exclusions);
+        Dependency dep2 = new Dependency(new DefaultArtifact("gid:aid2:1"), "compile", false, exclusions);
+        List<Dependency> managed = Collections.emptyList();
+        DefaultRepositorySystemSession session = TestUtils.newSession();
+        DefaultDependencyCollectionContext context =
+                new DefaultDependencyCollectionContext(session, null, null, Collections.emptyList());
+
+        DataPool pool = new DataPool(session);
+        DependencySelector child1 = pool.deriveChildSelector(parent, context.set(dep1, managed));
+        // same parent and context: memoized
+        assertSame(child1, pool.deriveChildSelector(parent, context.set(dep1, managed)));
+        assertEquals(1, derivations.get());
+        // different context, equal result: canonicalized
+        assertSame(child1, pool.deriveChildSelector(parent, context.set(dep2, managed)));
+        assertEquals(2, derivations.get());
+        assertNull(pool.deriveChildSelector(null, context.set(dep1, managed)));
+
+        // not enabled: derived every time
+        session.setConfigProperty(DataPool.CONFIG_PROP_COLLECTOR_POOL_DERIVATIONS, false);
+        pool = new DataPool(session);
+        DependencySelector child2 = pool.deriveChildSelector(parent, context.set(dep1, managed));
+        assertEquals(child1, child2);
+        assertNotSame(child2, pool.deriveChildSelector(parent, context.set(dep1, managed)));
+        assertEquals(4, derivations.get());
+    }
+
+    @Test
+    void testDerivedManagersCanonicalizedOnlyWithSameLocalPaths() {
+        DefaultRepositorySystemSession session = TestUtils.newSession();
+        DefaultDependencyCollectionContext context =
+                new DefaultDependencyCollectionContext(session, null, null, Collections.emptyList());
+        Dependency dependency = new Dependency(new DefaultArtifact("gid:aid:1"), "compile");
+        DependencyManager parent = new TransitiveDependencyManager(null);
+        DataPool pool = new DataPool(session);
+
+        DependencyManager child1 = pool.deriveChildManager(parent, context.set(dependency, managedSystem("/a")));
+        DependencyManager child2 = pool.deriveChildManager(parent, context.set(dependency, managedSystem("/a")));
+        DependencyManager child3 = pool.deriveChildManager(parent, context.set(dependency, managedSystem("/b")));
+        assertSame(child1, child2);
+        // local paths are left out of manager equality, but they still make managers behave differently
+        assertEquals(child1, child3);
+        assertNotSame(child1, child3);
+    }
+
+    private static List<Dependency> managedSystem(String localPath) {
+        Artifact artifact = new DefaultArtifact("gid:system:1")
+                .setProperties(Collections.singletonMap(ArtifactProperties.LOCAL_PATH, localPath));
+        return Collections.singletonList(new Dependency(artifact, "system"));
+    }
+
+    @Test
+    void testGraphKeyStats() {
+        DataPool pool = new DataPool(TestUtils.newSession(), null, true);
+        Artifact artifact = new DefaultArtifact("gid:aid:1");
+        List<RemoteRepository> repositories = Collections.emptyList();
+        DependencySelector selector1 = new ExclusionDependencySelector();
+        DependencySelector selector2 = new ExclusionDependencySelector(
+                Collections.singleton(new Exclusion("gid", "excluded", "*", "*")));
+
+        Object key1 = pool.toKey(artifact, repositories, selector1, null, null, null);
+        assertNull(pool.getChildren(key1));
+        pool.putChildren(key1, Collections.emptyList());
+        assertNotNull(pool.getChildren(pool.toKey(artifact, repositories, selector1, null, null, null)));
+        Object key2 = pool.toKey(artifact, repositories, selector2, null, null, null);
+        assertNull(pool.getChildren(key2));
+        pool.putChildren(key2, Collections.emptyList());
+
+        Map<String, Object> stats = new HashMap<>();
+        pool.addStats(stats);
+        assertEquals(1L, stats.get("DataPool.graphKeyHits"));
+        assertEquals(2L, stats.get("DataPool.graphKeyMisses"));
+        assertEquals(1L, stats.get("DataPool.graphKeyMissCause.artifact"));
+        assertEquals(1L, stats.get("DataPool.graphKeyMissCause.selector"));
+        assertFalse(stats.containsKey("DataPool.graphKeyMissCause.manager"));
+    }
+
+    @Test
+    void testGraphKeyStatsWithoutMissAttribution() {
+        DataPool pool = newDataPool();
+        Artifact artifact = new DefaultArtifact("gid:aid:1");
+        List<RemoteRepository> repositories = Collections.emptyList();
+
+        Object key = pool.toKey(artifact, repositories, null, null, null, null);
+        assertNull(pool.getChildrenSpeculatively(key));
+        assertNull(pool.getChildren(key));
+        pool.putChildren(key, Collections.emptyList());
+        assertNotNull(pool.getChildrenSpeculatively(key));
+
+        Map<String, Object> stats = new HashMap<>();
+        pool.addStats(stats);
+        assertEquals(1L, stats.get("DataPool.graphKeyHits"));
+        assertEquals(1L, stats.get("DataPool.graphKeyMisses"));
+        assertFalse(stats.containsKey("DataPool.graphKeyMissCause.artifact"));
+    }
 }
@@ -20,6 +20,7 @@ package org.eclipse.aether.internal.impl.collect;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.aether.DefaultRepositorySystemSession;
@@ -245,6 +246,77 @@ public abstract class DependencyCollectorDelegateTestSupport {
         assertEqualSubtree(root, result.getRoot());
     }
 
+    @Test
+    void testBatchCollection() throws Exception {
+        DependencyNode subtree = parser.parseResource("expectedSubtreeComparisonResult.txt");
+        DependencyNode cycle = parser.parseResource("cycle.txt");
+        List<CollectRequest> requests = Arrays.asList(
+                new CollectRequest(subtree.getDependency(), singletonList(repository)),
+                new CollectRequest(cycle.getDependency(), singletonList(repository)),
+                new CollectRequest(subtree.getDependency(), singletonList(repository)));
+
+        List<CollectResult> results = collector.collectDependencies(session, requests);
+        assertEquals(requests.size(), results.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertSame(requests.get(i), results.get(i).getRequest());
+            assertEquals(0, results.get(i).getExceptions().size());
+        }
+        assertEqualSubtree(subtree, results.get(0).getRoot());
+        assertEqualSubtree(cycle, results.get(1).getRoot());
+        assertEqualSubtree(subtree, results.get(2).getRoot());
+        // graphs of batch requests must not share nodes
+        assertNotSame(results.get(0).getRoot().getChildren().get(0), results.get(2).getRoot().getChildren().get(0));
+    }
+
+    @Test
+    void testBatchCollectionFailures() throws Exception {
+        // root descriptors are not cached, hence both requests fail
+        CollectRequest missing1 =
+                new CollectRequest(newDep("missing:artifact:file:description"), singletonList(repository));
+        CollectRequest ok = new CollectRequest(newDep("gid:aid:ext:ver", "compile"), singletonList(repository));
+        CollectRequest missing2 =
+                new CollectRequest(newDep("missing:artifact:file:description"), singletonList(repository));
+        try {
+            collector.collectDependencies(session, Arrays.asList(missing1, ok, missing2));
+            fail("expected exception");
+        } catch (DependencyCollectionException e) {
+            assertSame(missing1, e.getResult().getRequest());
+            Throwable[] suppressed = e.getSuppressed();
+            DependencyCollectionException last = assertInstanceOf(
+                    DependencyCollectionException.class, suppressed[suppressed.length - 1]);
+            assertSame(missing2, last.getResult().getRequest());
+        }
+    }
+
+    @Test
+    void testBatchCollectionRuntimeFailures() throws Exception {
+        ArtifactDescriptorReader reader = newReader("");
+        AtomicInteger reads = new AtomicInteger();
+        collector = setupCollector((session, request) -> {
+            reads.incrementAndGet();
+            if ("broken".equals(request.getArtifact().getGroupId())) {
+                throw new IllegalStateException("broken");
+            }
+            return reader.readArtifactDescriptor(session, request);
+        });
+        CollectRequest broken = new CollectRequest(newDep("broken:aid:ext:ver"), singletonList(repository));
+        CollectRequest ok = new CollectRequest(newDep("gid:aid:ext:ver", "compile"), singletonList(repository));
+        CollectRequest missing =
+                new CollectRequest(newDep("missing:artifact:file:description"), singletonList(repository));
+        try {
+            collector.collectDependencies(session, Arrays.asList(broken, ok, missing));
+            fail("expected exception");
+        } catch (IllegalStateException e) {
+            // all requests were collected, and failure of the last one is not lost
+            assertEquals("broken", e.getMessage());
+            assertTrue(reads.get() >= 3);
+            Throwable[] suppressed = e.getSuppressed();
+            DependencyCollectionException last = assertInstanceOf(
+                    DependencyCollectionException.class, suppressed[suppressed.length - 1]);
+            assertSame(missing, last.getResult().getRequest());
+        }
+    }
+
     @Test
     void testCyclicDependencies() throws Exception {
         DependencyNode root = parser.parseResource("cycle.txt");
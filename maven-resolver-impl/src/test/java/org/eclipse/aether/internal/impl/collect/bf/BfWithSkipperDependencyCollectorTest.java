@@ -30,6 +30,7 @@ import org.eclipse.aether.graph.Exclusion;
 import org.eclipse.aether.impl.ArtifactDescriptorReader;
 import org.eclipse.aether.internal.impl.StubRemoteRepositoryManager;
 import org.eclipse.aether.internal.impl.StubVersionRangeResolver;
+import org.eclipse.aether.internal.impl.collect.DataPool;
 import org.eclipse.aether.internal.impl.collect.DependencyCollectorDelegate;
 import org.eclipse.aether.internal.impl.collect.DependencyCollectorDelegateTestSupport;
 import org.eclipse.aether.internal.test.util.DependencyGraphParser;
@@ -53,7 +54,8 @@ public class BfWithSkipperDependencyCollectorTest extends DependencyCollectorDel
                 new StubRemoteRepositoryManager(),
                 artifactDescriptorReader,
                 new StubVersionRangeResolver(),
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new DataPool.SystemPools());
     }
 
     @Override
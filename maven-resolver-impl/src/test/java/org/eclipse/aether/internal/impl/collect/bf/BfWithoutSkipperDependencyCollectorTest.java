@@ -23,6 +23,7 @@ import java.util.Collections;
 import org.eclipse.aether.impl.ArtifactDescriptorReader;
 import org.eclipse.aether.internal.impl.StubRemoteRepositoryManager;
 import org.eclipse.aether.internal.impl.StubVersionRangeResolver;
+import org.eclipse.aether.internal.impl.collect.DataPool;
 import org.eclipse.aether.internal.impl.collect.DependencyCollectorDelegate;
 import org.eclipse.aether.internal.impl.collect.DependencyCollectorDelegateTestSupport;
 
@@ -38,7 +39,8 @@ public class BfWithoutSkipperDependencyCollectorTest extends DependencyCollector
                 new StubRemoteRepositoryManager(),
                 artifactDescriptorReader,
                 new StubVersionRangeResolver(),
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new DataPool.SystemPools());
     }
 
     @Override
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.internal.impl.scope;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.ArtifactProperties;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.impl.scope.BuildScope;
+import org.eclipse.aether.impl.scope.BuildScopeMatrixSource;
+import org.eclipse.aether.impl.scope.BuildScopeSource;
+import org.eclipse.aether.impl.scope.CommonBuilds;
+import org.eclipse.aether.impl.scope.InternalScopeManager;
+import org.eclipse.aether.impl.scope.ScopeManagerConfiguration;
+import org.eclipse.aether.scope.DependencyScope;
+import org.eclipse.aether.scope.ResolutionScope;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.aether.impl.scope.BuildScopeQuery.all;
+import static org.eclipse.aether.impl.scope.BuildScopeQuery.byBuildPath;
+import static org.eclipse.aether.impl.scope.BuildScopeQuery.byProjectPath;
+import static org.eclipse.aether.impl.scope.BuildScopeQuery.select;
+import static org.eclipse.aether.impl.scope.BuildScopeQuery.union;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScopeManagerImplTest {
+    /**
+     * Subset of Maven 3 scopes.
+     */
+    private static final class TestScopeManagerConfiguration implements ScopeManagerConfiguration {
+        @Override
+        public String getId() {
+            return "test";
+        }
+
+        @Override
+        public boolean isStrictDependencyScopes() {
+            return false;
+        }
+
+        @Override
+        public boolean isStrictResolutionScopes() {
+            return false;
+        }
+
+        @Override
+        public BuildScopeSource getBuildScopeSource() {
+            return new BuildScopeMatrixSource(
+                    Arrays.asList(CommonBuilds.PROJECT_PATH_MAIN, CommonBuilds.PROJECT_PATH_TEST),
+                    Arrays.asList(CommonBuilds.BUILD_PATH_COMPILE, CommonBuilds.BUILD_PATH_RUNTIME),
+                    CommonBuilds.MAVEN_TEST_BUILD_SCOPE);
+        }
+
+        @Override
+        public Collection<DependencyScope> buildDependencyScopes(InternalScopeManager internalScopeManager) {
+            ArrayList<DependencyScope> result = new ArrayList<>();
+            result.add(internalScopeManager.createDependencyScope("compile", true, all()));
+            result.add(internalScopeManager.createDependencyScope(
+                    "runtime", true, byBuildPath(CommonBuilds.BUILD_PATH_RUNTIME)));
+            result.add(internalScopeManager.createDependencyScope(
+                    "provided",
+                    false,
+                    union(
+                            byBuildPath(CommonBuilds.BUILD_PATH_COMPILE),
+                            select(CommonBuilds.PROJECT_PATH_TEST, CommonBuilds.BUILD_PATH_RUNTIME))));
+            result.add(internalScopeManager.createDependencyScope(
+                    "test", false, byProjectPath(CommonBuilds.PROJECT_PATH_TEST)));
+            result.add(internalScopeManager.createSystemDependencyScope(
+                    "system", false, all(), ArtifactProperties.LOCAL_PATH));
+            return result;
+        }
+
+        @Override
+        public Collection<ResolutionScope> buildResolutionScopes(InternalScopeManager internalScopeManager) {
+            return Collections.emptyList();
+        }
+    }
+
+    @Test
+    void buildScopeArtifacts() {
+        InternalScopeManager scopeManager = new ScopeManagerImpl(new TestScopeManagerConfiguration());
+
+        DependencyNode a = node("a", "compile");
+        DependencyNode b = node("b", "runtime");
+        DependencyNode c = node("c", "provided");
+        DependencyNode d = node("d", "test");
+        DependencyNode e = node("e", "system");
+        DependencyNode f = node("f", "unknown");
+        a.setChildren(new ArrayList<>(Arrays.asList(b, d)));
+        DependencyNode root = new DefaultDependencyNode(new DefaultArtifact("g:root:1"));
+        root.setChildren(new ArrayList<>(Arrays.asList(a, c, d, e, f, a)));
+
+        Map<BuildScope, List<Artifact>> artifacts = scopeManager.getBuildScopeArtifacts(root);
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("main-compile", "a, c, e");
+        expected.put("test-compile", "a, d, c, e");
+        expected.put("test-runtime", "a, b, d, c, e");
+        expected.put("main-runtime", "a, b, e");
+        expected.put("test", "a, b, d, c, e");
+        Map<String, String> actual = new LinkedHashMap<>();
+        artifacts.forEach((buildScope, list) -> actual.put(
+                buildScope.getId(),
+                list.stream().map(Artifact::getArtifactId).collect(Collectors.joining(", "))));
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+    }
+
+    private static DependencyNode node(String artifactId, String scope) {
+        return new DefaultDependencyNode(new Dependency(new DefaultArtifact("g:" + artifactId + ":1"), scope));
+    }
+}
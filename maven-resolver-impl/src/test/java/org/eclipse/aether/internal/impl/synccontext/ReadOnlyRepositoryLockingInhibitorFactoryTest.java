@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.internal.impl.synccontext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.test.util.TestLocalRepositoryManager;
+import org.eclipse.aether.internal.test.util.TestUtils;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.spi.locking.LockingInhibitor;
+import org.eclipse.aether.util.repository.ChainedLocalRepositoryManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReadOnlyRepositoryLockingInhibitorFactoryTest {
+    @Test
+    void disabledByDefault() {
+        DefaultRepositorySystemSession session = TestUtils.newSession();
+        session.setLocalRepositoryManager(new ChainedLocalRepositoryManager(
+                new TestLocalRepositoryManager(),
+                Collections.singletonList(new TestLocalRepositoryManager()),
+                true));
+        assertFalse(new ReadOnlyRepositoryLockingInhibitorFactory()
+                .newInstance(session)
+                .isPresent());
+    }
+
+    @Test
+    void disabledWithoutReadOnlyTail() {
+        DefaultRepositorySystemSession session = TestUtils.newSession();
+        session.setConfigProperty(ReadOnlyRepositoryLockingInhibitorFactory.CONFIG_PROP_ENABLED, true);
+        ReadOnlyRepositoryLockingInhibitorFactory factory = new ReadOnlyRepositoryLockingInhibitorFactory();
+        assertFalse(factory.newInstance(session).isPresent());
+
+        // tail is install target
+        session.setLocalRepositoryManager(new ChainedLocalRepositoryManager(
+                new TestLocalRepositoryManager(),
+                Collections.singletonList(new TestLocalRepositoryManager()),
+                true,
+                1,
+                0));
+        assertFalse(factory.newInstance(session).isPresent());
+    }
+
+    @Test
+    void presentReleasesInhibitedOnlyForShared() throws IOException {
+        DefaultRepositorySystemSession session = TestUtils.newSession();
+        session.setConfigProperty(ReadOnlyRepositoryLockingInhibitorFactory.CONFIG_PROP_ENABLED, true);
+        LocalRepositoryManager head = new TestLocalRepositoryManager();
+        LocalRepositoryManager tail = new TestLocalRepositoryManager();
+        session.setLocalRepositoryManager(
+                new ChainedLocalRepositoryManager(head, Collections.singletonList(tail), true));
+        Artifact release = new DefaultArtifact("group:artifact:1.0");
+        Artifact snapshot = new DefaultArtifact("group:artifact:1.0-SNAPSHOT");
+        Artifact inHead = new DefaultArtifact("group:artifact:3.0");
+        for (Artifact artifact : new Artifact[] {release, snapshot}) {
+            createFile(tail.getAbsolutePathForLocalArtifact(artifact));
+        }
+        createFile(head.getAbsolutePathForLocalArtifact(inHead));
+
+        LockingInhibitor inhibitor = new ReadOnlyRepositoryLockingInhibitorFactory()
+                .newInstance(session)
+                .orElseThrow(IllegalStateException::new);
+        assertTrue(inhibitor.preventArtifactLocking(release, true));
+        assertFalse(inhibitor.preventArtifactLocking(release, false));
+        assertFalse(inhibitor.preventArtifactLocking(release));
+        assertFalse(inhibitor.preventArtifactLocking(snapshot, true));
+        assertFalse(inhibitor.preventArtifactLocking(inHead, true));
+        assertFalse(inhibitor.preventArtifactLocking(new DefaultArtifact("group:artifact:2.0"), true));
+    }
+
+    private static void createFile(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+}
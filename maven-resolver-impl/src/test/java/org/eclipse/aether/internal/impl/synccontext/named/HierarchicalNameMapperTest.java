@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.internal.impl.synccontext.named;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.SyncContext;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.metadata.DefaultMetadata;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.named.NamedLock;
+import org.eclipse.aether.named.NamedLockFactory;
+import org.eclipse.aether.named.NamedLockKey;
+import org.eclipse.aether.named.providers.LocalReadWriteLockNamedLockFactory;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HierarchicalNameMapperTest extends NameMapperTestSupport {
+    NameMapper mapper = NameMappers.hierarchicalGaecvNameMapper();
+
+    @Test
+    void nameLocksIncludesGroupLocks() {
+        DefaultArtifact artifact = new DefaultArtifact("group:artifact:1.0");
+        Collection<NamedLockKey> names = mapper.nameLocks(session, singletonList(artifact), null);
+        assertEquals(2, names.size());
+        NamedLockKey groupKey = groupKey(
+                mapper.nameHierarchicalLocks(session, singletonList(artifact), null, true)
+                        .getGroupLocks());
+        assertEquals(groupKey, names.iterator().next());
+    }
+
+    @Test
+    void sharedRequest() {
+        List<Artifact> artifacts = artifacts("group", 20);
+        NameMapper.HierarchicalNames names = mapper.nameHierarchicalLocks(session, artifacts, null, true);
+        assertEquals(1, names.getGroupLocks().size());
+        assertFalse(names.getGroupLocks().values().iterator().next());
+        assertEquals(20, names.getLocks().size());
+    }
+
+    @Test
+    void exclusiveRequestBelowThreshold() {
+        List<Artifact> artifacts = artifacts("group", 3);
+        NameMapper.HierarchicalNames names = mapper.nameHierarchicalLocks(session, artifacts, null, false);
+        assertEquals(1, names.getGroupLocks().size());
+        assertFalse(names.getGroupLocks().values().iterator().next());
+        assertEquals(3, names.getLocks().size());
+    }
+
+    @Test
+    void exclusiveRequestAboveThreshold() {
+        configProperties.put(HierarchicalNameMapper.CONFIG_PROP_GROUP_LOCK_THRESHOLD, "3");
+        List<Artifact> artifacts = new ArrayList<>(artifacts("group", 3));
+        artifacts.addAll(artifacts("other", 1));
+        NameMapper.HierarchicalNames names = mapper.nameHierarchicalLocks(session, artifacts, null, false);
+        assertEquals(2, names.getGroupLocks().size());
+        assertEquals(Arrays.asList(true, false), new ArrayList<>(names.getGroupLocks().values()));
+        assertEquals(1, names.getLocks().size());
+        assertTrue(names.getLocks().iterator().next().name().contains("other"));
+    }
+
+    @Test
+    void rootMetadata() {
+        DefaultMetadata metadata = new DefaultMetadata("", "", "something.xml", Metadata.Nature.RELEASE_OR_SNAPSHOT);
+        NameMapper.HierarchicalNames names =
+                mapper.nameHierarchicalLocks(session, null, singletonList(metadata), false);
+        assertTrue(names.getGroupLocks().isEmpty());
+        assertEquals(1, names.getLocks().size());
+        assertEquals(1, mapper.nameLocks(session, null, singletonList(metadata)).size());
+    }
+
+    @Test
+    void groupLocksOfSameModeAcquiredAtOnce() {
+        configProperties.put(HierarchicalNameMapper.CONFIG_PROP_GROUP_LOCK_THRESHOLD, "3");
+        List<Artifact> artifacts = new ArrayList<>(artifacts("a", 1));
+        artifacts.addAll(artifacts("b", 1));
+        artifacts.addAll(artifacts("c", 3));
+        artifacts.addAll(artifacts("d", 3));
+        NamedLockFactory delegate = new LocalReadWriteLockNamedLockFactory();
+        List<Collection<NamedLockKey>> acquisitions = new ArrayList<>();
+        NamedLockFactory factory = new NamedLockFactory() {
+            @Override
+            public NamedLock getLock(Collection<NamedLockKey> keys) {
+                acquisitions.add(keys);
+                return delegate.getLock(keys);
+            }
+
+            @Override
+            public void shutdown() {
+                delegate.shutdown();
+            }
+        };
+        NamedLockFactoryAdapter adapter = new NamedLockFactoryAdapter(mapper, factory, 1, TimeUnit.SECONDS);
+        try (SyncContext syncContext = adapter.newInstance(session, false)) {
+            syncContext.acquire(artifacts, null);
+        } finally {
+            factory.shutdown();
+        }
+        // shared group locks of "a" and "b", exclusive group locks of "c" and "d", fine locks of "a" and "b"
+        assertEquals(Arrays.asList(2, 2, 2), acquisitions.stream().map(Collection::size).collect(toList()));
+    }
+
+    private static NamedLockKey groupKey(Map<NamedLockKey, Boolean> groupLocks) {
+        assertEquals(1, groupLocks.size());
+        return groupLocks.keySet().iterator().next();
+    }
+
+    private static List<Artifact> artifacts(String groupId, int count) {
+        List<Artifact> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new DefaultArtifact(groupId + ":artifact" + i + ":1.0"));
+        }
+        return result;
+    }
+}
@@ -36,6 +36,10 @@ import static java.util.Objects.requireNonNull;
  * Factory of {@link AdaptedSemaphoreNamedLock} instances, using adapted Hazelcast {@link ISemaphore}. It delegates
  * most the work to {@link HazelcastSemaphoreProvider} and this class just adapts the returned semaphore to named lock
  * and caches {@link ISemaphore} instances, as recommended by Hazelcast.
+ * <p>
+ * Permits of CP Subsystem semaphores (unless configured as "JDK compatible") are bound to the CP session of the
+ * acquiring member or client, that is kept alive by heartbeats. If the holder dies, its session expires (see
+ * Hazelcast {@code session-time-to-live-seconds} CP Subsystem configuration) and its permits are released.
  *
  * @deprecated Hazelcast support will be dropped.
  */
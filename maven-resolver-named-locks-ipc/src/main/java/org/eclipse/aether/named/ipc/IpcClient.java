@@ -56,13 +56,17 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.aether.named.support.WaitForGraph;
+
 import static org.eclipse.aether.named.ipc.IpcMessages.REQUEST_ACQUIRE;
 import static org.eclipse.aether.named.ipc.IpcMessages.REQUEST_CLOSE;
 import static org.eclipse.aether.named.ipc.IpcMessages.REQUEST_CONTEXT;
+import static org.eclipse.aether.named.ipc.IpcMessages.REQUEST_DIAGNOSTIC;
 import static org.eclipse.aether.named.ipc.IpcMessages.REQUEST_STOP;
 import static org.eclipse.aether.named.ipc.IpcMessages.RESPONSE_ACQUIRE;
 import static org.eclipse.aether.named.ipc.IpcMessages.RESPONSE_CLOSE;
 import static org.eclipse.aether.named.ipc.IpcMessages.RESPONSE_CONTEXT;
+import static org.eclipse.aether.named.ipc.IpcMessages.RESPONSE_DIAGNOSTIC;
 import static org.eclipse.aether.named.ipc.IpcMessages.RESPONSE_STOP;
 
 /**
@@ -173,7 +177,9 @@ public class IpcClient {
                                 .toAbsolutePath()
                                 .toString();
                         args.add(java);
-                        String classpath = getJarPath(getClass()) + File.pathSeparator + getJarPath(IpcServer.class);
+                        // the server uses lock diagnostic helpers from named locks
+                        String classpath = getJarPath(getClass()) + File.pathSeparator + getJarPath(IpcServer.class)
+                                + File.pathSeparator + getJarPath(WaitForGraph.class);
                         args.add("-cp");
                         args.add(classpath);
                         String timeout = System.getProperty(IpcServer.SYSTEM_PROP_IDLE_TIMEOUT);
@@ -430,6 +436,24 @@ public class IpcClient {
         }
     }
 
+    /**
+     * Returns the diagnostic dump of server lock state, see {@link IpcServer#diagnostic()}.
+     */
+    List<String> diagnostic(long time, TimeUnit unit) throws TimeoutException {
+        try {
+            List<String> response = send(List.of(REQUEST_DIAGNOSTIC), time, unit);
+            if (response.isEmpty() || !RESPONSE_DIAGNOSTIC.equals(response.get(0))) {
+                throw new IOException("Unexpected response: " + response);
+            }
+            return response.subList(1, response.size());
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (Exception e) {
+            close(e);
+            throw new RuntimeException("Unable to get diagnostic", e);
+        }
+    }
+
     /**
      * To be used in tests to stop server immediately. Should not be used outside of tests.
      */
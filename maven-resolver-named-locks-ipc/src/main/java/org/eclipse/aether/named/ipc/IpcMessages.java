@@ -28,8 +28,16 @@ public class IpcMessages {
     public static final String REQUEST_ACQUIRE = "request-acquire";
     public static final String REQUEST_CLOSE = "request-close";
     public static final String REQUEST_STOP = "request-stop";
+    /**
+     * @since 2.0.23
+     */
+    public static final String REQUEST_DIAGNOSTIC = "request-diagnostic";
     public static final String RESPONSE_CONTEXT = "response-context";
     public static final String RESPONSE_ACQUIRE = "response-acquire";
     public static final String RESPONSE_CLOSE = "response-close";
     public static final String RESPONSE_STOP = "response-stop";
+    /**
+     * @since 2.0.23
+     */
+    public static final String RESPONSE_DIAGNOSTIC = "response-diagnostic";
 }
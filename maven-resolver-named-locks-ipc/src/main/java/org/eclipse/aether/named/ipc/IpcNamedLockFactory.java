@@ -25,6 +25,7 @@ import javax.inject.Singleton;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.aether.named.NamedLock;
@@ -80,6 +81,26 @@ public class IpcNamedLockFactory extends NamedLockFactorySupport {
         throw new IllegalStateException("should not get here");
     }
 
+    /**
+     * If diagnostic collection is enabled, in addition to dump of this factory, dumps the lock state of IPC server,
+     * that coordinates locks of all processes.
+     */
+    @Override
+    public <E extends Throwable> E onFailure(E failure) {
+        super.onFailure(failure);
+        if (isDiagnosticEnabled()) {
+            try {
+                logger.info("Diagnostic dump of IPC server");
+                logger.info("============================");
+                client.diagnostic(10, TimeUnit.SECONDS).forEach(logger::info);
+                logger.info("");
+            } catch (Exception e) {
+                logger.info("Failed to get diagnostic dump of IPC server", e);
+            }
+        }
+        return failure;
+    }
+
     @Override
     protected void doShutdown() {
         client.close();
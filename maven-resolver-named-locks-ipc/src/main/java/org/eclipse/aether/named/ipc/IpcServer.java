@@ -18,27 +18,41 @@
  */
 package org.eclipse.aether.named.ipc;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.SocketAddress;
-import java.nio.channels.ByteChannel;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.aether.named.support.WaitForGraph;
+
 /**
  * Implementation of the server side.
  * The server instance is bound to a given maven repository.
+ * <p>
+ * The server runs a single event loop thread, that multiplexes all the client connections using a {@link Selector}.
+ * All the server state (contexts, locks and their wait queues) is confined to the event loop thread, and waiting
+ * lock requests are granted (and responded to) as soon as the lock is released, without polling.
  *
  * @since 2.0.1
  */
@@ -109,19 +123,37 @@ public class IpcServer {
 
     public static final boolean DEFAULT_DEBUG = false;
 
+    /**
+     * The maximum size in bytes of a single request received from a client. A client sending a larger request is
+     * disconnected, so that a misbehaving client cannot make the server buffer an unbounded amount of input.
+     *
+     * @configurationSource {@link System#getProperty(String, String)}
+     * @configurationType {@link java.lang.Integer}
+     * @configurationDefaultValue {@link #DEFAULT_MAX_REQUEST_SIZE}
+     * @since 2.0.23
+     */
+    public static final String SYSTEM_PROP_MAX_REQUEST_SIZE = "aether.named.ipc.maxRequestSize";
+
+    public static final int DEFAULT_MAX_REQUEST_SIZE = 16 * 1024 * 1024;
+
     private final ServerSocketChannel serverSocket;
-    private final Map<SocketChannel, Thread> clients = new ConcurrentHashMap<>();
+    private final Selector selector;
+    private final Map<SocketChannel, Client> clients = new ConcurrentHashMap<>();
     private final AtomicInteger counter = new AtomicInteger();
-    private final Map<String, Lock> locks = new ConcurrentHashMap<>();
-    private final Map<String, Context> contexts = new ConcurrentHashMap<>();
+    private final Map<String, Lock> locks = new HashMap<>();
+    private final Map<String, Context> contexts = new HashMap<>();
     private static final boolean DEBUG =
             Boolean.parseBoolean(System.getProperty(SYSTEM_PROP_DEBUG, Boolean.toString(DEFAULT_DEBUG)));
+    private static final int MAX_REQUEST_SIZE =
+            Integer.getInteger(SYSTEM_PROP_MAX_REQUEST_SIZE, DEFAULT_MAX_REQUEST_SIZE);
     private final long idleTimeout;
     private volatile long lastUsed;
     private volatile boolean closing;
 
     public IpcServer(SocketFamily family) throws IOException {
         serverSocket = family.openServerSocket();
+        serverSocket.configureBlocking(false);
+        selector = Selector.open();
         long timeout = TimeUnit.SECONDS.toNanos(DEFAULT_IDLE_TIMEOUT);
         String str = System.getProperty(SYSTEM_PROP_IDLE_TIMEOUT);
         if (str != null) {
@@ -212,135 +244,275 @@ public class IpcServer {
         try {
             info("IpcServer started at %s", getLocalAddress().toString());
             use();
-            run(this::expirationCheck, true);
+            serverSocket.register(selector, SelectionKey.OP_ACCEPT);
             while (!closing) {
-                SocketChannel socket = this.serverSocket.accept();
-                run(() -> client(socket), false);
+                long left = (lastUsed + idleTimeout) - System.nanoTime();
+                if (clients.isEmpty() && left < 0) {
+                    info("IpcServer expired, closing");
+                    close();
+                    break;
+                }
+                // with clients connected, the server cannot expire, so wait for events without timeout
+                selector.select(clients.isEmpty() ? Math.max(1, TimeUnit.NANOSECONDS.toMillis(left)) : 0);
+                if (Thread.currentThread().isInterrupted()) {
+                    info("IpcServer interrupted, closing");
+                    close();
+                    break;
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Client client = (Client) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                client.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                client.write();
+                            }
+                        } catch (Throwable t) {
+                            if (!closing) {
+                                error("Error processing request", t);
+                            }
+                            client.close();
+                        }
+                    }
+                }
             }
         } catch (Throwable t) {
             if (!closing) {
                 error("Error running sync server loop", t);
             }
+        } finally {
+            closing = true;
+            new ArrayList<>(clients.values()).forEach(Client::close);
+            try {
+                serverSocket.close();
+                selector.close();
+            } catch (IOException e) {
+                // ignore
+            }
         }
     }
 
-    private void client(SocketChannel socket) {
-        int c;
-        synchronized (clients) {
-            clients.put(socket, Thread.currentThread());
-            c = clients.size();
+    private void accept() throws IOException {
+        SocketChannel socket = serverSocket.accept();
+        if (socket == null) {
+            return;
         }
-        info("New client connected (%d connected)", c);
+        socket.configureBlocking(false);
+        Client client = new Client(socket);
+        client.key = socket.register(selector, SelectionKey.OP_READ, client);
+        clients.put(socket, client);
+        info("New client connected (%d connected)", clients.size());
         use();
-        Map<String, Context> clientContexts = new ConcurrentHashMap<>();
+    }
+
+    private void use() {
+        lastUsed = System.nanoTime();
+    }
+
+    void close() {
+        closing = true;
         try {
-            ByteChannel wrapper = new ByteChannelWrapper(socket);
-            DataInputStream input = new DataInputStream(Channels.newInputStream(wrapper));
-            DataOutputStream output = new DataOutputStream(Channels.newOutputStream(wrapper));
-            while (!closing) {
-                int requestId = input.readInt();
-                int sz = input.readInt();
-                List<String> request = new ArrayList<>(sz);
-                for (int i = 0; i < sz; i++) {
-                    request.add(input.readUTF());
+            serverSocket.close();
+        } catch (IOException e) {
+            error("Error closing server socket", e);
+        }
+        selector.wakeup();
+    }
+
+    /**
+     * A connected client: buffers incoming bytes until complete requests are received, and queues outgoing
+     * responses until the socket accepts them.
+     */
+    private class Client {
+        final SocketChannel socket;
+        final Map<String, Context> clientContexts = new HashMap<>();
+        final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        ByteBuffer input = ByteBuffer.allocate(1024);
+        SelectionKey key;
+
+        Client(SocketChannel socket) {
+            this.socket = socket;
+        }
+
+        void read() throws IOException {
+            int read;
+            while ((read = socket.read(input)) > 0 && key.isValid()) {
+                if (!input.hasRemaining()) {
+                    processRequests();
+                    if (!input.hasRemaining()) {
+                        if (input.capacity() >= MAX_REQUEST_SIZE) {
+                            throw new IOException("Received request exceeding " + MAX_REQUEST_SIZE + " bytes");
+                        }
+                        ByteBuffer larger = ByteBuffer.allocate(Math.min(input.capacity() * 2, MAX_REQUEST_SIZE));
+                        input.flip();
+                        larger.put(input);
+                        input = larger;
+                    }
                 }
-                if (request.isEmpty()) {
-                    throw new IOException("Received invalid request");
+            }
+            processRequests();
+            if (read < 0) {
+                close();
+            }
+        }
+
+        private void processRequests() throws IOException {
+            input.flip();
+            while (!closing && key.isValid() && processRequest()) {
+                // processed one request
+            }
+            input.compact();
+        }
+
+        /**
+         * Processes one request, if fully received, and returns {@code true}, otherwise returns {@code false}.
+         */
+        private boolean processRequest() throws IOException {
+            int start = input.position();
+            if (input.remaining() < 8) {
+                return false;
+            }
+            int requestId = input.getInt(start);
+            int sz = input.getInt(start + 4);
+            if (sz <= 0) {
+                throw new IOException("Received invalid request");
+            }
+            int end = start + 8;
+            for (int i = 0; i < sz; i++) {
+                if (input.limit() - end < 2) {
+                    return false;
                 }
-                use();
-                String contextId;
-                Context context;
-                String command = request.remove(0);
-                switch (command) {
-                    case IpcMessages.REQUEST_CONTEXT:
-                        if (request.size() != 1) {
-                            throw new IOException("Expected one argument for " + command + " but got " + request);
-                        }
-                        boolean shared = Boolean.parseBoolean(request.remove(0));
-                        context = new Context(shared);
-                        contexts.put(context.id, context);
-                        clientContexts.put(context.id, context);
-                        synchronized (output) {
-                            debug("Created context %s", context.id);
-                            output.writeInt(requestId);
-                            output.writeInt(2);
-                            output.writeUTF(IpcMessages.RESPONSE_CONTEXT);
-                            output.writeUTF(context.id);
-                            output.flush();
-                        }
-                        break;
-                    case IpcMessages.REQUEST_ACQUIRE:
-                        if (request.isEmpty()) {
-                            throw new IOException(
-                                    "Expected at least one argument for " + command + " but got " + request);
-                        }
-                        contextId = request.remove(0);
-                        context = contexts.get(contextId);
-                        if (context == null) {
-                            throw new IOException(
-                                    "Unknown context: " + contextId + ". Known contexts = " + contexts.keySet());
-                        }
-                        context.lock(request).thenRun(() -> {
-                            try {
-                                synchronized (output) {
-                                    debug("Locking in context %s", context.id);
-                                    output.writeInt(requestId);
-                                    output.writeInt(1);
-                                    output.writeUTF(IpcMessages.RESPONSE_ACQUIRE);
-                                    output.flush();
-                                }
-                            } catch (IOException e) {
-                                try {
-                                    socket.close();
-                                } catch (IOException ioException) {
-                                    e.addSuppressed(ioException);
-                                }
+                end += 2 + (input.getShort(end) & 0xFFFF);
+            }
+            if (end > input.limit()) {
+                return false;
+            }
+            DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(input.array(), input.arrayOffset() + start + 8, end - start - 8));
+            List<String> request = new ArrayList<>(sz);
+            for (int i = 0; i < sz; i++) {
+                request.add(in.readUTF());
+            }
+            input.position(end);
+            use();
+            handle(requestId, request);
+            return true;
+        }
+
+        private void handle(int requestId, List<String> request) throws IOException {
+            String contextId;
+            Context context;
+            String command = request.remove(0);
+            switch (command) {
+                case IpcMessages.REQUEST_CONTEXT:
+                    if (request.size() != 1) {
+                        throw new IOException("Expected one argument for " + command + " but got " + request);
+                    }
+                    boolean shared = Boolean.parseBoolean(request.remove(0));
+                    context = new Context(shared);
+                    contexts.put(context.id, context);
+                    clientContexts.put(context.id, context);
+                    debug("Created context %s", context.id);
+                    respond(requestId, IpcMessages.RESPONSE_CONTEXT, context.id);
+                    break;
+                case IpcMessages.REQUEST_ACQUIRE:
+                    if (request.isEmpty()) {
+                        throw new IOException("Expected at least one argument for " + command + " but got " + request);
+                    }
+                    contextId = request.remove(0);
+                    context = contexts.get(contextId);
+                    if (context == null) {
+                        throw new IOException(
+                                "Unknown context: " + contextId + ". Known contexts = " + contexts.keySet());
+                    }
+                    context.lock(request).thenRun(() -> {
+                        try {
+                            debug("Locking in context %s", context.id);
+                            respond(requestId, IpcMessages.RESPONSE_ACQUIRE);
+                        } catch (IOException e) {
+                            if (!closing) {
                                 error("Error writing lock response", e);
                             }
-                        });
-                        break;
-                    case IpcMessages.REQUEST_CLOSE:
-                        if (request.size() != 1) {
-                            throw new IOException("Expected one argument for " + command + " but got " + request);
-                        }
-                        contextId = request.remove(0);
-                        context = contexts.remove(contextId);
-                        clientContexts.remove(contextId);
-                        if (context == null) {
-                            throw new IOException(
-                                    "Unknown context: " + contextId + ". Known contexts = " + contexts.keySet());
-                        }
-                        context.unlock();
-                        synchronized (output) {
-                            debug("Closing context %s", context.id);
-                            output.writeInt(requestId);
-                            output.writeInt(1);
-                            output.writeUTF(IpcMessages.RESPONSE_CLOSE);
-                            output.flush();
+                            close();
                         }
-                        break;
-                    case IpcMessages.REQUEST_STOP:
-                        if (!request.isEmpty()) {
-                            throw new IOException("Expected zero argument for " + command + " but got " + request);
-                        }
-                        synchronized (output) {
-                            debug("Stopping server");
-                            output.writeInt(requestId);
-                            output.writeInt(1);
-                            output.writeUTF(IpcMessages.RESPONSE_STOP);
-                            output.flush();
-                        }
-                        close();
-                        break;
-                    default:
-                        throw new IOException("Unknown request: " + request.get(0));
+                    });
+                    break;
+                case IpcMessages.REQUEST_CLOSE:
+                    if (request.size() != 1) {
+                        throw new IOException("Expected one argument for " + command + " but got " + request);
+                    }
+                    contextId = request.remove(0);
+                    context = contexts.remove(contextId);
+                    clientContexts.remove(contextId);
+                    if (context == null) {
+                        throw new IOException(
+                                "Unknown context: " + contextId + ". Known contexts = " + contexts.keySet());
+                    }
+                    context.unlock();
+                    debug("Closing context %s", context.id);
+                    respond(requestId, IpcMessages.RESPONSE_CLOSE);
+                    break;
+                case IpcMessages.REQUEST_DIAGNOSTIC:
+                    if (!request.isEmpty()) {
+                        throw new IOException("Expected zero argument for " + command + " but got " + request);
+                    }
+                    List<String> dump = diagnostic();
+                    dump.add(0, IpcMessages.RESPONSE_DIAGNOSTIC);
+                    respond(requestId, dump.toArray(new String[0]));
+                    break;
+                case IpcMessages.REQUEST_STOP:
+                    if (!request.isEmpty()) {
+                        throw new IOException("Expected zero argument for " + command + " but got " + request);
+                    }
+                    debug("Stopping server");
+                    respond(requestId, IpcMessages.RESPONSE_STOP);
+                    IpcServer.this.close();
+                    break;
+                default:
+                    throw new IOException("Unknown request: " + command);
+            }
+        }
+
+        private void respond(int requestId, String... response) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(requestId);
+            out.writeInt(response.length);
+            for (String s : response) {
+                out.writeUTF(s);
+            }
+            output.add(ByteBuffer.wrap(bytes.toByteArray()));
+            write();
+        }
+
+        void write() throws IOException {
+            while (!output.isEmpty()) {
+                ByteBuffer buffer = output.peek();
+                socket.write(buffer);
+                if (buffer.hasRemaining()) {
+                    break;
                 }
+                output.poll();
             }
-        } catch (Throwable t) {
-            if (!closing) {
-                error("Error processing request", t);
+            if (key.isValid()) {
+                key.interestOps(output.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+
+        void close() {
+            if (!clients.remove(socket, this)) {
+                return;
             }
-        } finally {
             if (!closing) {
                 info("Client disconnecting...");
             }
@@ -348,72 +520,74 @@ public class IpcServer {
                 contexts.remove(context.id);
                 context.unlock();
             });
+            clientContexts.clear();
+            key.cancel();
             try {
                 socket.close();
             } catch (IOException ioException) {
                 // ignore
             }
-            synchronized (clients) {
-                clients.remove(socket);
-                c = clients.size();
-            }
             if (!closing) {
-                info("%d clients remained", c);
+                info("%d clients remained", clients.size());
             }
         }
     }
 
-    private void use() {
-        lastUsed = System.nanoTime();
-    }
-
-    private void expirationCheck() {
-        while (true) {
-            long current = System.nanoTime();
-            long left = (lastUsed + idleTimeout) - current;
-            if (clients.isEmpty() && left < 0) {
-                info("IpcServer expired, closing");
-                close();
-                break;
-            } else {
-                try {
-                    Thread.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(left)));
-                } catch (InterruptedException e) {
-                    info("IpcServer expiration check interrupted, closing");
-                    close();
-                    break;
+    /**
+     * Dumps the state of locks: holders and waiters of each lock, and the "wait-for" graph of contexts (context
+     * waiting for a lock points to the contexts holding the lock in a conflicting mode) with any cycle in it
+     * (deadlock). Must be invoked from the event loop thread.
+     */
+    List<String> diagnostic() {
+        List<String> result = new ArrayList<>();
+        long now = System.nanoTime();
+        result.add("Contexts: " + contexts.size());
+        result.add("Active locks: " + locks.size());
+        Map<String, Set<String>> waitFor = new TreeMap<>();
+        for (Lock lock : locks.values()) {
+            result.add("Name: " + lock.key);
+            if (lock.holders != null) {
+                lock.holders.forEach(c -> result.add("  held by " + c));
+            }
+            if (lock.waiters != null) {
+                for (Waiter waiter : lock.waiters) {
+                    result.add("  waited by " + waiter.context + " for "
+                            + TimeUnit.NANOSECONDS.toMillis(now - waiter.since) + "ms");
+                    if (lock.holders != null) {
+                        lock.holders.stream()
+                                .filter(c -> c != waiter.context && !(c.shared && waiter.context.shared))
+                                .forEach(c -> waitFor.computeIfAbsent(waiter.context.id, k -> new TreeSet<>())
+                                        .add(c.id));
+                    }
                 }
             }
         }
-    }
-
-    void close() {
-        closing = true;
-        try {
-            serverSocket.close();
-        } catch (IOException e) {
-            error("Error closing server socket", e);
-        }
-        clients.forEach((s, t) -> {
-            try {
-                s.close();
-            } catch (IOException e) {
-                // ignore
+        if (!waitFor.isEmpty()) {
+            result.add("Wait-for graph:");
+            waitFor.forEach((k, v) -> result.add("  " + k + " -> " + v));
+            List<String> cycle = WaitForGraph.findCycle(waitFor);
+            if (!cycle.isEmpty()) {
+                result.add("Deadlock: " + cycle);
             }
-            t.interrupt();
-        });
+        }
+        return result;
     }
 
     static class Waiter {
         final Context context;
         final CompletableFuture<Void> future;
+        final long since;
 
         Waiter(Context context, CompletableFuture<Void> future) {
             this.context = context;
             this.future = future;
+            this.since = System.nanoTime();
         }
     }
 
+    /**
+     * A lock with its holders and wait queue. Accessed only from the event loop thread.
+     */
     static class Lock {
 
         final String key;
@@ -425,7 +599,7 @@ public class IpcServer {
             this.key = key;
         }
 
-        public synchronized CompletableFuture<Void> lock(Context context) {
+        public CompletableFuture<Void> lock(Context context) {
             if (holders == null) {
                 holders = new ArrayList<>();
             }
@@ -443,40 +617,40 @@ public class IpcServer {
         }
 
         public void unlock(Context context) {
-            List<CompletableFuture<Void>> toComplete;
-            synchronized (this) {
-                toComplete = new ArrayList<>();
-                if (holders.remove(context)) {
-                    while (waiters != null
-                            && !waiters.isEmpty()
-                            && (holders.isEmpty() || holders.get(0).shared && waiters.get(0).context.shared)) {
-                        Waiter waiter = waiters.remove(0);
-                        holders.add(waiter.context);
-                        toComplete.add(waiter.future);
-                    }
-                } else if (waiters != null) {
-                    for (Iterator<Waiter> it = waiters.iterator(); it.hasNext(); ) {
-                        Waiter waiter = it.next();
-                        if (waiter.context == context) {
-                            it.remove();
-                            waiter.future.cancel(false);
-                        }
+            List<CompletableFuture<Void>> toComplete = new ArrayList<>();
+            if (holders.remove(context)) {
+                while (waiters != null
+                        && !waiters.isEmpty()
+                        && (holders.isEmpty() || holders.get(0).shared && waiters.get(0).context.shared)) {
+                    Waiter waiter = waiters.remove(0);
+                    holders.add(waiter.context);
+                    toComplete.add(waiter.future);
+                }
+            } else if (waiters != null) {
+                for (Iterator<Waiter> it = waiters.iterator(); it.hasNext(); ) {
+                    Waiter waiter = it.next();
+                    if (waiter.context == context) {
+                        it.remove();
+                        waiter.future.cancel(false);
                     }
                 }
             }
             toComplete.forEach(f -> f.complete(null));
         }
 
-        public synchronized boolean isEmpty() {
+        public boolean isEmpty() {
             return (holders == null || holders.isEmpty()) && (waiters == null || waiters.isEmpty());
         }
     }
 
+    /**
+     * A lock context. Accessed only from the event loop thread.
+     */
     class Context {
 
         final String id;
         final boolean shared;
-        final List<String> locks = new CopyOnWriteArrayList<>();
+        final List<String> locks = new ArrayList<>();
 
         Context(boolean shared) {
             this.id = String.format("%08x", counter.incrementAndGet());
@@ -493,12 +667,20 @@ public class IpcServer {
         }
 
         public void unlock() {
-            locks.stream()
-                    .map(k -> IpcServer.this.locks.computeIfAbsent(k, Lock::new))
-                    .forEach(l -> {
-                        l.unlock(this);
-                        IpcServer.this.locks.compute(l.key, (k, v) -> (v == l && v.isEmpty()) ? null : v);
-                    });
+            for (String k : locks) {
+                Lock l = IpcServer.this.locks.get(k);
+                if (l != null) {
+                    l.unlock(this);
+                    if (l.isEmpty()) {
+                        IpcServer.this.locks.remove(k, l);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return id + (shared ? " (shared)" : " (exclusive)");
         }
     }
 }
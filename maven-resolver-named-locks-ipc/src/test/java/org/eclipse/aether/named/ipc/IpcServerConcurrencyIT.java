@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named.ipc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Concurrency test of {@link IpcServer}: many simulated clients (each with its own connection, as separate processes
+ * would have) repeatedly acquire and release shared and exclusive locks on overlapping keys, while the test verifies
+ * that an exclusive lock is never granted while the key is held by anyone else.
+ */
+@DisabledOnOs(value = OS.WINDOWS, disabledReason = "IPC named locks are not supported on Windows (Unix domain sockets)")
+public class IpcServerConcurrencyIT {
+    private static final int CLIENTS = 64;
+
+    private static final int ITERATIONS = 200;
+
+    private static final int KEYS = 32;
+
+    @TempDir
+    static Path tempDir;
+
+    @BeforeAll
+    static void noFork() {
+        System.setProperty(IpcServer.SYSTEM_PROP_NO_FORK, Boolean.TRUE.toString());
+    }
+
+    @AfterAll
+    static void cleanup() {
+        System.clearProperty(IpcServer.SYSTEM_PROP_NO_FORK);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.MINUTES)
+    void concurrentLocking() throws Exception {
+        Path repository = Files.createDirectories(tempDir.resolve("repository"));
+        Path log = Files.createDirectories(tempDir.resolve("log"));
+        List<IpcClient> clients = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            IpcClient client = new IpcClient(repository, log, null);
+            // connect sequentially: clients of same JVM cannot concurrently lock the server address file
+            client.ensureInitialized();
+            clients.add(client);
+        }
+        // per key: number of shared holders, or -1 if held exclusively
+        AtomicIntegerArray holders = new AtomicIntegerArray(KEYS);
+        AtomicInteger violations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                IpcClient client = clients.get(i);
+                Random random = new Random(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int acquired = 0;
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        boolean shared = random.nextInt(4) != 0;
+                        int key = random.nextInt(KEYS);
+                        String context = client.newContext(shared, 30, TimeUnit.SECONDS);
+                        client.lock(context, Collections.singletonList("key-" + key), 30, TimeUnit.SECONDS);
+                        acquired++;
+                        if (shared) {
+                            if (holders.getAndIncrement(key) < 0) {
+                                violations.incrementAndGet();
+                            }
+                            holders.decrementAndGet(key);
+                        } else {
+                            if (holders.compareAndSet(key, 0, -1)) {
+                                holders.set(key, 0);
+                            } else {
+                                violations.incrementAndGet();
+                            }
+                        }
+                        client.unlock(context);
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertEquals(CLIENTS * ITERATIONS, total);
+            assertEquals(0, violations.get(), "exclusive lock granted while key was held");
+            for (int i = 0; i < KEYS; i++) {
+                assertEquals(0, holders.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+            clients.get(0).close(); // stops the server
+            for (int i = 1; i < CLIENTS; i++) {
+                clients.get(i).close(new IOException("Closing"));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named.ipc;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IpcServerDiagnosticTest {
+    @Test
+    void deadlockReported() throws Exception {
+        IpcServer server = new IpcServer(SocketFamily.inet);
+        try {
+            IpcServer.Context one = server.new Context(false);
+            IpcServer.Context two = server.new Context(false);
+            assertTrue(one.lock(List.of("a")).isDone());
+            assertTrue(two.lock(List.of("b")).isDone());
+            assertFalse(one.lock(List.of("b")).isDone());
+            assertFalse(two.lock(List.of("a")).isDone());
+
+            List<String> dump = server.diagnostic();
+            assertTrue(dump.contains("Active locks: 2"), dump.toString());
+            assertTrue(dump.contains("  " + one.id + " -> [" + two.id + "]"), dump.toString());
+            assertTrue(dump.contains("  " + two.id + " -> [" + one.id + "]"), dump.toString());
+            assertTrue(dump.stream().anyMatch(s -> s.startsWith("Deadlock: ")), dump.toString());
+
+            one.unlock();
+            dump = server.diagnostic();
+            assertFalse(dump.stream().anyMatch(s -> s.startsWith("Deadlock: ")), dump.toString());
+        } finally {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IpcServerTest {
+    @Test
+    void oversizedRequestDisconnectsClient() throws Exception {
+        IpcServer server = new IpcServer(SocketFamily.inet);
+        Thread thread = new Thread(server::run);
+        thread.start();
+        try (SocketChannel socket = SocketChannel.open(server.getLocalAddress())) {
+            // a request announcing more and larger strings than the server accepts
+            ByteBuffer header = ByteBuffer.allocate(8);
+            header.putInt(1).putInt(Integer.MAX_VALUE).flip();
+            socket.write(header);
+            ByteBuffer string = ByteBuffer.allocate(2 + 0xFFFF);
+            string.putShort((short) 0xFFFF);
+            int read;
+            try {
+                long written = 0;
+                while (written <= IpcServer.DEFAULT_MAX_REQUEST_SIZE) {
+                    string.rewind();
+                    while (string.hasRemaining()) {
+                        written += socket.write(string);
+                    }
+                }
+                read = socket.read(ByteBuffer.allocate(1));
+            } catch (IOException e) {
+                read = -1; // connection reset by the server
+            }
+            assertEquals(-1, read);
+        } finally {
+            server.close();
+            thread.join();
+        }
+    }
+}
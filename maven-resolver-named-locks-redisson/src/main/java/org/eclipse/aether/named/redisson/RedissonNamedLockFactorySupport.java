@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.aether.named.support.NamedLockFactorySupport;
 import org.redisson.Redisson;
@@ -60,6 +61,20 @@ public abstract class RedissonNamedLockFactorySupport extends NamedLockFactorySu
 
     public static final String DEFAULT_REDIS_ADDRESS = "redis://localhost:6379";
 
+    /**
+     * The lease time of Redisson locks in seconds (the Redisson "lock watchdog timeout"). Locks acquired without
+     * explicit lease time (as named locks are) are renewed by the holder, and are released by Redis once the holder
+     * process dies and the lease time passes. Lower values release locks of crashed holders sooner, at the cost of
+     * more frequent renewals. If not set, the value from Redisson configuration file is used, if present, otherwise
+     * the Redisson default. Applies to locks of {@link RedissonReadWriteLockNamedLockFactory}, while semaphore permits
+     * of {@link RedissonSemaphoreNamedLockFactory} are not leased.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link System#getProperty(String, String)}
+     * @configurationType {@link java.lang.Long}
+     */
+    public static final String SYSTEM_PROP_LOCK_LEASE_TIME = "aether.syncContext.named.redisson.lockLeaseTime";
+
     protected final RedissonClient redissonClient;
 
     public RedissonNamedLockFactorySupport() {
@@ -109,6 +124,17 @@ public abstract class RedissonNamedLockFactorySupport extends NamedLockFactorySu
             config.useSingleServer().setAddress(defaultRedisAddress).setClientName(DEFAULT_CLIENT_NAME);
         }
 
+        String lockLeaseTime = System.getProperty(SYSTEM_PROP_LOCK_LEASE_TIME);
+        if (lockLeaseTime != null && !lockLeaseTime.isEmpty()) {
+            try {
+                config.setLockWatchdogTimeout(TimeUnit.SECONDS.toMillis(Long.parseLong(lockLeaseTime)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                        "Invalid value of " + SYSTEM_PROP_LOCK_LEASE_TIME + ": " + lockLeaseTime, e);
+            }
+        }
+        logger.trace("Redisson lock lease time is {} ms", config.getLockWatchdogTimeout());
+
         RedissonClient redissonClient = Redisson.create(config);
         logger.trace("Created Redisson client with id '{}'", redissonClient.getId());
 
@@ -27,6 +27,9 @@ import org.redisson.api.RReadWriteLock;
 
 /**
  * Provider of {@link RedissonReadWriteLockNamedLockFactory} using Redisson and {@link org.redisson.api.RReadWriteLock}.
+ * <p>
+ * Locks are leases renewed by the holder, and are released once the holder dies and lease time passes, see
+ * {@link #SYSTEM_PROP_LOCK_LEASE_TIME}.
  */
 @Singleton
 @Named(RedissonReadWriteLockNamedLockFactory.NAME)
@@ -32,6 +32,10 @@ import org.redisson.api.RSemaphore;
 
 /**
  * Provider of {@link RedissonSemaphoreNamedLockFactory} using Redisson and {@link org.redisson.api.RSemaphore}.
+ * <p>
+ * Note: semaphore permits are not leased, so permits of a process that dies while holding them are never released,
+ * and other processes waiting for them will time out. For locks that are released when the holder dies, use
+ * {@link RedissonReadWriteLockNamedLockFactory}.
  */
 @Singleton
 @Named(RedissonSemaphoreNamedLockFactory.NAME)
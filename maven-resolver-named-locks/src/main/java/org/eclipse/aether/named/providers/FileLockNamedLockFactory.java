@@ -26,12 +26,14 @@ import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -127,9 +129,18 @@ public class FileLockNamedLockFactory extends NamedLockFactorySupport {
      */
     private final LinkedHashMap<NamedLockKey, FileChannel> idleChannels;
 
+    /**
+     * Lock file parent directories known to exist. With sharded layouts (see hashing name mapper "depth") locks are
+     * spread over many directories, and checking (creating) the directory hierarchy on each channel open costs a
+     * {@code stat} syscall per path element. Once created, directories are assumed to exist; if some was removed
+     * externally, opening channel fails with {@link NoSuchFileException} and directory is recreated.
+     */
+    private final Set<Path> knownDirectories;
+
     public FileLockNamedLockFactory() {
         this.fileChannels = new ConcurrentHashMap<>();
         this.idleChannels = new LinkedHashMap<>(64, 0.75f, true); // access-order
+        this.knownDirectories = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -158,21 +169,19 @@ public class FileLockNamedLockFactory extends NamedLockFactorySupport {
 
     private FileChannel openFileChannel(NamedLockKey key, Path path) {
         try {
-            Files.createDirectories(path.getParent());
+            Path parent = path.getParent();
+            ensureDirectory(parent);
             FileChannel channel = retry(
                     ATTEMPTS,
                     SLEEP_MILLIS,
                     () -> {
-                        if (DELETE_LOCK_FILES) {
-                            return FileChannel.open(
-                                    path,
-                                    StandardOpenOption.READ,
-                                    StandardOpenOption.WRITE,
-                                    StandardOpenOption.CREATE,
-                                    StandardOpenOption.DELETE_ON_CLOSE);
-                        } else {
-                            return FileChannel.open(
-                                    path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+                        try {
+                            return doOpenFileChannel(path);
+                        } catch (NoSuchFileException e) {
+                            // parent directory was removed since we created it
+                            knownDirectories.remove(parent);
+                            ensureDirectory(parent);
+                            return doOpenFileChannel(path);
                         }
                     },
                     null,
@@ -191,6 +200,26 @@ public class FileLockNamedLockFactory extends NamedLockFactorySupport {
         }
     }
 
+    private void ensureDirectory(Path directory) throws IOException {
+        if (!knownDirectories.contains(directory)) {
+            Files.createDirectories(directory);
+            knownDirectories.add(directory);
+        }
+    }
+
+    private static FileChannel doOpenFileChannel(Path path) throws IOException {
+        if (DELETE_LOCK_FILES) {
+            return FileChannel.open(
+                    path,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } else {
+            return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        }
+    }
+
     @Override
     protected void destroyLock(final NamedLock namedLock) {
         NamedLockKey key = namedLock.key();
@@ -239,5 +268,6 @@ public class FileLockNamedLockFactory extends NamedLockFactorySupport {
             }
             idleChannels.clear();
         }
+        knownDirectories.clear();
     }
 }
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named.providers;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.named.NamedLock;
+import org.eclipse.aether.named.NamedLockKey;
+import org.eclipse.aether.named.support.CompositeNamedLock;
+import org.eclipse.aether.named.support.LockUpgradeNotSupportedException;
+import org.eclipse.aether.named.support.NamedLockFactorySupport;
+import org.eclipse.aether.named.support.NamedLockSupport;
+
+/**
+ * A JVM-local named lock factory that uses fixed count of pre-allocated monitors ("stripes"), and maps lock keys onto
+ * them by hash of key name. Unlike {@link LocalReadWriteLockNamedLockFactory}, this factory does not create (and
+ * reference count) a lock object per key: stripe only keeps the lock state of its keys that are held or waited for.
+ * Lock state is tracked per key, so unrelated keys sharing a stripe never exclude each other, they only share the
+ * monitor guarding their state. Locks of multiple keys are acquired in stripe index order, so concurrent composite
+ * acquisitions cannot deadlock each other.
+ * <p>
+ * Lock upgrade (see {@link LockUpgradeNotSupportedException}) is reported if a thread holding shared lock on a key
+ * asks for exclusive lock on the same key.
+ * <p>
+ * If diagnostic collection is enabled, locks are reference counted per key as with other factories, so they appear
+ * in diagnostic dumps and have statistics collected.
+ *
+ * @since 2.0.23
+ */
+@Singleton
+@Named(LocalStripedReadWriteLockNamedLockFactory.NAME)
+public class LocalStripedReadWriteLockNamedLockFactory extends NamedLockFactorySupport {
+    public static final String NAME = "rwlock-local-striped";
+
+    /**
+     * The count of stripes (monitors) to use. Value is rounded up to nearest power of two.
+     *
+     * @configurationSource {@link System#getProperty(String, String)}
+     * @configurationType {@link java.lang.Integer}
+     * @configurationDefaultValue {@link #DEFAULT_STRIPES}
+     */
+    public static final String SYSTEM_PROP_STRIPES = "aether.named.rwlock-local-striped.stripes";
+
+    public static final int DEFAULT_STRIPES = 1024;
+
+    private final Stripe[] stripes;
+
+    private final int mask;
+
+    public LocalStripedReadWriteLockNamedLockFactory() {
+        this(Integer.getInteger(SYSTEM_PROP_STRIPES, DEFAULT_STRIPES));
+    }
+
+    public LocalStripedReadWriteLockNamedLockFactory(int stripes) {
+        this(stripes, Boolean.getBoolean(SYSTEM_PROP_DIAGNOSTIC_ENABLED));
+    }
+
+    public LocalStripedReadWriteLockNamedLockFactory(int stripes, boolean diagnosticEnabled) {
+        super(diagnosticEnabled);
+        if (stripes < 1 || stripes > 1 << 30) {
+            throw new IllegalArgumentException("stripes must be between 1 and 2^30");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe(i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the count of stripes used by this factory.
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    @Override
+    protected NamedLock doGetLock(final Collection<NamedLockKey> keys) {
+        if (keys.size() == 1) {
+            return getStripedLock(keys.iterator().next());
+        }
+        List<NamedLock> locks = new ArrayList<>(keys.size());
+        keys.stream()
+                .distinct()
+                .sorted(Comparator.comparingInt((NamedLockKey k) -> stripe(k).index)
+                        .thenComparing(NamedLockKey::name))
+                .forEach(k -> locks.add(getStripedLock(k)));
+        List<String> resources = new ArrayList<>();
+        keys.forEach(k -> resources.addAll(k.resources()));
+        return new CompositeNamedLock(NamedLockKey.of(NAME + "-composite", resources), this, locks);
+    }
+
+    private NamedLock getStripedLock(NamedLockKey key) {
+        if (isDiagnosticEnabled()) {
+            return getLockAndRefTrack(key, () -> createLock(key));
+        }
+        return createLock(key);
+    }
+
+    @Override
+    protected NamedLockSupport createLock(final NamedLockKey key) {
+        return new StripedNamedLock(key, this, stripe(key));
+    }
+
+    private Stripe stripe(NamedLockKey key) {
+        int hash = key.name().hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    /**
+     * Lock of a key, that is a view of its stripe. If diagnostic collection is not enabled, instances are not reference
+     * counted, and are created per {@link #getLock(Collection)} invocation.
+     */
+    private static final class StripedNamedLock extends NamedLockSupport {
+        private final LocalStripedReadWriteLockNamedLockFactory factory;
+
+        private final Stripe stripe;
+
+        private StripedNamedLock(
+                NamedLockKey key, LocalStripedReadWriteLockNamedLockFactory factory, Stripe stripe) {
+            super(key, factory);
+            this.factory = factory;
+            this.stripe = stripe;
+        }
+
+        @Override
+        protected boolean doLockShared(long time, TimeUnit unit) throws InterruptedException {
+            return stripe.lock(key().name(), true, TimeUnit.NANOSECONDS.convert(time, unit));
+        }
+
+        @Override
+        protected boolean doLockExclusively(long time, TimeUnit unit) throws InterruptedException {
+            if (stripe.isUpgrade(key().name())) {
+                throw new LockUpgradeNotSupportedException(this);
+            }
+            return stripe.lock(key().name(), false, TimeUnit.NANOSECONDS.convert(time, unit));
+        }
+
+        @Override
+        protected void doUnlock() {
+            stripe.unlock(key().name());
+        }
+
+        @Override
+        protected void doClose() {
+            if (factory.isDiagnosticEnabled()) {
+                super.doClose();
+            }
+        }
+    }
+
+    /**
+     * A monitor guarding reentrant read-write lock state of keys mapped onto it. State of a key exists only while the
+     * key is held or waited for. New shared holders of a key wait while exclusive lock of the same key is asked for, to
+     * not starve it.
+     */
+    private static final class Stripe {
+        private final int index;
+
+        private final Map<String, KeyState> states = new HashMap<>();
+
+        private Stripe(int index) {
+            this.index = index;
+        }
+
+        private synchronized boolean isUpgrade(String key) {
+            KeyState state = states.get(key);
+            Thread thread = Thread.currentThread();
+            return state != null && state.writer != thread && state.holds.containsKey(thread);
+        }
+
+        private synchronized boolean lock(String key, boolean shared, long nanos) throws InterruptedException {
+            Thread thread = Thread.currentThread();
+            long deadline = System.nanoTime() + nanos;
+            KeyState state = states.computeIfAbsent(key, k -> new KeyState());
+            state.waiters++;
+            if (!shared) {
+                state.waitingWriters++;
+            }
+            boolean locked = false;
+            try {
+                while (!(shared ? state.canLockShared(thread) : state.canLockExclusively(thread))) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0L) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, left);
+                }
+                if (!shared) {
+                    state.writer = thread;
+                }
+                state.holds.computeIfAbsent(thread, t -> new ArrayDeque<>()).push(shared);
+                locked = true;
+                return true;
+            } finally {
+                state.waiters--;
+                if (!shared) {
+                    state.waitingWriters--;
+                    if (!locked) {
+                        notifyAll(); // shared waiters may have been held back by this writer
+                    }
+                }
+                if (state.isIdle()) {
+                    states.remove(key);
+                }
+            }
+        }
+
+        private synchronized void unlock(String key) {
+            Thread thread = Thread.currentThread();
+            KeyState state = states.get(key);
+            Deque<Boolean> threadHolds = state != null ? state.holds.get(thread) : null;
+            if (threadHolds == null) {
+                throw new IllegalStateException("Wrong API usage: unlock without lock");
+            }
+            boolean shared = threadHolds.pop();
+            if (!shared && !threadHolds.contains(Boolean.FALSE)) {
+                state.writer = null;
+            }
+            if (threadHolds.isEmpty()) {
+                state.holds.remove(thread);
+            }
+            if (state.isIdle()) {
+                states.remove(key);
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Lock state of one key: holds of each thread (most recent first, {@code true} for shared), the exclusive holder
+     * and the count of waiting threads.
+     */
+    private static final class KeyState {
+        private final Map<Thread, Deque<Boolean>> holds = new HashMap<>();
+
+        private Thread writer;
+
+        private int waiters;
+
+        private int waitingWriters;
+
+        private boolean canLockShared(Thread thread) {
+            if (writer != null) {
+                return writer == thread;
+            }
+            return waitingWriters == 0 || holds.containsKey(thread);
+        }
+
+        private boolean canLockExclusively(Thread thread) {
+            if (writer != null) {
+                return writer == thread;
+            }
+            return holds.isEmpty();
+        }
+
+        private boolean isIdle() {
+            return holds.isEmpty() && waiters == 0;
+        }
+    }
+}
@@ -29,27 +29,30 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.aether.named.NamedLockKey;
 
-import static org.eclipse.aether.named.support.Retry.retry;
-
 /**
  * Named lock that uses {@link FileLock}. An instance of this class is about ONE LOCK (one file)
  * and is possibly used by multiple threads. Each thread (if properly coded re boxing) will try to
  * obtain either shared or exclusive lock. As file locks are JVM-scoped (so one JVM can obtain
- * same file lock only once), the threads share file lock and synchronize according to it. Still,
- * as file lock obtain operation does not block (or in other words, the method that does block
- * cannot be controlled for how long it blocks), we are "simulating" thread blocking using
- * {@link Retry} utility.
+ * same file lock only once), the threads share file lock and synchronize according to it. Threads
+ * waiting for a file lock held within this JVM wait in a queue, and are woken up as soon as the
+ * file lock is released (direct hand-off). Still, as file lock obtain operation does not block (or
+ * in other words, the method that does block cannot be controlled for how long it blocks), waiting
+ * for a file lock held by other process is "simulated" by retrying with exponential backoff and
+ * jitter (see {@link Retry#backoff(int, long, long)}), to not have waiting processes retry in lockstep.
  * This implementation performs coordination not only on thread (JVM-local) level, but also on
  * process level, as long as other parties are using this same "advisory" locking mechanism.
  *
  * @since 1.7.3
  */
 public final class FileLockNamedLock extends NamedLockSupport {
-    private static final long RETRY_SLEEP_MILLIS = 100L;
+    private static final long RETRY_MIN_SLEEP_MILLIS = 10L;
+
+    private static final long RETRY_MAX_SLEEP_MILLIS = 200L;
 
     private static final long LOCK_POSITION = 0L;
 
@@ -76,6 +79,12 @@ public final class FileLockNamedLock extends NamedLockSupport {
      */
     private final ReentrantLock criticalRegion;
 
+    /**
+     * Condition of {@link #criticalRegion} signalled when file lock is released, to wake up threads of this JVM
+     * waiting for it.
+     */
+    private final Condition released;
+
     public FileLockNamedLock(
             final NamedLockKey key, final FileChannel fileChannel, final NamedLockFactorySupport factory) {
         super(key, factory);
@@ -83,91 +92,127 @@ public final class FileLockNamedLock extends NamedLockSupport {
         this.fileChannel = fileChannel;
         this.fileLockRef = new AtomicReference<>(null);
         this.criticalRegion = new ReentrantLock();
+        this.released = criticalRegion.newCondition();
     }
 
     @Override
     protected boolean doLockShared(final long time, final TimeUnit unit) throws InterruptedException {
-        return retry(time, unit, RETRY_SLEEP_MILLIS, () -> doLockSharedPerform(time, unit), null, false);
+        return doLock(true, time, unit);
     }
 
     @Override
     protected boolean doLockExclusively(final long time, final TimeUnit unit) throws InterruptedException {
-        return retry(time, unit, RETRY_SLEEP_MILLIS, () -> doLockExclusivelyPerform(time, unit), null, false);
+        return doLock(false, time, unit);
     }
 
-    private Boolean doLockSharedPerform(final long time, final TimeUnit unit) throws InterruptedException {
-        if (criticalRegion.tryLock(time, unit)) {
-            try {
-                Deque<Boolean> steps = threadSteps.computeIfAbsent(Thread.currentThread(), k -> new ArrayDeque<>());
-                FileLock obtainedLock = fileLockRef.get();
-                if (obtainedLock != null) {
-                    if (obtainedLock.isShared()) {
-                        steps.push(Boolean.TRUE);
-                        return true;
-                    } else {
-                        // if we own exclusive, that's still fine
-                        boolean weOwnExclusive = steps.contains(Boolean.FALSE);
-                        if (weOwnExclusive) {
-                            steps.push(Boolean.TRUE);
-                            return true;
-                        } else {
-                            // someone else owns exclusive, let's wait
-                            return null;
-                        }
+    /**
+     * Attempts to lock within given time. If file lock is held by this JVM in a mode that does not allow locking,
+     * waits until signalled that file lock is released. If file lock is not held by this JVM, but cannot be
+     * obtained (is held by some other process), backs off and retries. In both cases, the {@link #criticalRegion}
+     * is not held while waiting.
+     */
+    private boolean doLock(final boolean shared, final long time, final TimeUnit unit) throws InterruptedException {
+        final long barrier = System.nanoTime() + unit.toNanos(time);
+        if (!criticalRegion.tryLock(time, unit)) {
+            return false;
+        }
+        try {
+            int attempt = 1;
+            while (true) {
+                Boolean result;
+                try {
+                    result = shared ? doLockSharedPerform() : doLockExclusivelyPerform();
+                } catch (RuntimeException e) {
+                    if (e instanceof Retry.DoNotRetry) {
+                        throw e;
                     }
+                    logger.trace("Lock attempt {} on '{}': failure", attempt, key(), e);
+                    result = null;
+                }
+                if (result != null) {
+                    return result;
+                }
+                long remaining = barrier - System.nanoTime();
+                if (remaining <= 0L) {
+                    return false;
                 }
+                if (fileLockRef.get() != null) {
+                    // held within this JVM: wait for hand-off
+                    released.awaitNanos(remaining);
+                } else {
+                    // held by other process: back off, but wake up if released within this JVM
+                    long sleep = TimeUnit.MILLISECONDS.toNanos(
+                            Retry.backoff(attempt, RETRY_MIN_SLEEP_MILLIS, RETRY_MAX_SLEEP_MILLIS));
+                    released.awaitNanos(Math.min(sleep, remaining));
+                }
+                attempt++;
+            }
+        } finally {
+            criticalRegion.unlock();
+        }
+    }
 
-                FileLock fileLock = obtainFileLock(true);
-                if (fileLock != null) {
-                    fileLockRef.set(fileLock);
+    private Boolean doLockSharedPerform() {
+        Deque<Boolean> steps = threadSteps.computeIfAbsent(Thread.currentThread(), k -> new ArrayDeque<>());
+        FileLock obtainedLock = fileLockRef.get();
+        if (obtainedLock != null) {
+            if (obtainedLock.isShared()) {
+                steps.push(Boolean.TRUE);
+                return true;
+            } else {
+                // if we own exclusive, that's still fine
+                boolean weOwnExclusive = steps.contains(Boolean.FALSE);
+                if (weOwnExclusive) {
                     steps.push(Boolean.TRUE);
                     return true;
+                } else {
+                    // someone else owns exclusive, let's wait
+                    return null;
                 }
-            } finally {
-                criticalRegion.unlock();
             }
         }
+
+        FileLock fileLock = obtainFileLock(true);
+        if (fileLock != null) {
+            fileLockRef.set(fileLock);
+            steps.push(Boolean.TRUE);
+            return true;
+        }
         return null;
     }
 
-    private Boolean doLockExclusivelyPerform(final long time, final TimeUnit unit) throws InterruptedException {
-        if (criticalRegion.tryLock(time, unit)) {
-            try {
-                Deque<Boolean> steps = threadSteps.computeIfAbsent(Thread.currentThread(), k -> new ArrayDeque<>());
-                FileLock obtainedLock = fileLockRef.get();
-                if (obtainedLock != null) {
-                    if (obtainedLock.isShared()) {
-                        // if we own shared, that's attempted upgrade
-                        boolean weOwnShared = steps.contains(Boolean.TRUE);
-                        if (weOwnShared) {
-                            throw new LockUpgradeNotSupportedException(this); // Lock upgrade not supported
-                        } else {
-                            // someone else owns shared, let's wait
-                            return null;
-                        }
-                    } else {
-                        // if we own exclusive, that's fine
-                        boolean weOwnExclusive = steps.contains(Boolean.FALSE);
-                        if (weOwnExclusive) {
-                            steps.push(Boolean.FALSE);
-                            return true;
-                        } else {
-                            // someone else owns exclusive, let's wait
-                            return null;
-                        }
-                    }
+    private Boolean doLockExclusivelyPerform() {
+        Deque<Boolean> steps = threadSteps.computeIfAbsent(Thread.currentThread(), k -> new ArrayDeque<>());
+        FileLock obtainedLock = fileLockRef.get();
+        if (obtainedLock != null) {
+            if (obtainedLock.isShared()) {
+                // if we own shared, that's attempted upgrade
+                boolean weOwnShared = steps.contains(Boolean.TRUE);
+                if (weOwnShared) {
+                    throw new LockUpgradeNotSupportedException(this); // Lock upgrade not supported
+                } else {
+                    // someone else owns shared, let's wait
+                    return null;
                 }
-
-                FileLock fileLock = obtainFileLock(false);
-                if (fileLock != null) {
-                    fileLockRef.set(fileLock);
+            } else {
+                // if we own exclusive, that's fine
+                boolean weOwnExclusive = steps.contains(Boolean.FALSE);
+                if (weOwnExclusive) {
                     steps.push(Boolean.FALSE);
                     return true;
+                } else {
+                    // someone else owns exclusive, let's wait
+                    return null;
                 }
-            } finally {
-                criticalRegion.unlock();
             }
         }
+
+        FileLock fileLock = obtainFileLock(false);
+        if (fileLock != null) {
+            fileLockRef.set(fileLock);
+            steps.push(Boolean.FALSE);
+            return true;
+        }
         return null;
     }
 
@@ -185,6 +230,8 @@ public final class FileLockNamedLock extends NamedLockSupport {
                     fileLockRef.getAndSet(null).release();
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
+                } finally {
+                    released.signalAll();
                 }
             }
         } finally {
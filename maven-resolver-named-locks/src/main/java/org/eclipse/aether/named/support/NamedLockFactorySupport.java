@@ -18,10 +18,17 @@
  */
 package org.eclipse.aether.named.support;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -39,6 +46,11 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Support class for {@link NamedLockFactory} implementations providing reference counting.
+ * <p>
+ * If diagnostic collection is enabled, the factory tracks lock state of each thread, and collects
+ * {@link NamedLockStatistics} per lock key. On failure (see {@link #onFailure(Throwable)}) the lock state, statistics
+ * and the "wait-for" graph of threads (thread waiting for a lock points to the threads holding the lock) with any
+ * cycle in it (deadlock) are dumped to log.
  */
 public abstract class NamedLockFactorySupport implements NamedLockFactory {
     /**
@@ -53,10 +65,21 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
 
     private static final boolean DIAGNOSTIC_ENABLED = Boolean.getBoolean(SYSTEM_PROP_DIAGNOSTIC_ENABLED);
 
+    private static final int MAX_CONTENDED_DUMPED = 10;
+
+    /**
+     * The maximum count of keys whose statistics are retained after their last lock reference was closed.
+     */
+    private static final int MAX_RETIRED_STATISTICS = 1024;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<NamedLockKey, NamedLockHolder> locks;
 
+    private final ConcurrentMap<NamedLockKey, NamedLockStatistics> statistics;
+
+    private final Map<NamedLockKey, NamedLockStatistics> retiredStatistics; // guarded by itself
+
     private final AtomicInteger compositeCounter;
 
     private final boolean diagnosticEnabled;
@@ -69,6 +92,13 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
 
     public NamedLockFactorySupport(boolean diagnosticEnabled) {
         this.locks = new ConcurrentHashMap<>();
+        this.statistics = new ConcurrentHashMap<>();
+        this.retiredStatistics = new LinkedHashMap<NamedLockKey, NamedLockStatistics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<NamedLockKey, NamedLockStatistics> eldest) {
+                return size() > MAX_RETIRED_STATISTICS;
+            }
+        };
         this.compositeCounter = new AtomicInteger(0);
         this.diagnosticEnabled = diagnosticEnabled;
     }
@@ -82,6 +112,30 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
         return diagnosticEnabled;
     }
 
+    /**
+     * Returns the snapshot of lock statistics per key, never {@code null}. Contains statistics of keys having active
+     * locks, and of up to 1024 keys whose last lock reference was most recently closed. Statistics of a key
+     * accumulate across lock instances: if lock of a retained key is created again, it continues to record into the
+     * same statistics. The map is empty if diagnostic collection is not enabled.
+     *
+     * @since 2.0.23
+     */
+    public Map<NamedLockKey, NamedLockStatistics> lockStatistics() {
+        Map<NamedLockKey, NamedLockStatistics> result;
+        synchronized (retiredStatistics) {
+            result = new HashMap<>(retiredStatistics);
+        }
+        result.putAll(statistics);
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the statistics of active lock with given key, or {@code null} if not collected.
+     */
+    NamedLockStatistics activeLockStatistics(NamedLockKey key) {
+        return statistics.get(key);
+    }
+
     @Override
     public final NamedLock getLock(final Collection<NamedLockKey> keys) {
         requireNonNull(keys, "keys");
@@ -133,6 +187,9 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
                         throw new IllegalStateException("factory already shut down");
                     }
                     if (v == null || !v.tryIncRef()) {
+                        if (diagnosticEnabled) {
+                            statistics.computeIfAbsent(k, this::reviveStatistics);
+                        }
                         v = new NamedLockHolder(supplier.get());
                         v.incRef();
                     }
@@ -141,6 +198,14 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
                 .namedLock;
     }
 
+    private NamedLockStatistics reviveStatistics(NamedLockKey key) {
+        NamedLockStatistics result;
+        synchronized (retiredStatistics) {
+            result = retiredStatistics.remove(key);
+        }
+        return result != null ? result : new NamedLockStatistics();
+    }
+
     @Override
     public void shutdown() {
         if (shutdown.compareAndSet(false, true)) {
@@ -174,13 +239,82 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
                     Map<Thread, Deque<String>> diag = lock.diagnosticState();
                     logger.info("State:");
                     diag.forEach((k, v) -> logger.info("  {} -> {}", k, v));
+                    NamedLockStatistics lockStatistics = lock.statistics();
+                    if (lockStatistics != null) {
+                        logger.info("Statistics: {}", lockStatistics);
+                    }
                 }
                 logger.info("");
+                Map<Thread, Set<Thread>> waitFor = waitForGraph(locks.values());
+                if (!waitFor.isEmpty()) {
+                    logger.info("Wait-for graph:");
+                    waitFor.forEach((k, v) -> logger.info("  {} -> {}", k, v));
+                    List<Thread> cycle = WaitForGraph.findCycle(waitFor);
+                    if (!cycle.isEmpty()) {
+                        logger.info("Deadlock: {}", cycle);
+                    }
+                    logger.info("");
+                }
+            }
+            List<Map.Entry<NamedLockKey, NamedLockStatistics>> contended = lockStatistics().entrySet().stream()
+                    .filter(e -> e.getValue().getMaxAcquireNanos() > 0L)
+                    .sorted(Comparator.comparingLong(
+                                    (Map.Entry<NamedLockKey, NamedLockStatistics> e) ->
+                                            e.getValue().getAcquireNanos())
+                            .reversed())
+                    .limit(MAX_CONTENDED_DUMPED)
+                    .collect(Collectors.toList());
+            if (!contended.isEmpty()) {
+                logger.info("Most contended locks:");
+                contended.forEach(e -> logger.info("  {} -> {}", e.getKey().name(), e.getValue()));
+                logger.info("");
             }
         }
         return failure;
     }
 
+    /**
+     * Returns the current "wait-for" graph of threads: maps each thread waiting for a lock to the threads holding that
+     * lock in a conflicting mode (shared waiters do not wait for shared holders), never {@code null}. The graph is
+     * empty if diagnostic collection is not enabled.
+     *
+     * @since 2.0.23
+     */
+    public Map<Thread, Set<Thread>> waitForGraph() {
+        return waitForGraph(new ArrayList<>(locks.values()));
+    }
+
+    private static Map<Thread, Set<Thread>> waitForGraph(Collection<NamedLockHolder> holders) {
+        Map<Thread, Set<Thread>> result = new LinkedHashMap<>();
+        for (NamedLockHolder holder : holders) {
+            Map<Thread, Boolean> waiters = new LinkedHashMap<>(); // waiter -> waits for shared
+            Map<Thread, Boolean> owners = new LinkedHashMap<>(); // owner -> holds only shared
+            for (Map.Entry<Thread, Deque<String>> entry :
+                    holder.namedLock.diagnosticState().entrySet()) {
+                Object[] steps = entry.getValue().toArray();
+                for (Object step : steps) {
+                    if ("exclusive".equals(step)) {
+                        owners.put(entry.getKey(), false);
+                    } else if ("shared".equals(step)) {
+                        owners.putIfAbsent(entry.getKey(), true);
+                    }
+                }
+                if (steps.length > 0 && String.valueOf(steps[0]).startsWith("wait-")) {
+                    waiters.put(entry.getKey(), "wait-shared".equals(steps[0]));
+                }
+            }
+            for (Map.Entry<Thread, Boolean> waiter : waiters.entrySet()) {
+                for (Map.Entry<Thread, Boolean> owner : owners.entrySet()) {
+                    if (owner.getKey() != waiter.getKey() && !(waiter.getValue() && owner.getValue())) {
+                        result.computeIfAbsent(waiter.getKey(), k -> new LinkedHashSet<>())
+                                .add(owner.getKey());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
     public void closeLock(final NamedLockKey key) {
         locks.compute(key, (k, v) -> {
             if (v != null && v.decRef() == 0) {
@@ -188,6 +322,12 @@ public abstract class NamedLockFactorySupport implements NamedLockFactory {
                 // from reviving this holder. CAS ensures atomicity: if tryIncRef already
                 // incremented from 0→1, our CAS fails and we keep the holder alive.
                 if (v.referenceCount.compareAndSet(0, Integer.MIN_VALUE)) {
+                    NamedLockStatistics retired = statistics.remove(k);
+                    if (retired != null) {
+                        synchronized (retiredStatistics) {
+                            retiredStatistics.put(k, retired);
+                        }
+                    }
                     destroyLock(v.namedLock);
                     return null;
                 }
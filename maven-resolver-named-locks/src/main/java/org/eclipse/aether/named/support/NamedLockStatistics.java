@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock statistics of one lock key, collected when diagnostic collection is enabled. Statistics outlive the named lock
+ * instances: once the last lock reference of a key is closed, factory retains its statistics (for a bounded count of
+ * most recently closed keys), and a lock created again for same key continues recording into them. Acquire
+ * latencies are recorded into a histogram with power of two millisecond buckets: bucket {@code 0} counts acquires
+ * done in less than 1 millisecond, bucket {@code i} counts acquires done in [2<sup>i-1</sup>, 2<sup>i</sup>)
+ * milliseconds, and the last bucket counts all the longer acquires.
+ *
+ * @since 2.0.23
+ */
+public final class NamedLockStatistics {
+    /**
+     * The count of latency histogram buckets; the last bucket counts acquires that took 2<sup>15</sup> milliseconds
+     * (about 33 seconds) or more.
+     */
+    public static final int BUCKETS = 17;
+
+    private final LongAdder acquired = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder[] acquireLatency = new LongAdder[BUCKETS];
+
+    private final LongAdder acquireNanos = new LongAdder();
+
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0L);
+
+    private final LongAdder holdNanos = new LongAdder();
+
+    private final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0L);
+
+    NamedLockStatistics() {
+        for (int i = 0; i < BUCKETS; i++) {
+            acquireLatency[i] = new LongAdder();
+        }
+    }
+
+    void recordAcquire(long nanos, boolean success) {
+        if (success) {
+            acquired.increment();
+        } else {
+            failed.increment();
+        }
+        acquireLatency[bucket(nanos)].increment();
+        acquireNanos.add(nanos);
+        maxAcquireNanos.accumulate(nanos);
+    }
+
+    void recordHold(long nanos) {
+        holdNanos.add(nanos);
+        maxHoldNanos.accumulate(nanos);
+    }
+
+    private static int bucket(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        return Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKETS - 1);
+    }
+
+    /**
+     * Returns the count of successful acquires.
+     */
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    /**
+     * Returns the count of failed (timed out) acquires.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the copy of acquire latency histogram, see class javadoc for bucket boundaries.
+     */
+    public long[] getAcquireLatencyHistogram() {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = acquireLatency[i].sum();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total time spent in acquires (both successful and failed) in nanoseconds.
+     */
+    public long getAcquireNanos() {
+        return acquireNanos.sum();
+    }
+
+    /**
+     * Returns the longest time spent in one acquire in nanoseconds.
+     */
+    public long getMaxAcquireNanos() {
+        return maxAcquireNanos.get();
+    }
+
+    /**
+     * Returns the total time the lock was held in nanoseconds (of already released locks).
+     */
+    public long getHoldNanos() {
+        return holdNanos.sum();
+    }
+
+    /**
+     * Returns the longest time the lock was held in nanoseconds (of already released locks).
+     */
+    public long getMaxHoldNanos() {
+        return maxHoldNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder histogram = new StringBuilder();
+        long[] buckets = getAcquireLatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            if (buckets[i] > 0) {
+                if (histogram.length() > 0) {
+                    histogram.append(", ");
+                }
+                histogram
+                        .append(i == BUCKETS - 1 ? ">=" : "<")
+                        .append(i == BUCKETS - 1 ? 1L << (i - 1) : 1L << i)
+                        .append("ms: ")
+                        .append(buckets[i]);
+            }
+        }
+        return "acquired=" + getAcquiredCount() + ", failed=" + getFailedCount() + ", acquireMillis="
+                + TimeUnit.NANOSECONDS.toMillis(getAcquireNanos()) + ", maxAcquireMillis="
+                + TimeUnit.NANOSECONDS.toMillis(getMaxAcquireNanos()) + ", holdMillis="
+                + TimeUnit.NANOSECONDS.toMillis(getHoldNanos()) + ", maxHoldMillis="
+                + TimeUnit.NANOSECONDS.toMillis(getMaxHoldNanos()) + ", acquireLatency={" + histogram + "}";
+    }
+}
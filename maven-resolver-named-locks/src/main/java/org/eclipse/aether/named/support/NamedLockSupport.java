@@ -42,10 +42,16 @@ public abstract class NamedLockSupport implements NamedLock {
 
     private final ConcurrentHashMap<Thread, Deque<String>> diagnosticState; // non-null only if diag enabled
 
+    private final NamedLockStatistics statistics; // non-null only if diag enabled and not composite lock
+
+    private final ConcurrentHashMap<Thread, Deque<Long>> holdStarts; // non-null only if statistics non-null
+
     public NamedLockSupport(final NamedLockKey key, final NamedLockFactorySupport factory) {
         this.key = key;
         this.factory = factory;
         this.diagnosticState = factory.isDiagnosticEnabled() ? new ConcurrentHashMap<>() : null;
+        this.statistics = factory.isDiagnosticEnabled() ? factory.activeLockStatistics(key) : null;
+        this.holdStarts = statistics != null ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
@@ -62,12 +68,18 @@ public abstract class NamedLockSupport implements NamedLock {
         if (steps != null) {
             steps.push("wait-shared");
         }
-        boolean result = doLockShared(time, unit);
-        if (steps != null) {
-            steps.pop();
-            if (result) {
-                steps.push("shared");
+        long start = statistics != null ? System.nanoTime() : 0L;
+        boolean result = false;
+        try {
+            result = doLockShared(time, unit);
+        } finally {
+            if (steps != null) {
+                steps.pop();
+                if (result) {
+                    steps.push("shared");
+                }
             }
+            recordAcquire(start, result);
         }
         return result;
     }
@@ -83,18 +95,36 @@ public abstract class NamedLockSupport implements NamedLock {
         if (steps != null) {
             steps.push("wait-exclusive");
         }
-        boolean result = doLockExclusively(time, unit);
-        if (steps != null) {
-            steps.pop();
-            if (result) {
-                steps.push("exclusive");
+        long start = statistics != null ? System.nanoTime() : 0L;
+        boolean result = false;
+        try {
+            result = doLockExclusively(time, unit);
+        } finally {
+            if (steps != null) {
+                steps.pop();
+                if (result) {
+                    steps.push("exclusive");
+                }
             }
+            recordAcquire(start, result);
         }
         return result;
     }
 
     protected abstract boolean doLockExclusively(long time, TimeUnit unit) throws InterruptedException;
 
+    private void recordAcquire(long start, boolean result) {
+        if (statistics != null) {
+            long now = System.nanoTime();
+            statistics.recordAcquire(now - start, result);
+            if (result) {
+                holdStarts
+                        .computeIfAbsent(Thread.currentThread(), k -> new ArrayDeque<>())
+                        .push(now);
+            }
+        }
+    }
+
     @Override
     public void unlock() {
         doUnlock();
@@ -103,6 +133,15 @@ public abstract class NamedLockSupport implements NamedLock {
                     .computeIfAbsent(Thread.currentThread(), k -> new ArrayDeque<>())
                     .pop();
         }
+        if (statistics != null) {
+            Deque<Long> starts = holdStarts.get(Thread.currentThread());
+            if (starts != null && !starts.isEmpty()) {
+                statistics.recordHold(System.nanoTime() - starts.pop());
+                if (starts.isEmpty()) {
+                    holdStarts.remove(Thread.currentThread());
+                }
+            }
+        }
     }
 
     protected abstract void doUnlock();
@@ -129,6 +168,17 @@ public abstract class NamedLockSupport implements NamedLock {
         }
     }
 
+    /**
+     * Returns the lock statistics (if collected) or {@code null}. Statistics are collected only if diagnostic
+     * collection is enabled, and only for locks tracked by factory (and not for composite locks, whose component
+     * locks have their own statistics).
+     *
+     * @since 2.0.23
+     */
+    public NamedLockStatistics statistics() {
+        return statistics;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" + "key='" + key + '\'' + '}';
@@ -19,6 +19,7 @@
 package org.eclipse.aether.named.support;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -64,6 +65,28 @@ public final class Retry {
             final Predicate<Exception> retryPredicate,
             final R defaultResult)
             throws InterruptedException {
+        return retry(time, unit, sleepMillis, sleepMillis, operation, retryPredicate, defaultResult);
+    }
+
+    /**
+     * Retries for given amount of time (time, unit) the passed in operation, sleeping between retries with
+     * exponential backoff: starting with {@code minSleepMillis}, doubling the sleep on each retry up to
+     * {@code maxSleepMillis}, with random jitter applied (see {@link #backoff(int, long, long)}). Sleeps never
+     * exceed the remaining time. In case operation returns {@code null}, it is assumed "is not done yet" state,
+     * so retry will happen (if time barrier allows). If time barrier passes, and still {@code null} ("is not done
+     * yet") is returned from operation, the {@code defaultResult} is returned.
+     *
+     * @since 2.0.23
+     */
+    public static <R> R retry(
+            final long time,
+            final TimeUnit unit,
+            final long minSleepMillis,
+            final long maxSleepMillis,
+            final Callable<R> operation,
+            final Predicate<Exception> retryPredicate,
+            final R defaultResult)
+            throws InterruptedException {
         long now = System.nanoTime();
         final long barrier = now + unit.toNanos(time);
         int attempt = 1;
@@ -73,7 +96,12 @@ public final class Retry {
                 result = operation.call();
                 if (result == null) {
                     LOGGER.trace("Retry attempt {}: no result", attempt);
-                    Thread.sleep(sleepMillis);
+                    long sleepNanos = Math.min(
+                            TimeUnit.MILLISECONDS.toNanos(backoff(attempt, minSleepMillis, maxSleepMillis)),
+                            barrier - System.nanoTime());
+                    if (sleepNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                    }
                 }
             } catch (InterruptedException e) {
                 throw e;
@@ -141,4 +169,27 @@ public final class Retry {
         }
         return result == null ? defaultResult : result;
     }
+
+    /**
+     * Calculates the sleep in milliseconds before the next attempt, using exponential backoff with "equal jitter":
+     * the base sleep is {@code minSleepMillis} doubled for each attempt made, capped at {@code maxSleepMillis}, and
+     * the returned value is random between half of base sleep and base sleep. The jitter spreads out waiters that
+     * were blocked on same resource, so they do not all retry at same time. If {@code minSleepMillis} is not less
+     * than {@code maxSleepMillis}, the fixed {@code maxSleepMillis} is returned.
+     *
+     * @param attempt the count of attempts made so far, must be greater than zero
+     * @since 2.0.23
+     */
+    public static long backoff(final int attempt, final long minSleepMillis, final long maxSleepMillis) {
+        if (minSleepMillis >= maxSleepMillis) {
+            return maxSleepMillis;
+        }
+        long base = minSleepMillis;
+        for (int i = 1; i < attempt && base < maxSleepMillis; i++) {
+            base <<= 1;
+        }
+        base = Math.min(Math.max(base, 1L), maxSleepMillis);
+        long half = base >>> 1;
+        return half + ThreadLocalRandom.current().nextLong(base - half + 1);
+    }
 }
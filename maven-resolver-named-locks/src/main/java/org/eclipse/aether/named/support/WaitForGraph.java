@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helper for lock diagnostics working with "wait-for" graphs, where each party (thread, context) waiting for a lock
+ * points to the parties holding that lock in a conflicting mode.
+ *
+ * @since 2.0.23
+ */
+public final class WaitForGraph {
+    private WaitForGraph() {
+        // no instances
+    }
+
+    /**
+     * Returns parties forming a cycle (deadlock) in the "wait-for" graph, or empty list if graph has no cycles. The
+     * graph is walked without recursion, so its depth is not limited by stack size.
+     */
+    public static <T> List<T> findCycle(Map<T, ? extends Collection<T>> waitFor) {
+        Set<T> visited = new HashSet<>();
+        for (T start : waitFor.keySet()) {
+            if (!visited.add(start)) {
+                continue;
+            }
+            List<T> path = new ArrayList<>();
+            Map<T, Integer> pathIndex = new HashMap<>();
+            Deque<Iterator<T>> iterators = new ArrayDeque<>();
+            pathIndex.put(start, 0);
+            path.add(start);
+            iterators.push(successors(waitFor, start));
+            while (!iterators.isEmpty()) {
+                Iterator<T> iterator = iterators.peek();
+                if (iterator.hasNext()) {
+                    T next = iterator.next();
+                    Integer index = pathIndex.get(next);
+                    if (index != null) {
+                        return new ArrayList<>(path.subList(index, path.size()));
+                    }
+                    if (visited.add(next)) {
+                        pathIndex.put(next, path.size());
+                        path.add(next);
+                        iterators.push(successors(waitFor, next));
+                    }
+                } else {
+                    iterators.pop();
+                    pathIndex.remove(path.remove(path.size() - 1));
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private static <T> Iterator<T> successors(Map<T, ? extends Collection<T>> waitFor, T party) {
+        Collection<T> successors = waitFor.get(party);
+        return successors != null ? successors.iterator() : Collections.emptyIterator();
+    }
+}
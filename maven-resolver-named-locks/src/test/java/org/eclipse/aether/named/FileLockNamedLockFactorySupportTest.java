@@ -24,11 +24,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.aether.named.providers.FileLockNamedLockFactory;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class FileLockNamedLockFactorySupportTest extends NamedLockFactoryTestSupport {
 
     private final Path baseDir;
@@ -47,6 +51,19 @@ public class FileLockNamedLockFactorySupportTest extends NamedLockFactoryTestSup
                 .toASCIIString()));
     }
 
+    @Test
+    void shardedDirectories() throws InterruptedException {
+        for (String shard : new String[] {"aa/bb", "aa/cc", "dd/ee", "aa/bb"}) {
+            Path lockFile = baseDir.resolve("sharded").resolve(shard).resolve("lock");
+            try (NamedLock lock = namedLockFactory.getLock(NamedLockKey.of(
+                    lockFile.toAbsolutePath().toUri().toASCIIString()))) {
+                assertTrue(lock.lockExclusively(1L, TimeUnit.SECONDS));
+                assertTrue(Files.isDirectory(lockFile.getParent()));
+                lock.unlock();
+            }
+        }
+    }
+
     @BeforeAll
     static void createNamedLockFactory() throws IOException {
         namedLockFactory = new FileLockNamedLockFactory();
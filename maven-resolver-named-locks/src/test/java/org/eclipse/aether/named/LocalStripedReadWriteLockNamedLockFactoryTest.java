@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.aether.named.providers.LocalStripedReadWriteLockNamedLockFactory;
+import org.eclipse.aether.named.support.CompositeNamedLock;
+import org.eclipse.aether.named.support.LockUpgradeNotSupportedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalStripedReadWriteLockNamedLockFactoryTest {
+    @Test
+    void stripesRoundedToPowerOfTwo() {
+        assertEquals(1, new LocalStripedReadWriteLockNamedLockFactory(1).getStripes());
+        assertEquals(8, new LocalStripedReadWriteLockNamedLockFactory(5).getStripes());
+        assertEquals(16, new LocalStripedReadWriteLockNamedLockFactory(16).getStripes());
+        assertThrows(IllegalArgumentException.class, () -> new LocalStripedReadWriteLockNamedLockFactory(0));
+    }
+
+    @Test
+    void upgradeTrackedPerKey() throws InterruptedException {
+        // single stripe: all keys collide
+        LocalStripedReadWriteLockNamedLockFactory factory = new LocalStripedReadWriteLockNamedLockFactory(1);
+        try (NamedLock a = factory.getLock(NamedLockKey.of("a"));
+                NamedLock b = factory.getLock(NamedLockKey.of("b"))) {
+            assertTrue(a.lockShared(1, TimeUnit.SECONDS));
+            assertThrows(LockUpgradeNotSupportedException.class, () -> a.lockExclusively(1, TimeUnit.SECONDS));
+            assertTrue(b.lockExclusively(1, TimeUnit.SECONDS));
+            assertTrue(a.lockShared(1, TimeUnit.SECONDS));
+            assertFalse(otherThreadLocksShared(factory, "b"));
+            assertTrue(otherThreadLocksShared(factory, "a"));
+            assertTrue(otherThreadLocksShared(factory, "c"));
+            a.unlock();
+            b.unlock();
+            assertTrue(otherThreadLocksShared(factory, "b"));
+            a.unlock();
+            assertTrue(otherThreadLocksShared(factory, "b"));
+        }
+    }
+
+    /**
+     * Two threads holding shared locks on some keys, asking for exclusive locks on other keys, must not block each
+     * other even if all the keys share a stripe.
+     */
+    @Test
+    @Timeout(10)
+    void keysSharingStripeDoNotExcludeEachOther() throws InterruptedException {
+        // single stripe: all keys collide
+        LocalStripedReadWriteLockNamedLockFactory factory = new LocalStripedReadWriteLockNamedLockFactory(1);
+        CountDownLatch sharedLocked = new CountDownLatch(2);
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread t1 = crossKeyLocker(factory, "a", "b", sharedLocked, failed);
+        Thread t2 = crossKeyLocker(factory, "c", "d", sharedLocked, failed);
+        t1.start();
+        t2.start();
+        t1.join();
+        t2.join();
+        assertFalse(failed.get());
+    }
+
+    private static Thread crossKeyLocker(
+            NamedLockFactory factory,
+            String sharedKey,
+            String exclusiveKey,
+            CountDownLatch latch,
+            AtomicBoolean failed) {
+        return new Thread(() -> {
+            try (NamedLock shared = factory.getLock(NamedLockKey.of(sharedKey));
+                    NamedLock exclusive = factory.getLock(NamedLockKey.of(exclusiveKey))) {
+                assertTrue(shared.lockShared(1, TimeUnit.SECONDS));
+                latch.countDown();
+                latch.await();
+                if (exclusive.lockExclusively(1, TimeUnit.SECONDS)) {
+                    exclusive.unlock();
+                } else {
+                    failed.set(true);
+                }
+                shared.unlock();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    void registeredWithDiagnostics() throws InterruptedException {
+        LocalStripedReadWriteLockNamedLockFactory factory = new LocalStripedReadWriteLockNamedLockFactory(16, true);
+        NamedLockKey key = NamedLockKey.of("a");
+        try (NamedLock one = factory.getLock(key);
+                NamedLock two = factory.getLock(key)) {
+            assertSame(one, two);
+            assertTrue(one.lockExclusively(1, TimeUnit.SECONDS));
+            one.unlock();
+            assertEquals(1, factory.lockStatistics().get(key).getAcquiredCount());
+        }
+        assertEquals(1, factory.lockStatistics().get(key).getAcquiredCount());
+    }
+
+    @Test
+    void exclusiveExcludes() throws InterruptedException {
+        LocalStripedReadWriteLockNamedLockFactory factory = new LocalStripedReadWriteLockNamedLockFactory(16);
+        try (NamedLock lock = factory.getLock(NamedLockKey.of("a"))) {
+            assertTrue(lock.lockExclusively(1, TimeUnit.SECONDS));
+            AtomicBoolean locked = new AtomicBoolean(true);
+            Thread thread = new Thread(() -> {
+                try (NamedLock other = factory.getLock(NamedLockKey.of("a"))) {
+                    locked.set(other.lockShared(10, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            thread.start();
+            thread.join();
+            assertFalse(locked.get());
+            lock.unlock();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void compositeAcquisitionInStripeOrder() throws InterruptedException {
+        LocalStripedReadWriteLockNamedLockFactory factory = new LocalStripedReadWriteLockNamedLockFactory(64);
+        List<NamedLockKey> keys = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            keys.add(NamedLockKey.of("key" + i));
+        }
+        List<NamedLockKey> reversed = new ArrayList<>(keys);
+        Collections.reverse(reversed);
+        List<Thread> threads = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        for (int t = 0; t < 8; t++) {
+            List<NamedLockKey> order = t % 2 == 0 ? keys : reversed;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    try (NamedLock lock = factory.getLock(order)) {
+                        assertInstanceOf(CompositeNamedLock.class, lock);
+                        if (lock.lockExclusively(5, TimeUnit.SECONDS)) {
+                            lock.unlock();
+                        } else {
+                            failed.set(true);
+                        }
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed.get());
+    }
+
+    private static boolean otherThreadLocksShared(NamedLockFactory factory, String key) throws InterruptedException {
+        AtomicBoolean locked = new AtomicBoolean();
+        Thread thread = new Thread(() -> {
+            try (NamedLock lock = factory.getLock(NamedLockKey.of(key))) {
+                if (lock.lockShared(10, TimeUnit.MILLISECONDS)) {
+                    locked.set(true);
+                    lock.unlock();
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        return locked.get();
+    }
+}
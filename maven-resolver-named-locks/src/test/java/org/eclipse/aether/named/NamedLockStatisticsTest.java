@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.aether.named.support.NamedLockFactorySupport;
+import org.eclipse.aether.named.support.NamedLockStatistics;
+import org.eclipse.aether.named.support.NamedLockSupport;
+import org.eclipse.aether.named.support.ReadWriteLockNamedLock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NamedLockStatisticsTest {
+    private static class DiagnosticFactory extends NamedLockFactorySupport {
+        private DiagnosticFactory() {
+            super(true);
+        }
+
+        @Override
+        protected NamedLockSupport createLock(NamedLockKey key) {
+            return new ReadWriteLockNamedLock(key, this, new ReentrantReadWriteLock());
+        }
+    }
+
+    @Test
+    void statisticsCollected() throws InterruptedException {
+        DiagnosticFactory factory = new DiagnosticFactory();
+        NamedLockKey key = NamedLockKey.of("key");
+        NamedLockStatistics statistics;
+        try (NamedLock lock = factory.getLock(key)) {
+            statistics = factory.lockStatistics().get(key);
+            assertTrue(lock.lockExclusively(1, TimeUnit.SECONDS));
+            AtomicBoolean locked = new AtomicBoolean(true);
+            Thread thread = new Thread(() -> {
+                try (NamedLock other = factory.getLock(key)) {
+                    locked.set(other.lockShared(10, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            thread.start();
+            thread.join();
+            assertFalse(locked.get());
+            lock.unlock();
+
+            // failure dump must not fail
+            IllegalStateException failure = new IllegalStateException("failure");
+            assertSame(failure, factory.onFailure(failure));
+        }
+
+        assertNotNull(statistics);
+        assertEquals(1, statistics.getAcquiredCount());
+        assertEquals(1, statistics.getFailedCount());
+        assertTrue(statistics.getMaxAcquireNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(statistics.getHoldNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(2, Arrays.stream(statistics.getAcquireLatencyHistogram()).sum());
+
+        // statistics survive closing, and lock created again for same key continues recording into them
+        assertSame(statistics, factory.lockStatistics().get(key));
+        try (NamedLock lock = factory.getLock(key)) {
+            assertTrue(lock.lockShared(1, TimeUnit.SECONDS));
+            lock.unlock();
+        }
+        assertSame(statistics, factory.lockStatistics().get(key));
+        assertEquals(2, statistics.getAcquiredCount());
+    }
+
+    @Test
+    void waitForGraphOnlyHasConflictingEdges() throws InterruptedException {
+        DiagnosticFactory factory = new DiagnosticFactory();
+        NamedLockKey key = NamedLockKey.of("key");
+        CountDownLatch release = new CountDownLatch(1);
+        try (NamedLock lock = factory.getLock(key)) {
+            NamedLockSupport lockSupport = (NamedLockSupport) lock;
+            Thread sharedHolder = locker(factory, key, true, release);
+            sharedHolder.start();
+            awaitState(lockSupport, sharedHolder, "shared");
+            Thread exclusiveWaiter = locker(factory, key, false, release);
+            exclusiveWaiter.start();
+            awaitState(lockSupport, exclusiveWaiter, "wait-exclusive");
+            // shared waiter is queued behind the exclusive waiter, but does not wait for the shared holder
+            Thread sharedWaiter = locker(factory, key, true, release);
+            sharedWaiter.start();
+            awaitState(lockSupport, sharedWaiter, "wait-shared");
+
+            assertEquals(
+                    Collections.singletonMap(exclusiveWaiter, Collections.singleton(sharedHolder)),
+                    factory.waitForGraph());
+
+            release.countDown();
+            sharedHolder.join();
+            exclusiveWaiter.join();
+            sharedWaiter.join();
+            assertTrue(factory.waitForGraph().isEmpty());
+        }
+    }
+
+    private static Thread locker(NamedLockFactory factory, NamedLockKey key, boolean shared, CountDownLatch release) {
+        return new Thread(() -> {
+            try (NamedLock lock = factory.getLock(key)) {
+                if (shared ? lock.lockShared(10, TimeUnit.SECONDS) : lock.lockExclusively(10, TimeUnit.SECONDS)) {
+                    release.await();
+                    lock.unlock();
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void awaitState(NamedLockSupport lock, Thread thread, String state) throws InterruptedException {
+        Deque<String> steps;
+        while ((steps = lock.diagnosticState().get(thread)) == null || !state.equals(steps.peek())) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void statisticsNotCollectedWithoutDiagnostic() throws InterruptedException {
+        NamedLockFactorySupport factory = new NamedLockFactorySupport(false) {
+            @Override
+            protected NamedLockSupport createLock(NamedLockKey key) {
+                return new ReadWriteLockNamedLock(key, this, new ReentrantReadWriteLock());
+            }
+        };
+        try (NamedLock lock = factory.getLock(NamedLockKey.of("key"))) {
+            assertTrue(lock.lockShared(1, TimeUnit.SECONDS));
+            lock.unlock();
+        }
+        assertTrue(factory.lockStatistics().isEmpty());
+    }
+}
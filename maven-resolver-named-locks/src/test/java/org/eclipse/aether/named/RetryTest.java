@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.LongAdder;
 
 import org.junit.jupiter.api.Test;
 
+import static org.eclipse.aether.named.support.Retry.backoff;
 import static org.eclipse.aether.named.support.Retry.retry;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -130,4 +131,40 @@ public class RetryTest {
         assertEquals("got it", result);
         assertEquals(3, retries.sum());
     }
+
+    @Test
+    void happyAfterSomeTimeWithBackoff() throws InterruptedException {
+        LongAdder retries = new LongAdder();
+        String result = retry(
+                1L,
+                TimeUnit.SECONDS,
+                10L,
+                100L,
+                () -> {
+                    retries.increment();
+                    return retries.sum() == 3 ? "got it" : null;
+                },
+                null,
+                "notHappy");
+        assertEquals("got it", result);
+        assertEquals(3, retries.sum());
+    }
+
+    @Test
+    void backoffFixed() {
+        assertEquals(RETRY_SLEEP_MILLIS, backoff(1, RETRY_SLEEP_MILLIS, RETRY_SLEEP_MILLIS));
+        assertEquals(RETRY_SLEEP_MILLIS, backoff(10, RETRY_SLEEP_MILLIS, RETRY_SLEEP_MILLIS));
+    }
+
+    @Test
+    void backoffExponential() {
+        for (int i = 0; i < 100; i++) {
+            long first = backoff(1, 100L, 1000L);
+            assertTrue(first >= 50L && first <= 100L, first + " in [50, 100]");
+            long third = backoff(3, 100L, 1000L);
+            assertTrue(third >= 200L && third <= 400L, third + " in [200, 400]");
+            long capped = backoff(100, 100L, 1000L);
+            assertTrue(capped >= 500L && capped <= 1000L, capped + " in [500, 1000]");
+        }
+    }
 }
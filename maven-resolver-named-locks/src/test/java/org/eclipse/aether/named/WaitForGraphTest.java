@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.named;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.aether.named.support.WaitForGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WaitForGraphTest {
+    @Test
+    void noCycle() {
+        Map<String, Set<String>> waitFor = new HashMap<>();
+        waitFor.put("a", Collections.singleton("b"));
+        waitFor.put("b", Collections.singleton("c"));
+        waitFor.put("d", Collections.singleton("b"));
+        assertTrue(WaitForGraph.findCycle(waitFor).isEmpty());
+    }
+
+    @Test
+    void cycle() {
+        Map<String, Set<String>> waitFor = new HashMap<>();
+        waitFor.put("a", Collections.singleton("b"));
+        waitFor.put("b", Collections.singleton("c"));
+        waitFor.put("c", Collections.singleton("b"));
+        assertEquals(Arrays.asList("b", "c"), WaitForGraph.findCycle(waitFor));
+    }
+
+    @Test
+    void deepCycle() {
+        int depth = 100_000;
+        Map<Integer, Set<Integer>> waitFor = new HashMap<>();
+        for (int i = 0; i < depth; i++) {
+            waitFor.put(i, Collections.singleton(i + 1));
+        }
+        assertTrue(WaitForGraph.findCycle(waitFor).isEmpty());
+        waitFor.put(depth, Collections.singleton(0));
+        List<Integer> cycle = WaitForGraph.findCycle(waitFor);
+        assertEquals(depth + 1, cycle.size());
+    }
+}
@@ -36,6 +36,21 @@ public interface LockingInhibitor {
         return false;
     }
 
+    /**
+     * Should return {@code true} for artifacts that needs lock inhibition when locked in given mode. Shared locks are
+     * requested for reading, while exclusive ones for writing (install, deploy or download). The default
+     * implementation ignores the mode and delegates to {@link #preventArtifactLocking(Artifact)}.
+     * <p>
+     * <em>Warning: you do not want to override this method, or if you do, think twice.</em>
+     *
+     * @param artifact the artifact to be locked
+     * @param shared whether the lock is acquired as shared or exclusive
+     * @since 2.0.23
+     */
+    default boolean preventArtifactLocking(Artifact artifact, boolean shared) {
+        return preventArtifactLocking(artifact);
+    }
+
     /**
      * Should return {@code true} for metadata that needs lock inhibition.
      */
@@ -94,6 +94,7 @@ import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
 import org.eclipse.aether.internal.impl.checksum.SparseDirectoryTrustedChecksumsSource;
 import org.eclipse.aether.internal.impl.checksum.SummaryFileTrustedChecksumsSource;
 import org.eclipse.aether.internal.impl.checksum.TrustedToProvidedChecksumsSourceAdapter;
+import org.eclipse.aether.internal.impl.collect.DataPool;
 import org.eclipse.aether.internal.impl.collect.DefaultDependencyCollector;
 import org.eclipse.aether.internal.impl.collect.DependencyCollectorDelegate;
 import org.eclipse.aether.internal.impl.collect.bf.BfDependencyCollector;
@@ -107,6 +108,7 @@ import org.eclipse.aether.internal.impl.named.DefaultNamedLockFactorySelector;
 import org.eclipse.aether.internal.impl.offline.OfflinePipelineRepositoryConnectorFactory;
 import org.eclipse.aether.internal.impl.resolution.TrustedChecksumsArtifactResolverPostProcessor;
 import org.eclipse.aether.internal.impl.synccontext.DefaultSyncContextFactory;
+import org.eclipse.aether.internal.impl.synccontext.ReadOnlyRepositoryLockingInhibitorFactory;
 import org.eclipse.aether.internal.impl.synccontext.named.NameMapper;
 import org.eclipse.aether.internal.impl.synccontext.named.NameMappers;
 import org.eclipse.aether.internal.impl.synccontext.named.NamedLockFactoryAdapterFactory;
@@ -118,6 +120,7 @@ import org.eclipse.aether.named.NamedLockFactory;
 import org.eclipse.aether.named.providers.FileLockNamedLockFactory;
 import org.eclipse.aether.named.providers.LocalReadWriteLockNamedLockFactory;
 import org.eclipse.aether.named.providers.LocalSemaphoreNamedLockFactory;
+import org.eclipse.aether.named.providers.LocalStripedReadWriteLockNamedLockFactory;
 import org.eclipse.aether.named.providers.NoopNamedLockFactory;
 import org.eclipse.aether.spi.artifact.ArtifactPredicateFactory;
 import org.eclipse.aether.spi.artifact.decorator.ArtifactDecoratorFactory;
@@ -354,6 +357,8 @@ public class RepositorySystemSupplier implements Supplier<RepositorySystem> {
         result.put(NoopNamedLockFactory.NAME, new NoopNamedLockFactory());
         result.put(LocalReadWriteLockNamedLockFactory.NAME, new LocalReadWriteLockNamedLockFactory());
         result.put(LocalSemaphoreNamedLockFactory.NAME, new LocalSemaphoreNamedLockFactory());
+        result.put(
+                LocalStripedReadWriteLockNamedLockFactory.NAME, new LocalStripedReadWriteLockNamedLockFactory());
         result.put(FileLockNamedLockFactory.NAME, new FileLockNamedLockFactory());
         return result;
     }
@@ -378,6 +383,8 @@ public class RepositorySystemSupplier implements Supplier<RepositorySystem> {
         result.put(NameMappers.FILE_GAECV_NAME, NameMappers.fileGaecvNameMapper());
         result.put(NameMappers.FILE_HGAV_NAME, NameMappers.fileHashingGavNameMapper());
         result.put(NameMappers.FILE_HGAECV_NAME, NameMappers.fileHashingGaecvNameMapper());
+        result.put(NameMappers.HIERARCHICAL_GAECV_NAME, NameMappers.hierarchicalGaecvNameMapper());
+        result.put(NameMappers.FILE_HIERARCHICAL_GAECV_NAME, NameMappers.fileHierarchicalGaecvNameMapper());
         return result;
     }
 
@@ -394,6 +401,7 @@ public class RepositorySystemSupplier implements Supplier<RepositorySystem> {
     protected Map<String, LockingInhibitorFactory> createLockingInhibitorFactories() {
         HashMap<String, LockingInhibitorFactory> result = new HashMap<>();
         result.put(PrefixesLockingInhibitorFactory.NAME, new PrefixesLockingInhibitorFactory());
+        result.put(ReadOnlyRepositoryLockingInhibitorFactory.NAME, new ReadOnlyRepositoryLockingInhibitorFactory());
         return result;
     }
 
@@ -855,6 +863,20 @@ public class RepositorySystemSupplier implements Supplier<RepositorySystem> {
                 getOfflineController());
     }
 
+    private DataPool.SystemPools dataPoolSystemPools;
+
+    public final DataPool.SystemPools getDataPoolSystemPools() {
+        checkClosed();
+        if (dataPoolSystemPools == null) {
+            dataPoolSystemPools = createDataPoolSystemPools();
+        }
+        return dataPoolSystemPools;
+    }
+
+    protected DataPool.SystemPools createDataPoolSystemPools() {
+        return new DataPool.SystemPools();
+    }
+
     private Map<String, DependencyCollectorDelegate> dependencyCollectorDelegates;
 
     public final Map<String, DependencyCollectorDelegate> getDependencyCollectorDelegates() {
@@ -869,6 +891,7 @@ public class RepositorySystemSupplier implements Supplier<RepositorySystem> {
         RemoteRepositoryManager remoteRepositoryManager = getRemoteRepositoryManager();
         ArtifactDescriptorReader artifactDescriptorReader = getArtifactDescriptorReader();
         VersionRangeResolver versionRangeResolver = getVersionRangeResolver();
+        DataPool.SystemPools dataPoolSystemPools = getDataPoolSystemPools();
         HashMap<String, DependencyCollectorDelegate> result = new HashMap<>();
         result.put(
                 DfDependencyCollector.NAME,
@@ -876,14 +899,16 @@ public class RepositorySystemSupplier implements Supplier<RepositorySystem> {
                         remoteRepositoryManager,
                         artifactDescriptorReader,
                         versionRangeResolver,
-                        getArtifactDecoratorFactories()));
+                        getArtifactDecoratorFactories(),
+                        dataPoolSystemPools));
         result.put(
                 BfDependencyCollector.NAME,
                 new BfDependencyCollector(
                         remoteRepositoryManager,
                         artifactDescriptorReader,
                         versionRangeResolver,
-                        getArtifactDecoratorFactories()));
+                        getArtifactDecoratorFactories(),
+                        dataPoolSystemPools));
         return result;
     }
 
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.aether.Keys;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.RemoteRepository;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A session scoped, memoizing view of the session configuration properties. Semantics of lookups are same as those
+ * of {@link ConfigUtils}, but values are parsed once per {@link Key} (and per repository, when repository specific
+ * lookup is used), and subsequent lookups are served from the view without any allocation. This class is meant to be
+ * used on "hot paths", that are invoked many times during session, like per-artifact or per-repository checks.
+ * <p>
+ * Keys are expected to be created once, and kept in constants of the component using them, as memoization is bound
+ * to key instances. Components are expected to obtain the view once per session (or operation), and reuse it.
+ * <p>
+ * The view is bound to the instance of {@link RepositorySystemSession#getConfigProperties()} it was created for, and
+ * is stored in {@link RepositorySystemSession#getData()}. Method {@link #of(RepositorySystemSession)} returns the
+ * cached instance as long as session config properties instance did not change, otherwise a new view is created.
+ *
+ * @see ConfigUtils
+ * @since 2.0.23
+ */
+public final class ConfigView {
+    private static final Object KEY = Keys.of(ConfigView.class, "view");
+
+    private static final Object NULL = new Object();
+
+    /**
+     * Returns the configuration view of given session, never {@code null}.
+     *
+     * @param session the repository system session, must not be {@code null}
+     * @return the configuration view bound to current configuration properties of the session
+     */
+    public static ConfigView of(RepositorySystemSession session) {
+        requireNonNull(session, "session cannot be null");
+        Map<String, Object> properties = session.getConfigProperties();
+        SessionData data = session.getData();
+        ConfigView view = (ConfigView) data.get(KEY);
+        if (view == null || view.properties != properties) {
+            ConfigView fresh = new ConfigView(properties);
+            data.set(KEY, view, fresh);
+            return fresh;
+        }
+        return view;
+    }
+
+    /**
+     * Creates a string key, see {@link ConfigUtils#getString(Map, String, String...)}.
+     */
+    public static Key<String> stringKey(String defaultValue, String... keys) {
+        return new Key<>(Type.STRING, defaultValue, keys);
+    }
+
+    /**
+     * Creates an integer key, see {@link ConfigUtils#getInteger(Map, int, String...)}.
+     */
+    public static Key<Integer> integerKey(int defaultValue, String... keys) {
+        return new Key<>(Type.INTEGER, defaultValue, keys);
+    }
+
+    /**
+     * Creates a long key, see {@link ConfigUtils#getLong(Map, long, String...)}.
+     */
+    public static Key<Long> longKey(long defaultValue, String... keys) {
+        return new Key<>(Type.LONG, defaultValue, keys);
+    }
+
+    /**
+     * Creates a boolean key, see {@link ConfigUtils#getBoolean(Map, boolean, String...)}.
+     */
+    public static Key<Boolean> booleanKey(boolean defaultValue, String... keys) {
+        return new Key<>(Type.BOOLEAN, defaultValue, keys);
+    }
+
+    private final Map<String, Object> properties;
+
+    private final ConcurrentHashMap<Key<?>, Object> values;
+
+    private final ConcurrentHashMap<Key<?>, ConcurrentHashMap<String, Object>> repositoryValues;
+
+    private ConfigView(Map<String, Object> properties) {
+        this.properties = properties;
+        this.values = new ConcurrentHashMap<>();
+        this.repositoryValues = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the configuration property of given key, reading the keys of key chain one after one.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the property value or default value of key if none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key<T> key) {
+        Object value = values.get(key);
+        if (value == null) {
+            value = values.computeIfAbsent(key, k -> resolve(k, k.keys));
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    /**
+     * Gets the repository specific configuration property of given key. The first key in chain is the repository key
+     * of given key (by default the first key of key chain) suffixed with {@code "." + repository.getId()}, followed by
+     * the key chain. The suffixed key is constructed only once per repository.
+     *
+     * @param key the key, must not be {@code null}
+     * @param repository the repository, must not be {@code null}
+     * @return the property value or default value of key if none
+     * @see Key#withRepositoryKey(String)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key<T> key, RemoteRepository repository) {
+        String repositoryId = repository.getId();
+        ConcurrentHashMap<String, Object> perRepository = repositoryValues.get(key);
+        if (perRepository == null) {
+            perRepository = repositoryValues.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        Object value = perRepository.get(repositoryId);
+        if (value == null) {
+            value = perRepository.computeIfAbsent(repositoryId, id -> {
+                String[] chain = new String[key.keys.length + 1];
+                chain[0] = key.repositoryKey + "." + id;
+                System.arraycopy(key.keys, 0, chain, 1, key.keys.length);
+                return resolve(key, chain);
+            });
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    private Object resolve(Key<?> key, String[] chain) {
+        Object result;
+        switch (key.type) {
+            case STRING:
+                result = ConfigUtils.getString(properties, (String) key.defaultValue, chain);
+                break;
+            case INTEGER:
+                result = ConfigUtils.getInteger(properties, (Integer) key.defaultValue, chain);
+                break;
+            case LONG:
+                result = ConfigUtils.getLong(properties, (Long) key.defaultValue, chain);
+                break;
+            case BOOLEAN:
+                result = ConfigUtils.getBoolean(properties, (Boolean) key.defaultValue, chain);
+                break;
+            default:
+                throw new IllegalStateException("unknown type " + key.type);
+        }
+        return result == null ? NULL : result;
+    }
+
+    private enum Type {
+        STRING,
+        INTEGER,
+        LONG,
+        BOOLEAN
+    }
+
+    /**
+     * A configuration key: a chain of property keys with type and default value. Keys are memoized by identity, so
+     * they should be created once and reused.
+     *
+     * @param <T> the type of value
+     */
+    public static final class Key<T> {
+        private final Type type;
+        private final T defaultValue;
+        private final String repositoryKey;
+        private final String[] keys;
+
+        private Key(Type type, T defaultValue, String[] keys) {
+            this(type, defaultValue, keys.length > 0 ? keys[0] : null, keys);
+        }
+
+        private Key(Type type, T defaultValue, String repositoryKey, String[] keys) {
+            if (keys.length == 0) {
+                throw new IllegalArgumentException("keys cannot be empty");
+            }
+            this.type = type;
+            this.defaultValue = defaultValue;
+            this.repositoryKey = requireNonNull(repositoryKey, "repositoryKey cannot be null");
+            this.keys = keys.clone();
+        }
+
+        /**
+         * Returns a new key with same key chain and default value, but using given key, suffixed with repository ID,
+         * as first key in chain in repository specific lookups.
+         */
+        public Key<T> withRepositoryKey(String repositoryKey) {
+            return new Key<>(type, defaultValue, repositoryKey, keys);
+        }
+    }
+}
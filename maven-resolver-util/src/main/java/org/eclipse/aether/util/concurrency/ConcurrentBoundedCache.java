@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.concurrency;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A concurrent cache with hard references and bounded size, meant for long-lived processes where unbounded growth
+ * of hard cache, and GC churn of weak cache, are both undesirable.
+ * <p>
+ * Design:
+ * <ul>
+ *   <li><b>Lock-free reads</b> — {@link ConcurrentHashMap#get} plus setting a "referenced" flag on the entry</li>
+ *   <li><b>CLOCK eviction</b> — entries are kept in insertion order queue, and when the cache is over maximum size,
+ *       entries are polled from head: referenced entries get "second chance" (are re-queued with flag cleared),
+ *       unreferenced entries are evicted. This approximates LRU without reordering on reads</li>
+ *   <li><b>Frequency based admission</b> — accesses are recorded into a small, periodically aged count-min sketch,
+ *       and when insertion of a new entry causes eviction, the new entry is admitted only if it was accessed at
+ *       least as frequently as the eviction victim (TinyLFU), otherwise the new entry is the one to go. This
+ *       prevents "one hit wonders" from flushing frequently used entries</li>
+ *   <li><b>Statistics</b> — hit, miss and eviction counters</li>
+ * </ul>
+ * The size bound is "soft": cache may transiently exceed the maximum size under concurrent insertions.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @since 2.0.23
+ */
+public class ConcurrentBoundedCache<K, V> implements ConcurrentCache<K, V> {
+    private final int maximumSize;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+
+    private final ConcurrentLinkedQueue<Node<K, V>> clock;
+
+    private volatile FrequencySketch sketch;
+
+    private final ReentrantLock evictionLock;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private final LongAdder evictions;
+
+    /**
+     * Creates a new cache with the given maximum size.
+     *
+     * @param maximumSize the maximum count of entries in this cache, must be greater than zero
+     */
+    public ConcurrentBoundedCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 256));
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.sketch = new FrequencySketch(Math.min(maximumSize, FrequencySketch.INITIAL_CAPACITY));
+        this.evictionLock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    @Override
+    public V get(K key) {
+        requireNonNull(key, "key cannot be null");
+        sketch.increment(key.hashCode());
+        Node<K, V> node = map.get(key);
+        if (node != null) {
+            node.referenced = true;
+            hits.increment();
+            return node.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        requireNonNull(key, "key cannot be null");
+        requireNonNull(value, "value cannot be null");
+        // not a lookup: statistics and frequency are recorded by get, usually invoked just before
+        Node<K, V> existing = map.get(key);
+        if (existing != null) {
+            existing.referenced = true;
+            return existing.value;
+        }
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> prev = map.putIfAbsent(key, node);
+        if (prev != null) {
+            prev.referenced = true;
+            return prev.value;
+        }
+        clock.offer(node);
+        int size = map.size();
+        if (size > maximumSize) {
+            evict(node);
+        } else if (size > sketch.capacity) {
+            // the sketch grows with the cache, so it costs nothing for caches never reaching their maximum size
+            sketch = new FrequencySketch(Math.min(maximumSize, size << 1));
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the maximum size of this cache.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the count of lookups ({@link #get(Object)} invocations) that found an entry.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the count of lookups ({@link #get(Object)} invocations) that did not find an entry.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the count of entries evicted (including new entries not admitted) from this cache.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Evicts entries until the size is at or below maximum size. If some other thread already performs eviction,
+     * this method returns immediately, leaving the cache transiently over maximum size.
+     */
+    private void evict(Node<K, V> candidate) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (map.size() > maximumSize) {
+                Node<K, V> victim = clock.poll();
+                if (victim == null) {
+                    break;
+                }
+                if (victim.evicted) {
+                    continue;
+                }
+                if (victim.referenced) {
+                    victim.referenced = false;
+                    clock.offer(victim);
+                    continue;
+                }
+                if (candidate != null && candidate != victim && !candidate.evicted) {
+                    FrequencySketch sketch = this.sketch;
+                    if (sketch.frequency(candidate.key.hashCode()) < sketch.frequency(victim.key.hashCode())) {
+                        // candidate loses: victim stays (re-queued), and candidate goes
+                        clock.offer(victim);
+                        victim = candidate;
+                    }
+                    candidate = null;
+                }
+                victim.evicted = true;
+                if (map.remove(victim.key, victim)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{size=" + size() + ", maximumSize=" + maximumSize + ", hits="
+                + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+
+        private final V value;
+
+        private volatile boolean referenced;
+
+        private volatile boolean evicted;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A count-min sketch with four rows of saturating counters (each row four times wider than its capacity), used
+     * to estimate access frequency of keys. Once the count of recorded accesses reaches the sample size, all counters
+     * are halved ("aging"), so the sketch reflects recent history. Updates are intentionally not synchronized: lost
+     * updates only make the estimate less precise. The cache replaces the sketch with a bigger one (losing recorded
+     * history) as its size grows, up to its maximum size.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb8f8bf4b, 0xe0b2ad8f, 0x7e1ab7c5};
+
+        private static final int MAX_COUNT = 15;
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final int capacity;
+
+        private final byte[] table;
+
+        private final int width;
+
+        private final int shift;
+
+        private final int sampleSize;
+
+        private int additions;
+
+        private FrequencySketch(int size) {
+            int capacity = Integer.highestOneBit(Math.max(16, Math.min(size, 1 << 24)) - 1) << 1;
+            this.capacity = capacity;
+            this.width = 4 * capacity;
+            this.shift = 32 - Integer.numberOfTrailingZeros(width);
+            this.table = new byte[SEEDS.length * width];
+            this.sampleSize = 10 * capacity;
+        }
+
+        private int index(int row, int hash) {
+            return row * width + ((spread(hash) * SEEDS[row]) >>> shift);
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x45d9f3b;
+            return hash ^ (hash >>> 16);
+        }
+
+        private void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(row, hash);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, table[index(row, hash)]);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            additions = 0;
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (byte) (table[i] >>> 1);
+            }
+        }
+    }
+}
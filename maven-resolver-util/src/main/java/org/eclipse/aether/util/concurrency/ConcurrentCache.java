@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.concurrency;
+
+/**
+ * A concurrent cache, mostly used for interning of immutable instances. Implementations are thread safe, and may
+ * drop entries at any time (due garbage collection or eviction), so callers must be prepared to not find previously
+ * stored entries.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @see ConcurrentWeakCache
+ * @see ConcurrentBoundedCache
+ * @since 2.0.23
+ */
+public interface ConcurrentCache<K, V> {
+    /**
+     * Returns the value for the given key, or {@code null} if the key is not present.
+     *
+     * @param key the key to look up, must not be {@code null}
+     * @return the cached value, or {@code null}
+     */
+    V get(K key);
+
+    /**
+     * If the key is not already present, stores the key-value pair and returns the given value. If the key is
+     * already present, returns the existing value without storing.
+     *
+     * @param key the key, must not be {@code null}
+     * @param value the value to store if absent, must not be {@code null}
+     * @return the existing value if present, or the given value
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return the cache size
+     */
+    int size();
+}
@@ -45,7 +45,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @param <V> the type of values
  * @since 2.0.19
  */
-public class ConcurrentWeakCache<K, V> {
+public class ConcurrentWeakCache<K, V> implements ConcurrentCache<K, V> {
 
     private final ConcurrentHashMap<Object, WeakReference<V>> map;
     private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
@@ -83,6 +83,7 @@ public class ConcurrentWeakCache<K, V> {
      * @param key the key to look up
      * @return the cached value, or {@code null}
      */
+    @Override
     @SuppressWarnings("unchecked")
     public V get(K key) {
         LookupKey<K> lookupKey = LOOKUP_KEY.get();
@@ -121,6 +122,7 @@ public class ConcurrentWeakCache<K, V> {
      * @param value the value to store if absent
      * @return the existing value if present, or the given value if newly stored
      */
+    @Override
     public V putIfAbsent(K key, V value) {
         // Fast path: lock-free lookup, zero allocation (ThreadLocal LookupKey)
         V existing = get(key);
@@ -150,6 +152,7 @@ public class ConcurrentWeakCache<K, V> {
      *
      * @return the cache size
      */
+    @Override
     public int size() {
         return map.size();
     }
@@ -18,10 +18,13 @@
  */
 package org.eclipse.aether.util.filter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -42,6 +45,14 @@ class AbstractPatternDependencyFilter implements DependencyFilter {
 
     private final VersionScheme versionScheme;
 
+    /**
+     * Patterns compiled into matchers, indexed by exact groupId (and exact artifactId within it). Patterns having
+     * no exact groupId are kept in {@link #nonExactGroupPatterns}.
+     */
+    private final Map<String, GroupPatterns> exactGroupPatterns = new HashMap<>();
+
+    private final GroupPatterns nonExactGroupPatterns = new GroupPatterns();
+
     /**
      * Creates a new filter using the specified patterns.
      *
@@ -83,97 +94,194 @@ class AbstractPatternDependencyFilter implements DependencyFilter {
             this.patterns.addAll(patterns);
         }
         this.versionScheme = versionScheme;
-    }
-
-    public boolean accept(final DependencyNode node, List<DependencyNode> parents) {
-        requireNonNull(node, "node cannot be null");
-        requireNonNull(parents, "parents cannot be null");
-        final Dependency dependency = node.getDependency();
-        if (dependency == null) {
-            return true;
+        for (String pattern : this.patterns) {
+            compile(pattern);
         }
-        return accept(dependency.getArtifact());
     }
 
-    protected boolean accept(final Artifact artifact) {
-        for (final String pattern : patterns) {
-            final boolean matched = accept(artifact, pattern);
-            if (matched) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean accept(final Artifact artifact, final String pattern) {
-        final String[] tokens = new String[] {
-            artifact.getGroupId(), artifact.getArtifactId(), artifact.getExtension(), artifact.getBaseVersion()
-        };
-
+    /**
+     * Tokenizes pattern once, and files it under proper index.
+     */
+    private void compile(final String pattern) {
         final String[] patternTokens = pattern.split(":");
-
-        // fail immediately if pattern tokens outnumber tokens to match
-        boolean matched = (patternTokens.length <= tokens.length);
-
-        for (int i = 0; matched && i < patternTokens.length; i++) {
-            matched = matches(tokens[i], patternTokens[i]);
+        // pattern tokens outnumbering tokens to match (G:A:E:V) never match
+        if (patternTokens.length > 4) {
+            return;
+        }
+        final TokenMatcher[] matchers = new TokenMatcher[patternTokens.length];
+        for (int i = 0; i < patternTokens.length; i++) {
+            matchers[i] = compileToken(patternTokens[i]);
+        }
+        GroupPatterns groupPatterns = nonExactGroupPatterns;
+        if (matchers.length > 0 && matchers[0].type == TokenMatcher.EXACT) {
+            groupPatterns = exactGroupPatterns.computeIfAbsent(matchers[0].value, k -> new GroupPatterns());
+        }
+        if (matchers.length > 1 && matchers[1].type == TokenMatcher.EXACT) {
+            groupPatterns
+                    .exactArtifactPatterns
+                    .computeIfAbsent(matchers[1].value, k -> new ArrayList<>())
+                    .add(matchers);
+        } else {
+            groupPatterns.nonExactArtifactPatterns.add(matchers);
         }
-
-        return matched;
     }
 
-    private boolean matches(final String token, final String pattern) {
-        boolean matches;
-
+    private TokenMatcher compileToken(final String pattern) {
         // support full wildcard and implied wildcard
         if ("*".equals(pattern) || pattern.isEmpty()) {
-            matches = true;
+            return TokenMatcher.ANY_MATCHER;
         }
         // support contains wildcard
         else if (pattern.startsWith("*") && pattern.endsWith("*")) {
-            final String contains = pattern.substring(1, pattern.length() - 1);
-
-            matches = (token.contains(contains));
+            return new TokenMatcher(TokenMatcher.CONTAINS, pattern.substring(1, pattern.length() - 1), null);
         }
         // support leading wildcard
         else if (pattern.startsWith("*")) {
-            final String suffix = pattern.substring(1);
-
-            matches = token.endsWith(suffix);
+            return new TokenMatcher(TokenMatcher.SUFFIX, pattern.substring(1), null);
         }
         // support trailing wildcard
         else if (pattern.endsWith("*")) {
-            final String prefix = pattern.substring(0, pattern.length() - 1);
-
-            matches = token.startsWith(prefix);
+            return new TokenMatcher(TokenMatcher.PREFIX, pattern.substring(0, pattern.length() - 1), null);
         }
         // support versions range
         else if (pattern.startsWith("[") || pattern.startsWith("(")) {
-            matches = isVersionIncludedInRange(token, pattern);
+            VersionRange range = null;
+            if (versionScheme != null) {
+                try {
+                    range = versionScheme.parseVersionRange(pattern);
+                } catch (final InvalidVersionSpecificationException e) {
+                    // range stays null: matches nothing
+                }
+            }
+            return new TokenMatcher(TokenMatcher.RANGE, pattern, range);
         }
         // support exact match
         else {
-            matches = token.equals(pattern);
+            return new TokenMatcher(TokenMatcher.EXACT, pattern, null);
         }
+    }
 
-        return matches;
+    public boolean accept(final DependencyNode node, List<DependencyNode> parents) {
+        requireNonNull(node, "node cannot be null");
+        requireNonNull(parents, "parents cannot be null");
+        final Dependency dependency = node.getDependency();
+        if (dependency == null) {
+            return true;
+        }
+        return accept(dependency.getArtifact());
+    }
+
+    protected boolean accept(final Artifact artifact) {
+        final GroupPatterns groupPatterns = exactGroupPatterns.get(artifact.getGroupId());
+        return (groupPatterns != null && accept(artifact, groupPatterns)) || accept(artifact, nonExactGroupPatterns);
+    }
+
+    private boolean accept(final Artifact artifact, final GroupPatterns groupPatterns) {
+        final List<TokenMatcher[]> exact = groupPatterns.exactArtifactPatterns.get(artifact.getArtifactId());
+        return (exact != null && accept(artifact, exact)) || accept(artifact, groupPatterns.nonExactArtifactPatterns);
+    }
+
+    private boolean accept(final Artifact artifact, final List<TokenMatcher[]> patterns) {
+        for (final TokenMatcher[] pattern : patterns) {
+            if (accept(artifact, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean accept(final Artifact artifact, final TokenMatcher[] pattern) {
+        boolean matched = true;
+        for (int i = 0; matched && i < pattern.length; i++) {
+            matched = matches(token(artifact, i), pattern[i]);
+        }
+        return matched;
     }
 
-    private boolean isVersionIncludedInRange(final String version, final String range) {
-        if (versionScheme == null) {
+    private static String token(final Artifact artifact, final int index) {
+        switch (index) {
+            case 0:
+                return artifact.getGroupId();
+            case 1:
+                return artifact.getArtifactId();
+            case 2:
+                return artifact.getExtension();
+            default:
+                return artifact.getBaseVersion();
+        }
+    }
+
+    private boolean matches(final String token, final TokenMatcher matcher) {
+        switch (matcher.type) {
+            case TokenMatcher.ANY:
+                return true;
+            case TokenMatcher.CONTAINS:
+                return token.contains(matcher.value);
+            case TokenMatcher.SUFFIX:
+                return token.endsWith(matcher.value);
+            case TokenMatcher.PREFIX:
+                return token.startsWith(matcher.value);
+            case TokenMatcher.RANGE:
+                return isVersionIncludedInRange(token, matcher.range);
+            default:
+                return token.equals(matcher.value);
+        }
+    }
+
+    private boolean isVersionIncludedInRange(final String version, final VersionRange range) {
+        if (range == null) {
             return false;
         } else {
             try {
                 final Version parsedVersion = versionScheme.parseVersion(version);
-                final VersionRange parsedRange = versionScheme.parseVersionRange(range);
 
-                return parsedRange.containsVersion(parsedVersion);
+                return range.containsVersion(parsedVersion);
             } catch (final InvalidVersionSpecificationException e) {
                 return false;
             }
         }
     }
 
+    /**
+     * Compiled patterns of one groupId, indexed by exact artifactId.
+     */
+    private static final class GroupPatterns {
+        private final Map<String, List<TokenMatcher[]>> exactArtifactPatterns = new HashMap<>();
+
+        private final List<TokenMatcher[]> nonExactArtifactPatterns = new ArrayList<>();
+    }
+
+    /**
+     * Compiled pattern token.
+     */
+    private static final class TokenMatcher {
+        private static final int ANY = 0;
+
+        private static final int CONTAINS = 1;
+
+        private static final int SUFFIX = 2;
+
+        private static final int PREFIX = 3;
+
+        private static final int RANGE = 4;
+
+        private static final int EXACT = 5;
+
+        private static final TokenMatcher ANY_MATCHER = new TokenMatcher(ANY, "*", null);
+
+        private final int type;
+
+        private final String value;
+
+        private final VersionRange range;
+
+        private TokenMatcher(int type, String value, VersionRange range) {
+            this.type = type;
+            this.value = value;
+            this.range = range;
+        }
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
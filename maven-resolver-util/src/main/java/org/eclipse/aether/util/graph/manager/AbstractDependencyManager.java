@@ -108,6 +108,14 @@ import static java.util.Objects.requireNonNull;
  * <ul>
  * <li>This class maintains a "path" (list of parent managers) and "depth".</li>
  * <li>The field {@code managedLocalPaths} is <em>intentionally left out of hash/equals</em>.</li>
+ * <li>Equality is "behavioral": it ignores state that cannot affect management of any dependency below this
+ *     manager, so that equal subtrees reached via different paths can share dependency collector cache entries.
+ *     Ignored are own version, scope and optional rules of managers that do not derive anymore (these rules are
+ *     not applied by this manager itself, except at depth 1), the exact depth beyond the depth from which
+ *     {@link #isDerived()} and {@link #isApplied()} cannot change anymore, and ancestors not carrying any rules.
+ *     Other subclasses than the ones provided by this package overriding {@link #isDerived()}, {@link #isApplied()}
+ *     or {@link #isInheritedDerived()} cannot be assumed to keep them constant from that depth, hence their instances
+ *     fall back to exact equality, comparing depth and all rules of all ancestors.</li>
  * <li>Each dependency "derives" an instance with its own context to process second-level
  *     dependencies and so on.</li>
  * </ul>
@@ -173,8 +181,30 @@ public abstract class AbstractDependencyManager implements DependencyManager {
     private final LayeredMap<Key, Collection<Exclusion>> ancestorExclusions;
 
     /**
-     * Pre-computed hash code (excludes managedLocalPaths).
-     * Cascading: incorporates the parent's hashCode so a single int comparison
+     * The depth used for equality: depth is capped at the depth from which behavior of manager does not depend
+     * on depth anymore.
+     */
+    private final int equalityDepth;
+
+    /**
+     * Whether equality is behavioral, or exact as subclass overrides methods defining behavior at given depth.
+     */
+    private final boolean behavioralEquality;
+
+    /**
+     * Whether own version, scope and optional rules are visible, either to this manager or its derived children.
+     */
+    private final boolean ownRulesVisible;
+
+    /**
+     * Cascading hash of rules carried by this manager and its ancestors, not including depth and ancestors without
+     * rules (excludes managedLocalPaths).
+     */
+    private final int rulesHashCode;
+
+    /**
+     * Pre-computed hash code (excludes managedLocalPaths and invisible state).
+     * Cascading: incorporates the parent's rules hash so a single int comparison
      * reflects the entire ancestor chain without walking it.
      */
     private final int hashCode;
@@ -190,14 +220,39 @@ public abstract class AbstractDependencyManager implements DependencyManager {
      * {@code IdentityHashMap} which would retain every derived {@code DependencyManager} and
      * prevent GC of the dependency subtrees they reference.
      * <p>
-     * The BFS collector's traversal loop is single-threaded, so no synchronization is needed.
+     * No synchronization is used: each slot holds an immutable key-result pair, so when a manager is shared by
+     * concurrent collections (like a session manager in batch collection), a racing derivation may at worst miss the
+     * cache, but can never observe a result paired with a different list.
      */
     private static final int MEMO_CACHE_SIZE = 16;
 
-    @SuppressWarnings("unchecked")
-    private transient List<Dependency>[] memoKeys = new List[MEMO_CACHE_SIZE];
+    /**
+     * Whether instances of given class may use behavioral equality: true unless a class not provided by this package
+     * overrides any of the methods defining behavior at given depth.
+     */
+    private static final ClassValue<Boolean> BEHAVIORAL_EQUALITY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != AbstractDependencyManager.class; c = c.getSuperclass()) {
+                if (c == ClassicDependencyManager.class
+                        || c == TransitiveDependencyManager.class
+                        || c == DefaultDependencyManager.class) {
+                    continue;
+                }
+                for (String method : new String[] {"isDerived", "isApplied", "isInheritedDerived"}) {
+                    try {
+                        c.getDeclaredMethod(method);
+                        return false;
+                    } catch (NoSuchMethodException e) {
+                        // not overridden by this class
+                    }
+                }
+            }
+            return true;
+        }
+    };
 
-    private transient DependencyManager[] memoValues = new DependencyManager[MEMO_CACHE_SIZE];
+    private transient Memo[] memos = new Memo[MEMO_CACHE_SIZE];
     private transient int memoIndex;
 
     /**
@@ -264,15 +319,68 @@ public abstract class AbstractDependencyManager implements DependencyManager {
             this.ancestorExclusions = null;
         }
 
-        // Cascading hash: incorporates the parent's pre-computed hash so a single int
+        // Beyond this depth isDerived(), isApplied() and the depth == 1 special case cannot change anymore
+        int stableDepth = Math.max(2, applyFrom);
+        if (deriveUntil != Integer.MAX_VALUE) {
+            stableDepth = Math.max(stableDepth, deriveUntil);
+        }
+        this.behavioralEquality = BEHAVIORAL_EQUALITY.get(getClass());
+        this.equalityDepth = behavioralEquality ? Math.min(depth, stableDepth) : depth;
+        this.ownRulesVisible = !behavioralEquality || depth == 1 || depth < deriveUntil;
+
+        // Cascading hash: incorporates the parent's pre-computed rules hash so a single int
         // comparison reflects the entire ancestor chain. Excludes managedLocalPaths.
-        int h = parent != null ? parent.hashCode : 0;
-        h = 31 * h + depth;
-        h = 31 * h + Objects.hashCode(managedVersions);
-        h = 31 * h + Objects.hashCode(managedScopes);
-        h = 31 * h + Objects.hashCode(managedOptionals);
+        int parentRulesHashCode = parent != null ? parent.rulesHashCode : 0;
+        this.rulesHashCode = hasRules() ? 31 * parentRulesHashCode + ownRulesHashCode() : parentRulesHashCode;
+        this.hashCode = 31 * (31 * parentRulesHashCode + equalityDepth) + ownRulesHashCode();
+    }
+
+    private boolean hasRules() {
+        return !behavioralEquality
+                || (ownRulesVisible && (managedVersions != null || managedScopes != null || managedOptionals != null))
+                || managedExclusions != null;
+    }
+
+    private int ownRulesHashCode() {
+        int h = 0;
+        if (ownRulesVisible) {
+            h = 31 * h + Objects.hashCode(managedVersions);
+            h = 31 * h + Objects.hashCode(managedScopes);
+            h = 31 * h + Objects.hashCode(managedOptionals);
+        }
         h = 31 * h + Objects.hashCode(managedExclusions);
-        this.hashCode = h;
+        return h;
+    }
+
+    private boolean sameOwnRules(AbstractDependencyManager that) {
+        return ownRulesVisible == that.ownRulesVisible
+                && (!ownRulesVisible
+                        || Objects.equals(managedVersions, that.managedVersions)
+                                && Objects.equals(managedScopes, that.managedScopes)
+                                && Objects.equals(managedOptionals, that.managedOptionals))
+                && Objects.equals(managedExclusions, that.managedExclusions);
+    }
+
+    /**
+     * Compares rules carried by ancestor chains, skipping ancestors without rules.
+     */
+    private static boolean sameRules(AbstractDependencyManager a, AbstractDependencyManager b) {
+        while (true) {
+            while (a != null && !a.hasRules()) {
+                a = a.parent;
+            }
+            while (b != null && !b.hasRules()) {
+                b = b.parent;
+            }
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null || a.rulesHashCode != b.rulesHashCode || !a.sameOwnRules(b)) {
+                return false;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
     }
 
     /**
@@ -468,8 +576,9 @@ public abstract class AbstractDependencyManager implements DependencyManager {
         // A 4-entry ring buffer captures the common BOM patterns in a large reactor.
         List<Dependency> managedDeps = context.getManagedDependencies();
         for (int i = 0; i < MEMO_CACHE_SIZE; i++) {
-            if (managedDeps == memoKeys[i] && memoValues[i] != null) {
-                return memoValues[i];
+            Memo memo = memos[i];
+            if (memo != null && managedDeps == memo.managedDependencies) {
+                return memo.result;
             }
         }
 
@@ -574,9 +683,9 @@ public abstract class AbstractDependencyManager implements DependencyManager {
         }
 
         // Cache the result in the ring buffer for future calls with the same managed deps list
-        memoKeys[memoIndex] = managedDeps;
-        memoValues[memoIndex] = result;
-        memoIndex = (memoIndex + 1) % MEMO_CACHE_SIZE;
+        int index = memoIndex;
+        memos[index] = new Memo(managedDeps, result);
+        memoIndex = (index + 1) % MEMO_CACHE_SIZE;
         return result;
     }
 
@@ -716,16 +825,15 @@ public abstract class AbstractDependencyManager implements DependencyManager {
         if (hashCode != that.hashCode) {
             return false;
         }
-        // exclude managedLocalPaths
+        // exclude managedLocalPaths and state not affecting behavior (see class javadoc)
         // Check cheap fields (depth) before expensive ones (maps, parent chain).
-        // Parent comparison is recursive but each level is hash-guarded, and
-        // shared parents (same identity) short-circuit via the this==obj check.
-        return depth == that.depth
-                && Objects.equals(managedVersions, that.managedVersions)
-                && Objects.equals(managedScopes, that.managedScopes)
-                && Objects.equals(managedOptionals, that.managedOptionals)
-                && Objects.equals(managedExclusions, that.managedExclusions)
-                && Objects.equals(parent, that.parent);
+        // Parent chain comparison is hash-guarded at each level, and shared
+        // ancestors (same identity) short-circuit the walk.
+        return equalityDepth == that.equalityDepth
+                && deriveUntil == that.deriveUntil
+                && applyFrom == that.applyFrom
+                && sameOwnRules(that)
+                && sameRules(parent, that.parent);
     }
 
     @Override
@@ -733,6 +841,35 @@ public abstract class AbstractDependencyManager implements DependencyManager {
         return hashCode;
     }
 
+    /**
+     * Returns {@code true} if this manager and passed in one carry same local path rules, that are intentionally
+     * left out of {@link #equals(Object)}. Equal managers carrying same local path rules behave the same, hence one
+     * may replace the other, for example when canonicalizing derived managers.
+     *
+     * @since 2.0.23
+     */
+    public boolean hasSameLocalPaths(AbstractDependencyManager that) {
+        requireNonNull(that, "that cannot be null");
+        AbstractDependencyManager a = this;
+        AbstractDependencyManager b = that;
+        while (true) {
+            while (a != null && a.managedLocalPaths == null) {
+                a = a.parent;
+            }
+            while (b != null && b.managedLocalPaths == null) {
+                b = b.parent;
+            }
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null || !a.managedLocalPaths.equals(b.managedLocalPaths)) {
+                return false;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
+    }
+
     /**
      * Key class for dependency management rules based on GACE coordinates.
      * GACE = Group, Artifact, Classifier, Extension (excludes version for management purposes).
@@ -789,6 +926,20 @@ public abstract class AbstractDependencyManager implements DependencyManager {
         }
     }
 
+    /**
+     * Memoization cache entry: a managed dependencies list and the manager derived for it.
+     */
+    private static final class Memo {
+        private final List<Dependency> managedDependencies;
+
+        private final DependencyManager result;
+
+        private Memo(List<Dependency> managedDependencies, DependencyManager result) {
+            this.managedDependencies = managedDependencies;
+            this.result = result;
+        }
+    }
+
     /**
      * Wrapper class for collection to memoize hash code.
      *
@@ -36,6 +36,7 @@ import org.eclipse.aether.collection.DependencyGraphTransformationContext;
 import org.eclipse.aether.graph.DefaultDependencyNode;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 import static java.util.Objects.requireNonNull;
@@ -86,6 +87,15 @@ import static java.util.Objects.requireNonNull;
  * @since 2.0.11
  */
 public final class ClassicConflictResolver extends ConflictResolver {
+    /**
+     * Outcomes of gathering conflict items of single node.
+     */
+    private static final int GATHER_DONE = 0;
+
+    private static final int GATHER_LOSER = 1;
+
+    private static final int GATHER_PUSHED = 2;
+
     private final ConflictResolver.VersionSelector versionSelector;
     private final ConflictResolver.ScopeSelector scopeSelector;
     private final ConflictResolver.ScopeDeriver scopeDeriver;
@@ -173,18 +183,16 @@ public final class ClassicConflictResolver extends ConflictResolver {
 
                 state.scopeSelector.selectScope(ctx);
                 if (ConflictResolver.Verbosity.NONE != state.verbosity) {
-                    winner.setData(
-                            ConflictResolver.NODE_DATA_ORIGINAL_SCOPE,
-                            winner.getDependency().getScope());
+                    LazyConflictData.record(
+                            winner,
+                            null,
+                            winner.getDependency().getScope(),
+                            winner.getDependency().isOptional(),
+                            state.lazyVerboseData);
                 }
                 winner.setScope(ctx.scope);
 
                 state.optionalitySelector.selectOptionality(ctx);
-                if (ConflictResolver.Verbosity.NONE != state.verbosity) {
-                    winner.setData(
-                            ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY,
-                            winner.getDependency().isOptional());
-                }
                 winner.setOptional(ctx.optional);
 
                 removeLosers(state);
@@ -211,7 +219,34 @@ public final class ClassicConflictResolver extends ConflictResolver {
         return node;
     }
 
-    private boolean gatherConflictItems(DependencyNode node, State state) throws RepositoryException {
+    /**
+     * Walks the graph using explicit stack of children iterators (one per node pushed onto state), as recursion would
+     * limit the depth of graphs that can be processed by the thread stack size.
+     */
+    private void gatherConflictItems(DependencyNode node, State state) throws RepositoryException {
+        if (gatherConflictItem(node, state) != GATHER_PUSHED) {
+            return;
+        }
+        ArrayList<Iterator<DependencyNode>> stack = new ArrayList<>();
+        stack.add(node.getChildren().iterator());
+        while (!stack.isEmpty()) {
+            Iterator<DependencyNode> it = stack.get(stack.size() - 1);
+            if (it.hasNext()) {
+                DependencyNode child = it.next();
+                int result = gatherConflictItem(child, state);
+                if (result == GATHER_LOSER) {
+                    it.remove();
+                } else if (result == GATHER_PUSHED) {
+                    stack.add(child.getChildren().iterator());
+                }
+            } else {
+                stack.remove(stack.size() - 1);
+                state.pop();
+            }
+        }
+    }
+
+    private int gatherConflictItem(DependencyNode node, State state) throws RepositoryException {
         String conflictId = state.conflictIds.get(node);
         if (state.currentId.equals(conflictId)) {
             // found it, add conflict item (if not already done earlier by another path)
@@ -219,18 +254,12 @@ public final class ClassicConflictResolver extends ConflictResolver {
             // we don't recurse here so we might miss losers beneath us, those will be nuked during future walks below
         } else if (state.loser(node, conflictId)) {
             // found a leftover loser (likely in a cycle) of an already processed conflict id, tell caller to nuke it
-            return false;
+            return GATHER_LOSER;
         } else if (state.push(node, conflictId)) {
             // found potential parent, no cycle and not visited before with the same derived scope, so recurse
-            for (Iterator<DependencyNode> it = node.getChildren().iterator(); it.hasNext(); ) {
-                DependencyNode child = it.next();
-                if (!gatherConflictItems(child, state)) {
-                    it.remove();
-                }
-            }
-            state.pop();
+            return GATHER_PUSHED;
         }
-        return true;
+        return GATHER_DONE;
     }
 
     private static void removeLosers(State state) {
@@ -279,13 +308,12 @@ public final class ClassicConflictResolver extends ConflictResolver {
 
                     // FULL: just record the facts
                     DependencyNode loser = new DefaultDependencyNode(child);
-                    loser.setData(ConflictResolver.NODE_DATA_WINNER, winner.node);
-                    loser.setData(
-                            ConflictResolver.NODE_DATA_ORIGINAL_SCOPE,
-                            loser.getDependency().getScope());
-                    loser.setData(
-                            ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY,
-                            loser.getDependency().isOptional());
+                    LazyConflictData.record(
+                            loser,
+                            winner.node,
+                            loser.getDependency().getScope(),
+                            loser.getDependency().isOptional(),
+                            state.lazyVerboseData);
                     loser.setScope(item.getScopes().iterator().next());
                     loser.setChildren(Collections.emptyList());
                     childIt.set(loser);
@@ -423,6 +451,11 @@ public final class ClassicConflictResolver extends ConflictResolver {
          */
         final ConflictResolver.Verbosity verbosity;
 
+        /**
+         * Flag whether verbose conflict data should be recorded lazily.
+         */
+        final boolean lazyVerboseData;
+
         /**
          * A mapping from conflict id to winner node, helps to recognize nodes that have their effective
          * scope&optionality set or are leftovers from previous removals.
@@ -519,6 +552,10 @@ public final class ClassicConflictResolver extends ConflictResolver {
                 throws RepositoryException {
             this.conflictIds = conflictIds;
             this.verbosity = ConflictResolver.getVerbosity(context.getSession());
+            this.lazyVerboseData = ConfigUtils.getBoolean(
+                    context.getSession(),
+                    ConflictResolver.DEFAULT_LAZY_VERBOSE_DATA,
+                    ConflictResolver.CONFIG_PROP_LAZY_VERBOSE_DATA);
             potentialAncestorIds = new HashSet<>(conflictIdCount * 2);
             resolvedIds = new HashMap<>(conflictIdCount * 2);
             items = new ArrayList<>(256);
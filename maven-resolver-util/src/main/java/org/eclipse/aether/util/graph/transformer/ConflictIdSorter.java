@@ -18,13 +18,15 @@
  */
 package org.eclipse.aether.util.graph.transformer;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -67,22 +69,23 @@ public final class ConflictIdSorter implements DependencyGraphTransformer {
         Map<String, Object> stats = (Map<String, Object>) context.get(TransformationContextKeys.STATS);
         long time1 = System.nanoTime();
 
-        Map<String, ConflictId> ids = new LinkedHashMap<>(256);
+        Map<String, ConflictId> ids = new HashMap<>(256);
+        List<ConflictId> idList = new ArrayList<>(256);
 
         ConflictId id = null;
         String key = conflictIds.get(node);
         if (key != null) {
             id = new ConflictId(key, 0);
+            id.index = idList.size();
             ids.put(key, id);
+            idList.add(id);
         }
 
-        Map<DependencyNode, Boolean> visited = new IdentityHashMap<>(conflictIds.size());
-
-        buildConflictIdDAG(ids, node, id, 0, visited, conflictIds);
+        buildConflictIdDAG(ids, idList, node, id, conflictIds);
 
         long time2 = System.nanoTime();
 
-        int cycles = topoSortConflictIds(ids.values(), context);
+        int cycles = topoSortConflictIds(idList, context);
 
         if (stats != null) {
             long time3 = System.nanoTime();
@@ -95,38 +98,69 @@ public final class ConflictIdSorter implements DependencyGraphTransformer {
         return node;
     }
 
+    /**
+     * Builds the conflict id DAG walking the graph in pre-order, using explicit stack, as graphs may be very deep.
+     * Conflict ids are assigned dense indexes in order of discovery.
+     */
     private void buildConflictIdDAG(
             Map<String, ConflictId> ids,
-            DependencyNode node,
-            ConflictId id,
-            int depth,
-            Map<DependencyNode, Boolean> visited,
+            List<ConflictId> idList,
+            DependencyNode root,
+            ConflictId rootId,
             Map<DependencyNode, String> conflictIds) {
-        if (visited.put(node, Boolean.TRUE) != null) {
-            return;
-        }
-
-        depth++;
-
-        for (DependencyNode child : node.getChildren()) {
+        Map<DependencyNode, Boolean> visited = new IdentityHashMap<>(conflictIds.size());
+        visited.put(root, Boolean.TRUE);
+        ArrayList<Frame> stack = new ArrayList<>();
+        stack.add(new Frame(root, rootId, 1));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.get(stack.size() - 1);
+            List<DependencyNode> children = frame.node.getChildren();
+            if (frame.childIndex >= children.size()) {
+                stack.remove(stack.size() - 1);
+                continue;
+            }
+            DependencyNode child = children.get(frame.childIndex++);
             String key = conflictIds.get(child);
             ConflictId childId = ids.get(key);
             if (childId == null) {
-                childId = new ConflictId(key, depth);
+                childId = new ConflictId(key, frame.depth);
+                childId.index = idList.size();
                 ids.put(key, childId);
+                idList.add(childId);
             } else {
-                childId.pullup(depth);
+                childId.pullup(frame.depth);
             }
 
-            if (id != null) {
-                id.add(childId);
+            if (frame.id != null) {
+                frame.id.add(childId);
             }
 
-            buildConflictIdDAG(ids, child, childId, depth, visited, conflictIds);
+            if (visited.put(child, Boolean.TRUE) == null) {
+                stack.add(new Frame(child, childId, frame.depth + 1));
+            }
         }
     }
 
-    private int topoSortConflictIds(Collection<ConflictId> conflictIds, DependencyGraphTransformationContext context) {
+    /**
+     * Graph walk state: the node, its conflict id, depth of its children and index of next child to visit.
+     */
+    private static final class Frame {
+        private final DependencyNode node;
+
+        private final ConflictId id;
+
+        private final int depth;
+
+        private int childIndex;
+
+        private Frame(DependencyNode node, ConflictId id, int depth) {
+            this.node = node;
+            this.id = id;
+            this.depth = depth;
+        }
+    }
+
+    private int topoSortConflictIds(List<ConflictId> conflictIds, DependencyGraphTransformationContext context) {
         List<String> sorted = new ArrayList<>(conflictIds.size());
 
         RootQueue roots = new RootQueue(conflictIds.size() / 2);
@@ -187,47 +221,63 @@ public final class ConflictIdSorter implements DependencyGraphTransformer {
         }
     }
 
-    private Collection<Collection<String>> findCycles(Collection<ConflictId> conflictIds) {
+    /**
+     * Finds cycles walking the conflict id DAG depth-first, using explicit stack, as graphs may be very deep.
+     */
+    private Collection<Collection<String>> findCycles(List<ConflictId> conflictIds) {
         Collection<Collection<String>> cycles = new HashSet<>();
 
-        Map<String, Integer> stack = new HashMap<>(128);
-        Map<ConflictId, Boolean> visited = new IdentityHashMap<>(conflictIds.size());
-        for (ConflictId id : conflictIds) {
-            findCycles(id, visited, stack, cycles);
-        }
-
-        return cycles;
-    }
-
-    private void findCycles(
-            ConflictId id,
-            Map<ConflictId, Boolean> visited,
-            Map<String, Integer> stack,
-            Collection<Collection<String>> cycles) {
-        Integer depth = stack.put(id.key, stack.size());
-        if (depth != null) {
-            stack.put(id.key, depth);
-            Collection<String> cycle = new HashSet<>();
-            for (Map.Entry<String, Integer> entry : stack.entrySet()) {
-                if (entry.getValue() >= depth) {
-                    cycle.add(entry.getKey());
-                }
+        // position of conflict id (by index) on the stack, or -1 if not on stack
+        int[] stackPositions = new int[conflictIds.size()];
+        Arrays.fill(stackPositions, -1);
+        List<ConflictId> stack = new ArrayList<>(128);
+        List<Iterator<ConflictId>> children = new ArrayList<>(128);
+        boolean[] visited = new boolean[conflictIds.size()];
+        for (ConflictId root : conflictIds) {
+            if (visited[root.index]) {
+                continue;
             }
-            cycles.add(cycle);
-        } else {
-            if (visited.put(id, Boolean.TRUE) == null) {
-                for (ConflictId childId : id.children) {
-                    findCycles(childId, visited, stack, cycles);
+            visited[root.index] = true;
+            stackPositions[root.index] = 0;
+            stack.add(root);
+            children.add(root.children.iterator());
+            while (!stack.isEmpty()) {
+                Iterator<ConflictId> it = children.get(children.size() - 1);
+                if (!it.hasNext()) {
+                    ConflictId id = stack.remove(stack.size() - 1);
+                    children.remove(children.size() - 1);
+                    stackPositions[id.index] = -1;
+                    continue;
+                }
+                ConflictId childId = it.next();
+                int position = stackPositions[childId.index];
+                if (position >= 0) {
+                    Collection<String> cycle = new HashSet<>();
+                    for (int i = position; i < stack.size(); i++) {
+                        cycle.add(stack.get(i).key);
+                    }
+                    cycles.add(cycle);
+                } else if (!visited[childId.index]) {
+                    visited[childId.index] = true;
+                    stackPositions[childId.index] = stack.size();
+                    stack.add(childId);
+                    children.add(childId.children.iterator());
                 }
             }
-            stack.remove(id.key);
         }
+
+        return cycles;
     }
 
     static final class ConflictId {
 
         final String key;
 
+        /**
+         * Dense index of this conflict id, used for array based bookkeeping, assigned when registered by the sorter.
+         */
+        int index;
+
         Collection<ConflictId> children = Collections.emptySet();
 
         int inDegree;
@@ -248,12 +298,24 @@ public final class ConflictIdSorter implements DependencyGraphTransformer {
             }
         }
 
+        /**
+         * Lowers the minimum depth of this conflict id and propagates it to its descendants, using explicit worklist,
+         * as chains below may be very deep.
+         */
         public void pullup(int depth) {
             if (depth < minDepth) {
                 minDepth = depth;
-                depth++;
-                for (ConflictId child : children) {
-                    child.pullup(depth);
+                ArrayDeque<ConflictId> pending = new ArrayDeque<>();
+                pending.push(this);
+                while (!pending.isEmpty()) {
+                    ConflictId id = pending.pop();
+                    int childDepth = id.minDepth + 1;
+                    for (ConflictId child : id.children) {
+                        if (childDepth < child.minDepth) {
+                            child.minDepth = childDepth;
+                            pending.push(child);
+                        }
+                    }
                 }
             }
         }
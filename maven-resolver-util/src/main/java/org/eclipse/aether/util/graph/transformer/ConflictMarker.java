@@ -18,11 +18,12 @@
  */
 package org.eclipse.aether.util.graph.transformer;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -59,14 +60,13 @@ public final class ConflictMarker implements DependencyGraphTransformer {
         Map<String, Object> stats = (Map<String, Object>) context.get(TransformationContextKeys.STATS);
         long time1 = System.nanoTime();
 
-        Map<DependencyNode, Boolean> nodes = new IdentityHashMap<>(1024);
-        Map<Key, ConflictGroup> groups = new HashMap<>(1024);
+        Graph graph = new Graph();
 
-        analyze(node, nodes, groups, new int[] {0});
+        analyze(node, graph);
 
         long time2 = System.nanoTime();
 
-        Map<DependencyNode, String> conflictIds = mark(nodes.keySet(), groups);
+        Map<DependencyNode, String> conflictIds = mark(graph);
 
         context.put(TransformationContextKeys.CONFLICT_IDS, conflictIds);
 
@@ -74,65 +74,87 @@ public final class ConflictMarker implements DependencyGraphTransformer {
             long time3 = System.nanoTime();
             stats.put("ConflictMarker.analyzeTime", time2 - time1);
             stats.put("ConflictMarker.markTime", time3 - time2);
-            stats.put("ConflictMarker.nodeCount", nodes.size());
+            stats.put("ConflictMarker.nodeCount", graph.nodes.size());
         }
 
         return node;
     }
 
-    private void analyze(
-            DependencyNode node, Map<DependencyNode, Boolean> nodes, Map<Key, ConflictGroup> groups, int[] counter) {
-        if (nodes.put(node, Boolean.TRUE) != null) {
-            return;
-        }
-
-        Set<Key> keys = getKeys(node);
-        if (!keys.isEmpty()) {
-            ConflictGroup group = null;
-            boolean fixMappings = false;
-
-            for (Key key : keys) {
-                ConflictGroup g = groups.get(key);
-
-                if (group != g) {
-                    if (group == null) {
-                        Set<Key> newKeys = merge(g.keys, keys);
-                        if (newKeys == g.keys) {
-                            group = g;
-                            break;
-                        } else {
-                            group = new ConflictGroup(newKeys, counter[0]++);
-                            fixMappings = true;
-                        }
-                    } else if (g == null) {
-                        fixMappings = true;
-                    } else {
-                        Set<Key> newKeys = merge(g.keys, group.keys);
-                        if (newKeys == g.keys) {
-                            group = g;
-                            fixMappings = false;
-                            break;
-                        } else if (newKeys != group.keys) {
-                            group = new ConflictGroup(newKeys, counter[0]++);
+    /**
+     * Walks the graph in pre-order (using explicit stack, as graphs may be very deep), and records the primary key of
+     * each visited node, while building up conflict groups.
+     */
+    private void analyze(DependencyNode root, Graph graph) {
+        int counter = 0;
+        ArrayList<DependencyNode> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            DependencyNode node = stack.remove(stack.size() - 1);
+            if (!graph.visited.add(node)) {
+                continue;
+            }
+            Key primaryKey = null;
+            Set<Key> keys = Collections.emptySet();
+            Dependency dependency = node.getDependency();
+            if (dependency != null) {
+                primaryKey = graph.key(dependency.getArtifact());
+                keys = getKeys(node, primaryKey, graph);
+            }
+            graph.nodes.add(node);
+            graph.nodeKeys.add(primaryKey);
+
+            if (!keys.isEmpty()) {
+                ConflictGroup group = null;
+                boolean fixMappings = false;
+
+                for (Key key : keys) {
+                    ConflictGroup g = graph.groups.get(key.index);
+
+                    if (group != g) {
+                        if (group == null) {
+                            Set<Key> newKeys = merge(g.keys, keys);
+                            if (newKeys == g.keys) {
+                                group = g;
+                                break;
+                            } else {
+                                group = new ConflictGroup(newKeys, counter++);
+                                fixMappings = true;
+                            }
+                        } else if (g == null) {
                             fixMappings = true;
+                        } else {
+                            Set<Key> newKeys = merge(g.keys, group.keys);
+                            if (newKeys == g.keys) {
+                                group = g;
+                                fixMappings = false;
+                                break;
+                            } else if (newKeys != group.keys) {
+                                group = new ConflictGroup(newKeys, counter++);
+                                fixMappings = true;
+                            }
                         }
                     }
                 }
-            }
 
-            if (group == null) {
-                group = new ConflictGroup(keys, counter[0]++);
-                fixMappings = true;
-            }
-            if (fixMappings) {
-                for (Key key : group.keys) {
-                    groups.put(key, group);
+                if (group == null) {
+                    group = new ConflictGroup(keys, counter++);
+                    fixMappings = true;
+                }
+                if (fixMappings) {
+                    for (Key key : group.keys) {
+                        graph.groups.set(key.index, group);
+                    }
                 }
             }
-        }
 
-        for (DependencyNode child : node.getChildren()) {
-            analyze(child, nodes, groups, counter);
+            // push in reverse order, so first child is processed first
+            List<DependencyNode> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                DependencyNode child = children.get(i);
+                if (!graph.visited.contains(child)) {
+                    stack.add(child);
+                }
+            }
         }
     }
 
@@ -156,54 +178,66 @@ public final class ConflictMarker implements DependencyGraphTransformer {
         return keys;
     }
 
-    private Set<Key> getKeys(DependencyNode node) {
+    private Set<Key> getKeys(DependencyNode node, Key key, Graph graph) {
         Set<Key> keys;
 
-        Dependency dependency = node.getDependency();
-
-        if (dependency == null) {
-            keys = Collections.emptySet();
+        if (node.getRelocations().isEmpty() && node.getAliases().isEmpty()) {
+            keys = Collections.singleton(key);
         } else {
-            Key key = toKey(dependency.getArtifact());
-
-            if (node.getRelocations().isEmpty() && node.getAliases().isEmpty()) {
-                keys = Collections.singleton(key);
-            } else {
-                keys = new HashSet<>();
-                keys.add(key);
+            keys = new HashSet<>();
+            keys.add(key);
 
-                for (Artifact relocation : node.getRelocations()) {
-                    key = toKey(relocation);
-                    keys.add(key);
-                }
+            for (Artifact relocation : node.getRelocations()) {
+                keys.add(graph.key(relocation));
+            }
 
-                for (Artifact alias : node.getAliases()) {
-                    key = toKey(alias);
-                    keys.add(key);
-                }
+            for (Artifact alias : node.getAliases()) {
+                keys.add(graph.key(alias));
             }
         }
 
         return keys;
     }
 
-    private Map<DependencyNode, String> mark(Collection<DependencyNode> nodes, Map<Key, ConflictGroup> groups) {
-        Map<DependencyNode, String> conflictIds = new IdentityHashMap<>(nodes.size() + 1);
+    private Map<DependencyNode, String> mark(Graph graph) {
+        Map<DependencyNode, String> conflictIds = new IdentityHashMap<>(graph.nodes.size() + 1);
 
-        for (DependencyNode node : nodes) {
-            Dependency dependency = node.getDependency();
-            if (dependency != null) {
-                Key key = toKey(dependency.getArtifact());
-                conflictIds.put(
-                        node, String.valueOf(groups.get(key).index).intern()); // interning it as is expected so in UT
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            Key key = graph.nodeKeys.get(i);
+            if (key != null) {
+                conflictIds.put(graph.nodes.get(i), graph.groups.get(key.index).conflictId());
             }
         }
 
         return conflictIds;
     }
 
-    private static Key toKey(Artifact artifact) {
-        return new Key(artifact);
+    /**
+     * Analysis state: visited nodes with their primary keys (by node index), and conflict groups (by key index). Keys
+     * are interned, and each distinct key gets a dense index in order of discovery, hence the only hash lookup per key
+     * occurrence is interning, and all the remaining bookkeeping is indexed.
+     */
+    private static final class Graph {
+        private final Set<DependencyNode> visited = Collections.newSetFromMap(new IdentityHashMap<>(1024));
+
+        private final List<DependencyNode> nodes = new ArrayList<>(1024);
+
+        private final List<Key> nodeKeys = new ArrayList<>(1024);
+
+        private final Map<Key, Key> keys = new HashMap<>(1024);
+
+        private final List<ConflictGroup> groups = new ArrayList<>(1024);
+
+        private Key key(Artifact artifact) {
+            Key key = new Key(artifact);
+            Key interned = keys.putIfAbsent(key, key);
+            if (interned == null) {
+                key.index = groups.size();
+                groups.add(null);
+                return key;
+            }
+            return interned;
+        }
     }
 
     static class ConflictGroup {
@@ -212,11 +246,23 @@ public final class ConflictMarker implements DependencyGraphTransformer {
 
         final int index;
 
+        private String conflictId;
+
         ConflictGroup(Set<Key> keys, int index) {
             this.keys = keys;
             this.index = index;
         }
 
+        /**
+         * Returns the conflict id of this group, created (and interned, as is expected so in UT) once per group.
+         */
+        String conflictId() {
+            if (conflictId == null) {
+                conflictId = String.valueOf(index).intern();
+            }
+            return conflictId;
+        }
+
         @Override
         public String toString() {
             return String.valueOf(keys);
@@ -228,6 +274,11 @@ public final class ConflictMarker implements DependencyGraphTransformer {
         private final Artifact artifact;
         private final int hashCode;
 
+        /**
+         * Dense index of this key, assigned when interned.
+         */
+        private int index;
+
         Key(Artifact artifact) {
             this.artifact = artifact;
             this.hashCode = Objects.hash(
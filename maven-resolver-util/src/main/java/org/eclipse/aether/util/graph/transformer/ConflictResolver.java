@@ -116,6 +116,24 @@ public class ConflictResolver implements DependencyGraphTransformer {
      */
     public static final String CONFIG_PROP_VERBOSE = ConfigurationProperties.PREFIX_AETHER + "conflictResolver.verbose";
 
+    /**
+     * Whether verbose conflict data ({@link #NODE_DATA_WINNER}, {@link #NODE_DATA_ORIGINAL_SCOPE} and
+     * {@link #NODE_DATA_ORIGINAL_OPTIONALITY}) should be recorded lazily: instead of custom data map entries created
+     * eagerly for each winner and loser node, data is kept in compact per node record, and map entries are
+     * materialized only when custom data of a node is iterated. The data is available using
+     * {@link DependencyNode#getData()} in both cases, this option just lowers heap usage of verbose graphs that are
+     * inspected only partially.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Boolean}
+     * @configurationDefaultValue {@link #DEFAULT_LAZY_VERBOSE_DATA}
+     */
+    public static final String CONFIG_PROP_LAZY_VERBOSE_DATA =
+            ConfigurationProperties.PREFIX_AETHER + "conflictResolver.lazyVerboseData";
+
+    public static final boolean DEFAULT_LAZY_VERBOSE_DATA = false;
+
     /**
      * The name of the conflict resolver implementation to use: "auto" (default), "path", or "classic" (same as Maven 3).
      * <p>
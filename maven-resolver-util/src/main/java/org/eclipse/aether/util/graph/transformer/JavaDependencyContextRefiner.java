@@ -23,7 +23,10 @@ import org.eclipse.aether.collection.DependencyGraphTransformationContext;
 import org.eclipse.aether.collection.DependencyGraphTransformer;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.util.artifact.JavaScopes;
+import org.eclipse.aether.util.graph.visitor.DependencyGraphWalker;
+import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
 
 import static java.util.Objects.requireNonNull;
 
@@ -43,6 +46,24 @@ public final class JavaDependencyContextRefiner implements DependencyGraphTransf
             throws RepositoryException {
         requireNonNull(node, "node cannot be null");
         requireNonNull(context, "context cannot be null");
+        // refinement does not depend on path, so nodes reachable via multiple paths are refined only once
+        DependencyGraphWalker.walk(node, new TreeDependencyVisitor(new DependencyVisitor() {
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                refine(node);
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                return true;
+            }
+        }));
+
+        return node;
+    }
+
+    private void refine(DependencyNode node) {
         String ctx = node.getRequestContext();
 
         if ("project".equals(ctx)) {
@@ -52,12 +73,6 @@ public final class JavaDependencyContextRefiner implements DependencyGraphTransf
                 node.setRequestContext(ctx);
             }
         }
-
-        for (DependencyNode child : node.getChildren()) {
-            transformGraph(child, context);
-        }
-
-        return node;
     }
 
     private String getBuildpathScope(DependencyNode node) {
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.transformer;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.aether.graph.DependencyNode;
+
+/**
+ * Custom data of a dependency node that holds verbose conflict data ({@link ConflictResolver#NODE_DATA_WINNER},
+ * {@link ConflictResolver#NODE_DATA_ORIGINAL_SCOPE} and {@link ConflictResolver#NODE_DATA_ORIGINAL_OPTIONALITY}) in
+ * plain fields, instead of entries of a hash map per node. Any other custom data of the node is kept in a hash map
+ * created on demand. Map entries are materialized one by one only when the map is iterated, while lookups of conflict
+ * keys are served directly from the fields. As with {@link org.eclipse.aether.graph.DefaultDependencyNode},
+ * {@code null} values are not stored.
+ *
+ * @see ConflictResolver#CONFIG_PROP_LAZY_VERBOSE_DATA
+ */
+final class LazyConflictData extends AbstractMap<Object, Object> {
+    private Object winner;
+
+    private Object originalScope;
+
+    private Object originalOptionality;
+
+    private Map<Object, Object> other;
+
+    private Set<Entry<Object, Object>> entrySet;
+
+    private LazyConflictData(Map<?, ?> data) {
+        putAll(data);
+    }
+
+    /**
+     * Records verbose conflict data on the node. The winner is recorded only if not {@code null}, while original scope
+     * and optionality are always recorded. If {@code lazy} is {@code false}, data is set as regular custom data.
+     */
+    static void record(
+            DependencyNode node,
+            DependencyNode winner,
+            String originalScope,
+            Boolean originalOptionality,
+            boolean lazy) {
+        if (lazy) {
+            Map<?, ?> data = node.getData();
+            LazyConflictData conflictData;
+            if (data instanceof LazyConflictData) {
+                conflictData = (LazyConflictData) data;
+            } else {
+                conflictData = new LazyConflictData(data);
+                node.setData(conflictData);
+            }
+            if (winner != null) {
+                conflictData.winner = winner;
+            }
+            conflictData.originalScope = originalScope;
+            conflictData.originalOptionality = originalOptionality;
+        } else {
+            if (winner != null) {
+                node.setData(ConflictResolver.NODE_DATA_WINNER, winner);
+            }
+            node.setData(ConflictResolver.NODE_DATA_ORIGINAL_SCOPE, originalScope);
+            node.setData(ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY, originalOptionality);
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (ConflictResolver.NODE_DATA_WINNER.equals(key)) {
+            return winner;
+        } else if (ConflictResolver.NODE_DATA_ORIGINAL_SCOPE.equals(key)) {
+            return originalScope;
+        } else if (ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY.equals(key)) {
+            return originalOptionality;
+        }
+        return other != null ? other.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        Object old = get(key);
+        if (ConflictResolver.NODE_DATA_WINNER.equals(key)) {
+            winner = value;
+        } else if (ConflictResolver.NODE_DATA_ORIGINAL_SCOPE.equals(key)) {
+            originalScope = value;
+        } else if (ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY.equals(key)) {
+            originalOptionality = value;
+        } else if (value == null) {
+            if (other != null) {
+                other.remove(key);
+            }
+        } else {
+            if (other == null) {
+                other = new HashMap<>(1, 2);
+            }
+            other.put(key, value);
+        }
+        return old;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return put(key, null);
+    }
+
+    @Override
+    public void clear() {
+        winner = null;
+        originalScope = null;
+        originalOptionality = null;
+        other = null;
+    }
+
+    @Override
+    public int size() {
+        int size = other != null ? other.size() : 0;
+        if (winner != null) {
+            size++;
+        }
+        if (originalScope != null) {
+            size++;
+        }
+        if (originalOptionality != null) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries, iterating the fields first, and any other custom data next.
+     */
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return LazyConflictData.this.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Object, Object>> {
+        private int field;
+
+        private Iterator<Entry<Object, Object>> others;
+
+        private Entry<Object, Object> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry<Object, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<Object, Object> result = next;
+            next = null;
+            return result;
+        }
+
+        private Entry<Object, Object> advance() {
+            while (field < 3) {
+                switch (field++) {
+                    case 0:
+                        if (winner != null) {
+                            return new SimpleImmutableEntry<>(ConflictResolver.NODE_DATA_WINNER, winner);
+                        }
+                        break;
+                    case 1:
+                        if (originalScope != null) {
+                            return new SimpleImmutableEntry<>(ConflictResolver.NODE_DATA_ORIGINAL_SCOPE, originalScope);
+                        }
+                        break;
+                    default:
+                        if (originalOptionality != null) {
+                            return new SimpleImmutableEntry<>(
+                                    ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY, originalOptionality);
+                        }
+                        break;
+                }
+            }
+            if (others == null) {
+                others = other != null ? other.entrySet().iterator() : Collections.emptyIterator();
+            }
+            return others.hasNext() ? new SimpleImmutableEntry<>(others.next()) : null;
+        }
+    }
+}
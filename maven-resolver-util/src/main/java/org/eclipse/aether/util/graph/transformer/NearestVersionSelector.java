@@ -30,6 +30,7 @@ import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.util.graph.transformer.ConflictResolver.ConflictContext;
 import org.eclipse.aether.util.graph.transformer.ConflictResolver.ConflictItem;
 import org.eclipse.aether.util.graph.transformer.ConflictResolver.VersionSelector;
+import org.eclipse.aether.util.graph.visitor.DependencyGraphWalker;
 import org.eclipse.aether.util.graph.visitor.PathRecordingDependencyVisitor;
 import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
 import org.eclipse.aether.version.Version;
@@ -128,7 +129,7 @@ public final class NearestVersionSelector extends VersionSelector {
             return context.isIncluded(node);
         };
         PathRecordingDependencyVisitor visitor = new PathRecordingDependencyVisitor(filter);
-        context.getRoot().accept(new TreeDependencyVisitor(visitor));
+        DependencyGraphWalker.walk(context.getRoot(), new TreeDependencyVisitor(visitor));
         return new UnsolvableVersionConflictException(visitor.getPaths());
     }
 
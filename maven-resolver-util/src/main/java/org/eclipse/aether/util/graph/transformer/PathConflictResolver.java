@@ -110,6 +110,24 @@ public final class PathConflictResolver extends ConflictResolver {
 
     public static final boolean DEFAULT_SHOW_CYCLES_IN_STANDARD_VERBOSITY = false;
 
+    /**
+     * Whether winner selection of independent conflict groups should happen concurrently. Conflict groups that do
+     * not appear on paths of each other are processed in batches, with winner selection (version, scope and
+     * optionality selectors) executed in parallel, while results are still applied sequentially, in topological
+     * order, so the resulting graph is same as when this option is disabled. Pays off on very large graphs (like
+     * ones in verbose mode); enable only if used selectors are thread safe, as are all the ones provided by resolver.
+     *
+     * @since 2.0.23
+     * @configurationSource {@link RepositorySystemSession#getConfigProperties()}
+     * @configurationType {@link java.lang.Boolean}
+     * @configurationDefaultValue {@link #DEFAULT_PARALLEL}
+     */
+    public static final String CONFIG_PROP_PARALLEL =
+            ConfigurationProperties.PREFIX_AETHER + "conflictResolver." + ConflictResolver.PATH_CONFLICT_RESOLVER
+                    + ".parallel";
+
+    public static final boolean DEFAULT_PARALLEL = false;
+
     private final ConflictResolver.VersionSelector versionSelector;
     private final ConflictResolver.ScopeSelector scopeSelector;
     private final ConflictResolver.ScopeDeriver scopeDeriver;
@@ -164,6 +182,10 @@ public final class PathConflictResolver extends ConflictResolver {
                         context.getSession(),
                         DEFAULT_SHOW_CYCLES_IN_STANDARD_VERBOSITY,
                         CONFIG_PROP_SHOW_CYCLES_IN_STANDARD_VERBOSITY),
+                ConfigUtils.getBoolean(
+                        context.getSession(),
+                        ConflictResolver.DEFAULT_LAZY_VERBOSE_DATA,
+                        ConflictResolver.CONFIG_PROP_LAZY_VERBOSE_DATA),
                 versionSelector.getInstance(node, context),
                 scopeSelector.getInstance(node, context),
                 scopeDeriver.getInstance(node, context),
@@ -174,77 +196,173 @@ public final class PathConflictResolver extends ConflictResolver {
 
         // loop over topographically sorted conflictIds
         int conflictItemCount = 0;
-        for (String conflictId : sortedConflictIds) {
-            // paths in given conflict group to consider; filter out those moved out of scope
-            List<Path> allPaths = state.partitions.get(conflictId);
-            List<Path> activePaths = new ArrayList<>(allPaths.size());
-            List<ConflictItem> items = new ArrayList<>(allPaths.size());
-            for (Path p : allPaths) {
-                if (!p.outOfScope) {
-                    activePaths.add(p);
-                    items.add(new ConflictItem(p));
+        if (ConfigUtils.getBoolean(context.getSession(), DEFAULT_PARALLEL, CONFIG_PROP_PARALLEL)) {
+            conflictItemCount = resolveParallel(state, node, sortedConflictIds);
+        } else {
+            for (String conflictId : sortedConflictIds) {
+                ConflictContext ctx = prepare(state, node, conflictId);
+                if (ctx == null) {
+                    continue;
                 }
+                conflictItemCount += ctx.paths.size();
+                select(state, ctx);
+                apply(state, ctx);
             }
-            // Replace partition entry with filtered list to release references to out-of-scope
-            // paths (and their detached subtrees), allowing GC during resolution
-            state.partitions.put(conflictId, activePaths);
-            if (activePaths.isEmpty()) {
-                // this means that whole group "fall out of scope" (are all on loser branches); skip
-                continue;
-            }
-            conflictItemCount += activePaths.size();
+        }
+
+        if (stats != null) {
+            long time2 = System.nanoTime();
+            stats.put("ConflictResolver.totalTime", time2 - time1);
+            stats.put("ConflictResolver.conflictItemCount", conflictItemCount);
+        }
 
-            // create conflict context for given conflictId
-            ConflictContext ctx = new ConflictContext(node, state.conflictIds, items, conflictId);
+        return node;
+    }
 
-            // select winner (is done by VersionSelector)
-            state.versionSelector.selectVersion(ctx);
-            if (ctx.winner == null) {
-                throw new RepositoryException("conflict resolver did not select winner among " + items);
+    /**
+     * Resolves conflict groups in batches: a batch is formed of consecutive (in topological order) conflict groups
+     * that are independent of each other, that is, none of the batch members appears on any path leading to another
+     * member. For independent groups, applying the winner of one group cannot alter paths of others, hence winner
+     * selection is done concurrently for the whole batch, while results are applied sequentially in topological order.
+     * The end result is same as with sequential processing.
+     */
+    private static int resolveParallel(State state, DependencyNode node, List<String> sortedConflictIds)
+            throws RepositoryException {
+        int conflictItemCount = 0;
+        List<ConflictContext> batch = new ArrayList<>();
+        Set<String> batchIds = new HashSet<>();
+        for (String conflictId : sortedConflictIds) {
+            if (!batchIds.isEmpty() && dependsOn(state.partitions.get(conflictId), conflictId, batchIds)) {
+                resolveBatch(state, batch);
+                batch.clear();
+                batchIds.clear();
             }
-            // select scope (no side effect between this and above operations)
-            state.scopeSelector.selectScope(ctx);
-            // select optionality (no side effect between this and above operations)
-            state.optionalitySelector.selectOptionality(ctx);
-
-            // we have a winner path
-            Path winnerPath = ctx.winner.path;
-
-            // mark conflictId as resolved with winner; sanity check
-            if (state.resolvedIds.containsKey(conflictId)) {
-                throw new RepositoryException("conflict resolver already have winner for conflictId=" + conflictId
-                        + ": " + state.resolvedIds);
+            // members of current batch cannot alter paths of this group, so these can be prepared now
+            ConflictContext ctx = prepare(state, node, conflictId);
+            if (ctx == null) {
+                continue;
             }
-            state.resolvedIds.put(conflictId, winnerPath);
-
-            // loop over considered paths and apply selection results
-            for (Path path : activePaths) {
-                // apply selected properties scope/optional to winner (winner carries version; others are losers)
-                if (path == winnerPath) {
-                    path.scope = ctx.scope;
-                    path.optional = ctx.optional;
-                }
+            conflictItemCount += ctx.paths.size();
+            batch.add(ctx);
+            batchIds.add(conflictId);
+        }
+        resolveBatch(state, batch);
+        return conflictItemCount;
+    }
 
-                // reset children as inheritance may be affected by this node scope/optionality change
-                if (path.children != null) {
-                    for (Path c : path.children) {
-                        c.pull(0);
-                    }
+    /**
+     * Returns {@code true} if any of the paths of given conflict group has any of the passed in conflictIds on its
+     * path to root.
+     */
+    private static boolean dependsOn(List<Path> paths, String conflictId, Set<String> conflictIds) {
+        for (Path p : paths) {
+            if (p.hasAnyConflictIdOnPathToRoot(conflictIds, conflictId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selects winners of batch of independent conflict groups concurrently, and then applies them in order. Failures
+     * are reported in order as well, so same failure is reported as it would be with sequential processing.
+     */
+    private static void resolveBatch(State state, List<ConflictContext> batch) throws RepositoryException {
+        if (batch.size() > 1) {
+            batch.parallelStream().forEach(ctx -> {
+                try {
+                    select(state, ctx);
+                } catch (RepositoryException | RuntimeException e) {
+                    ctx.failure = e;
                 }
-                // derive with new values from this to children only; observe winner flag
-                path.derive(1, path == winnerPath);
-                // push this node full level changes to DN graph
-                path.push(0);
+            });
+        }
+        for (ConflictContext ctx : batch) {
+            if (batch.size() == 1) {
+                select(state, ctx);
+            } else if (ctx.failure instanceof RepositoryException) {
+                throw (RepositoryException) ctx.failure;
+            } else if (ctx.failure instanceof RuntimeException) {
+                throw (RuntimeException) ctx.failure;
             }
+            apply(state, ctx);
         }
+    }
 
-        if (stats != null) {
-            long time2 = System.nanoTime();
-            stats.put("ConflictResolver.totalTime", time2 - time1);
-            stats.put("ConflictResolver.conflictItemCount", conflictItemCount);
+    /**
+     * Prepares the conflict context for given conflict group, or returns {@code null} if all the paths of the group
+     * are out of scope.
+     */
+    private static ConflictContext prepare(State state, DependencyNode node, String conflictId) {
+        // paths in given conflict group to consider; filter out those moved out of scope
+        List<Path> allPaths = state.partitions.get(conflictId);
+        List<Path> activePaths = new ArrayList<>(allPaths.size());
+        List<ConflictItem> items = new ArrayList<>(allPaths.size());
+        for (Path p : allPaths) {
+            if (!p.outOfScope) {
+                activePaths.add(p);
+                items.add(new ConflictItem(p));
+            }
         }
+        // Replace partition entry with filtered list to release references to out-of-scope
+        // paths (and their detached subtrees), allowing GC during resolution
+        state.partitions.put(conflictId, activePaths);
+        if (activePaths.isEmpty()) {
+            // this means that whole group "fall out of scope" (are all on loser branches); skip
+            return null;
+        }
+        // create conflict context for given conflictId
+        return new ConflictContext(node, state.conflictIds, items, activePaths, conflictId);
+    }
 
-        return node;
+    /**
+     * Selects the winner, scope and optionality for given conflict group. Does not modify any shared state.
+     */
+    private static void select(State state, ConflictContext ctx) throws RepositoryException {
+        // select winner (is done by VersionSelector)
+        state.versionSelector.selectVersion(ctx);
+        if (ctx.winner == null) {
+            throw new RepositoryException("conflict resolver did not select winner among " + ctx.items);
+        }
+        // select scope (no side effect between this and above operations)
+        state.scopeSelector.selectScope(ctx);
+        // select optionality (no side effect between this and above operations)
+        state.optionalitySelector.selectOptionality(ctx);
+    }
+
+    /**
+     * Applies the selection results of given conflict group onto paths and the dependency graph.
+     */
+    private static void apply(State state, ConflictContext ctx) throws RepositoryException {
+        // we have a winner path
+        Path winnerPath = ctx.winner.path;
+
+        // mark conflictId as resolved with winner; sanity check
+        if (state.resolvedIds.containsKey(ctx.conflictId)) {
+            throw new RepositoryException("conflict resolver already have winner for conflictId=" + ctx.conflictId
+                    + ": " + state.resolvedIds);
+        }
+        state.resolvedIds.put(ctx.conflictId, winnerPath);
+
+        // loop over considered paths and apply selection results
+        for (Path path : ctx.paths) {
+            // apply selected properties scope/optional to winner (winner carries version; others are losers)
+            if (path == winnerPath) {
+                path.scope = ctx.scope;
+                path.optional = ctx.optional;
+            }
+
+            // reset children as inheritance may be affected by this node scope/optionality change
+            if (path.children != null) {
+                for (Path c : path.children) {
+                    c.pull(0);
+                }
+            }
+            // derive with new values from this to children only; observe winner flag
+            path.derive(1, path == winnerPath);
+            // push this node full level changes to DN graph
+            path.push(0);
+        }
     }
 
     /**
@@ -262,6 +380,12 @@ public final class PathConflictResolver extends ConflictResolver {
          */
         private final boolean showCyclesInStandardVerbosity;
 
+        /**
+         * Whether verbose conflict data should be recorded lazily, see
+         * {@link ConflictResolver#CONFIG_PROP_LAZY_VERBOSE_DATA}.
+         */
+        private final boolean lazyVerboseData;
+
         /**
          * The {@link ConflictResolver.VersionSelector} to use.
          */
@@ -315,6 +439,7 @@ public final class PathConflictResolver extends ConflictResolver {
         private State(
                 ConflictResolver.Verbosity verbosity,
                 boolean showCyclesInStandardVerbosity,
+                boolean lazyVerboseData,
                 ConflictResolver.VersionSelector versionSelector,
                 ConflictResolver.ScopeSelector scopeSelector,
                 ConflictResolver.ScopeDeriver scopeDeriver,
@@ -325,6 +450,7 @@ public final class PathConflictResolver extends ConflictResolver {
                 throws RepositoryException {
             this.verbosity = verbosity;
             this.showCyclesInStandardVerbosity = showCyclesInStandardVerbosity;
+            this.lazyVerboseData = lazyVerboseData;
             this.versionSelector = versionSelector;
             this.scopeSelector = scopeSelector;
             this.scopeDeriver = scopeDeriver;
@@ -401,6 +527,11 @@ public final class PathConflictResolver extends ConflictResolver {
      * and the conflict resolution algorithm can efficiently process each group independently.
      */
     private static class Path {
+        /**
+         * Distance (in levels) of the nodes carrying the set of conflict IDs on their path to root.
+         */
+        private static final int CHECKPOINT_DISTANCE = 16;
+
         // given
         private final State state;
         private DependencyNode dn;
@@ -409,9 +540,9 @@ public final class PathConflictResolver extends ConflictResolver {
         // derived
         private final int depth;
         // Set of conflict IDs on the path from root to this node (inclusive), enabling O(1) cycle detection.
-        // Each node copies its parent's set and adds its own conflictId. Since dependency tree depth is
-        // bounded in practice (< 30), the per-node copy cost is negligible compared to the O(depth)
-        // parent-chain walk it replaces.
+        // Only "checkpoint" nodes (every CHECKPOINT_DISTANCE levels) copy the set of the previous checkpoint and
+        // add conflictIds of the levels in between: copying the set on every node would cost O(depth²) memory on
+        // very deep graphs. Non-checkpoint nodes have null here, and reach nearest checkpoint in few parent steps.
         private final Set<String> conflictIdsOnPath;
         // Lazy: null for leaf nodes (never populated by addChildren), right-sized for non-leaves.
         // This avoids allocating an ArrayList + backing array for every leaf node in the tree
@@ -429,12 +560,18 @@ public final class PathConflictResolver extends ConflictResolver {
             this.conflictId = conflictId;
             this.parent = parent;
             this.depth = parent != null ? parent.depth + 1 : 0;
-            if (parent != null) {
-                this.conflictIdsOnPath = new HashSet<>(parent.conflictIdsOnPath);
+            if (this.depth % CHECKPOINT_DISTANCE == 0) {
+                Path p = parent;
+                while (p != null && p.conflictIdsOnPath == null) {
+                    p = p.parent;
+                }
+                this.conflictIdsOnPath = p != null ? new HashSet<>(p.conflictIdsOnPath) : new HashSet<>();
+                for (Path q = this; q != p; q = q.parent) {
+                    this.conflictIdsOnPath.add(q.conflictId);
+                }
             } else {
-                this.conflictIdsOnPath = new HashSet<>();
+                this.conflictIdsOnPath = null;
             }
-            this.conflictIdsOnPath.add(this.conflictId);
             pull(0);
 
             this.state
@@ -445,12 +582,39 @@ public final class PathConflictResolver extends ConflictResolver {
 
         /**
          * Checks whether the given conflictId appears on the path from this node to the root.
-         * Uses a pre-built {@link HashSet} of conflict IDs accumulated along the path from root,
-         * making this an O(1) operation instead of the previous O(depth) parent-chain walk that
+         * Uses a pre-built {@link HashSet} of conflict IDs accumulated along the path from root at nearest
+         * checkpoint, making this an O(1) operation instead of the previous O(depth) parent-chain walk that
          * showed up as a JFR hotspot (3.9% CPU) in large multi-module builds.
          */
         private boolean hasConflictIdOnPathToRoot(String targetConflictId) {
-            return conflictIdsOnPath.contains(targetConflictId);
+            Path p = this;
+            while (p.conflictIdsOnPath == null) {
+                if (Objects.equals(p.conflictId, targetConflictId)) {
+                    return true;
+                }
+                p = p.parent;
+            }
+            return p.conflictIdsOnPath.contains(targetConflictId);
+        }
+
+        /**
+         * Checks whether any of the given conflictIds, except the passed in one, appears on the path from this node to
+         * the root.
+         */
+        private boolean hasAnyConflictIdOnPathToRoot(Set<String> targetConflictIds, String except) {
+            Path p = this;
+            while (p.conflictIdsOnPath == null) {
+                if (!Objects.equals(p.conflictId, except) && targetConflictIds.contains(p.conflictId)) {
+                    return true;
+                }
+                p = p.parent;
+            }
+            for (String id : p.conflictIdsOnPath) {
+                if (!Objects.equals(id, except) && targetConflictIds.contains(id)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         /**
@@ -525,12 +689,12 @@ public final class PathConflictResolver extends ConflictResolver {
                 if (winner == this) {
                     // copy onto dn; if applicable
                     if (this.dn.getDependency() != null) {
-                        this.dn.setData(
-                                ConflictResolver.NODE_DATA_ORIGINAL_SCOPE,
-                                this.dn.getDependency().getScope());
-                        this.dn.setData(
-                                ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY,
-                                this.dn.getDependency().getOptional());
+                        LazyConflictData.record(
+                                this.dn,
+                                null,
+                                this.dn.getDependency().getScope(),
+                                this.dn.getDependency().getOptional(),
+                                state.lazyVerboseData);
                         this.dn.setScope(this.scope);
                         this.dn.setOptional(this.optional);
                     }
@@ -601,13 +765,12 @@ public final class PathConflictResolver extends ConflictResolver {
                             throw new IllegalArgumentException("Unknown " + state.verbosity);
                     }
                     if (markLoser) {
-                        this.dn.setData(ConflictResolver.NODE_DATA_WINNER, winner.dn);
-                        this.dn.setData(
-                                ConflictResolver.NODE_DATA_ORIGINAL_SCOPE,
-                                this.dn.getDependency().getScope());
-                        this.dn.setData(
-                                ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY,
-                                this.dn.getDependency().getOptional());
+                        LazyConflictData.record(
+                                this.dn,
+                                winner.dn,
+                                this.dn.getDependency().getScope(),
+                                this.dn.getDependency().getOptional(),
+                                state.lazyVerboseData);
                         this.dn.setScope(this.scope);
                         this.dn.setOptional(this.optional);
                     }
@@ -693,8 +856,7 @@ public final class PathConflictResolver extends ConflictResolver {
          * <p>
          * Cycle detection is performed via {@link #hasConflictIdOnPathToRoot(String)} which uses
          * a pre-built {@link HashSet} of conflict IDs accumulated along the path from root, making
-         * each check O(1). Since dependency tree depth is bounded in practice (< 30), the per-node
-         * set copy cost is negligible.
+         * each check O(1).
          * This implies that this conflict resolver, by its nature "redoes" the
          * {@link TransformationContextKeys#CYCLIC_CONFLICT_IDS} calculated by {@link ConflictIdSorter}.
          */
@@ -928,6 +1090,7 @@ public final class PathConflictResolver extends ConflictResolver {
         private final DependencyNode root;
         private final Map<DependencyNode, String> conflictIds;
         private final Collection<ConflictResolver.ConflictItem> items;
+        private final List<Path> paths;
         private final String conflictId;
 
         // elected properties
@@ -935,14 +1098,19 @@ public final class PathConflictResolver extends ConflictResolver {
         private String scope;
         private Boolean optional;
 
+        // failure of parallel selection
+        private Exception failure;
+
         private ConflictContext(
                 DependencyNode root,
                 Map<DependencyNode, String> conflictIds,
                 Collection<ConflictItem> items,
+                List<Path> paths,
                 String conflictId) {
             this.root = root;
             this.conflictIds = conflictIds;
             this.items = Collections.unmodifiableCollection(items);
+            this.paths = paths;
             this.conflictId = conflictId;
         }
 
@@ -18,11 +18,8 @@
  */
 package org.eclipse.aether.util.graph.version;
 
-import java.util.Iterator;
-
 import org.eclipse.aether.collection.DependencyCollectionContext;
 import org.eclipse.aether.collection.VersionFilter;
-import org.eclipse.aether.version.Version;
 
 /**
  * A version filter that excludes any version except the lowest one.
@@ -54,16 +51,8 @@ public class LowestVersionFilter implements VersionFilter {
         if (context.getCount() <= count) {
             return;
         }
-        // iterator comes in ascending order, basically we "step over" (leave) first few
-        int stepOver = count;
-        Iterator<Version> it = context.iterator();
-        while (it.hasNext()) {
-            it.next();
-            stepOver--;
-            if (stepOver < 0) {
-                it.remove();
-            }
-        }
+        // versions come in ascending order, basically we retain first few
+        context.retain(0, count);
     }
 
     @Override
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.version;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.VersionFilter;
+import org.eclipse.aether.util.version.GenericVersionRange;
+import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionRange;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A version filter that excludes any version that is not contained in given version range. The bounds of the range
+ * are located using binary search, and versions outside of bounds are removed in bulk. Only complex ranges (like
+ * unions of ranges) that may exclude versions within their bounds need to inspect versions between bounds one by one.
+ * <p>
+ * Note: this filter relies on {@link VersionFilterContext#getVersions()} being in ascending order, as that method
+ * contract mandates; with unsorted versions the result is undefined.
+ *
+ * @since 2.0.23
+ */
+public class VersionRangeVersionFilter implements VersionFilter {
+    private final VersionRange versionRange;
+
+    /**
+     * Creates a new instance of this version filter. It will filter out versions not contained in version range.
+     */
+    public VersionRangeVersionFilter(VersionRange versionRange) {
+        this.versionRange = requireNonNull(versionRange);
+    }
+
+    @Override
+    public void filterVersions(VersionFilterContext context) {
+        List<Version> versions = context.getVersions();
+        int from = versionRange.getLowerBound() != null ? lowerIndex(versions, versionRange.getLowerBound()) : 0;
+        int to = versionRange.getUpperBound() != null
+                ? upperIndex(versions, versionRange.getUpperBound())
+                : versions.size();
+        context.retain(from, Math.max(from, to));
+        if (!(versionRange instanceof GenericVersionRange)) {
+            for (Iterator<Version> it = context.iterator(); it.hasNext(); ) {
+                if (!versionRange.containsVersion(it.next())) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of first version in sorted list that is not below the lower bound.
+     */
+    private static int lowerIndex(List<Version> versions, VersionRange.Bound bound) {
+        int low = 0;
+        int high = versions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int rel = versions.get(mid).compareTo(bound.getVersion());
+            if (rel < 0 || (rel == 0 && !bound.isInclusive())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of first version in sorted list that is above the upper bound.
+     */
+    private static int upperIndex(List<Version> versions, VersionRange.Bound bound) {
+        int low = 0;
+        int high = versions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int rel = versions.get(mid).compareTo(bound.getVersion());
+            if (rel < 0 || (rel == 0 && bound.isInclusive())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public VersionFilter deriveChildFilter(DependencyCollectionContext context) {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        VersionRangeVersionFilter that = (VersionRangeVersionFilter) o;
+        return versionRange.equals(that.versionRange);
+    }
+
+    @Override
+    public int hashCode() {
+        return versionRange.hashCode();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.visitor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Walks dependency graphs using explicit stack, instead of recursion on the Java stack as
+ * {@link DependencyNode#accept(DependencyVisitor)} does. Hence, the depth of walked graph is not limited by the thread
+ * stack size, and very deep (or pathological) graphs can be visited even in threads having small stacks.
+ * <p>
+ * Note: the walker navigates the graph using {@link DependencyNode#getChildren()}, so any custom
+ * {@link DependencyNode#accept(DependencyVisitor)} implementation of walked nodes is not invoked.
+ *
+ * @since 2.0.23
+ */
+public final class DependencyGraphWalker {
+    private DependencyGraphWalker() {
+        // hide constructor
+    }
+
+    /**
+     * Visits the graph rooted at given node with given visitor. The visitor is invoked same way as by
+     * {@link DefaultDependencyNode#accept(DependencyVisitor)}: children are visited only if
+     * {@link DependencyVisitor#visitEnter(DependencyNode)} returned {@code true}, and remaining siblings of a node are
+     * skipped if {@link DependencyVisitor#visitLeave(DependencyNode)} of the node returned {@code false}.
+     *
+     * @param root the root node of the graph to walk, must not be {@code null}
+     * @param visitor the visitor to invoke, must not be {@code null}
+     * @return the value returned by {@link DependencyVisitor#visitLeave(DependencyNode)} for the root node
+     */
+    public static boolean walk(DependencyNode root, DependencyVisitor visitor) {
+        requireNonNull(root, "root cannot be null");
+        requireNonNull(visitor, "visitor cannot be null");
+
+        // parallel stacks: entered nodes and their children still to visit (null if not to be visited)
+        ArrayList<DependencyNode> nodes = new ArrayList<>();
+        ArrayList<Iterator<DependencyNode>> children = new ArrayList<>();
+        enter(root, visitor, nodes, children);
+        while (true) {
+            int top = children.size() - 1;
+            Iterator<DependencyNode> it = children.get(top);
+            if (it != null && it.hasNext()) {
+                enter(it.next(), visitor, nodes, children);
+            } else {
+                children.remove(top);
+                boolean proceed = visitor.visitLeave(nodes.remove(top));
+                if (top == 0) {
+                    return proceed;
+                }
+                if (!proceed) {
+                    children.set(top - 1, null);
+                }
+            }
+        }
+    }
+
+    private static void enter(
+            DependencyNode node,
+            DependencyVisitor visitor,
+            ArrayList<DependencyNode> nodes,
+            ArrayList<Iterator<DependencyNode>> children) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new RuntimeException(new InterruptedException("Thread interrupted"));
+        }
+        nodes.add(node);
+        children.add(visitor.visitEnter(node) ? node.getChildren().iterator() : null);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.visitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.graph.DependencyNode;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Streams of dependency graph nodes. The streams produce same node sequences as the corresponding
+ * {@link AbstractDependencyNodeConsumerVisitor} implementations: each node is present exactly once regardless how many
+ * paths within the dependency graph lead to the node. Preorder and postorder streams are lazy: the graph is walked as
+ * the stream is consumed, without materializing node lists, hence are suitable for single pass processing, like
+ * building class paths or artifact requests. Streams may be made parallel, but walking the graph itself happens on
+ * single thread.
+ *
+ * @see PreorderDependencyNodeConsumerVisitor
+ * @see PostorderDependencyNodeConsumerVisitor
+ * @see LevelOrderDependencyNodeConsumerVisitor
+ * @since 2.0.23
+ */
+public final class DependencyNodeStreams {
+    private static final DependencyFilter ACCEPT_ALL = (d, p) -> true;
+
+    private DependencyNodeStreams() {
+        // hide constructor
+    }
+
+    /**
+     * Returns preorder stream of nodes of the graph.
+     */
+    public static Stream<DependencyNode> preorder(DependencyNode root) {
+        return preorder(root, null);
+    }
+
+    /**
+     * Returns preorder stream of nodes of the graph accepted by filter, if filter is not {@code null}.
+     */
+    public static Stream<DependencyNode> preorder(DependencyNode root, DependencyFilter filter) {
+        return StreamSupport.stream(new NodeSpliterator(root, filter, true), false);
+    }
+
+    /**
+     * Returns postorder stream of nodes of the graph.
+     */
+    public static Stream<DependencyNode> postorder(DependencyNode root) {
+        return postorder(root, null);
+    }
+
+    /**
+     * Returns postorder stream of nodes of the graph accepted by filter, if filter is not {@code null}.
+     */
+    public static Stream<DependencyNode> postorder(DependencyNode root, DependencyFilter filter) {
+        return StreamSupport.stream(new NodeSpliterator(root, filter, false), false);
+    }
+
+    /**
+     * Returns level order stream of nodes of the graph.
+     */
+    public static Stream<DependencyNode> levelOrder(DependencyNode root) {
+        return levelOrder(root, null);
+    }
+
+    /**
+     * Returns level order stream of nodes of the graph accepted by filter, if filter is not {@code null}. Note: level
+     * order requires whole graph to be walked before first node is known, hence this stream is not lazy: nodes are
+     * collected when first node is requested from stream.
+     */
+    public static Stream<DependencyNode> levelOrder(DependencyNode root, DependencyFilter filter) {
+        requireNonNull(root, "root cannot be null");
+        return StreamSupport.stream(
+                () -> {
+                    ArrayList<DependencyNode> nodes = new ArrayList<>();
+                    DependencyGraphWalker.walk(root, new LevelOrderDependencyNodeConsumerVisitor(nodes::add, filter));
+                    return nodes.spliterator();
+                },
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED,
+                false);
+    }
+
+    /**
+     * Walks the graph same way as {@link DependencyNode#accept(org.eclipse.aether.graph.DependencyVisitor)} does,
+     * using explicit stacks, and emits nodes when entered (preorder) or left (postorder).
+     */
+    private static final class NodeSpliterator extends Spliterators.AbstractSpliterator<DependencyNode> {
+        private final DependencyNode root;
+
+        private final DependencyFilter filter;
+
+        private final boolean preorder;
+
+        private final Stack<DependencyNode> path;
+
+        private final ArrayList<Iterator<DependencyNode>> children;
+
+        private final Set<DependencyNode> visited;
+
+        private boolean started;
+
+        private NodeSpliterator(DependencyNode root, DependencyFilter filter, boolean preorder) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.root = requireNonNull(root, "root cannot be null");
+            this.filter = filter == null ? ACCEPT_ALL : filter;
+            this.preorder = preorder;
+            this.path = new Stack<>();
+            this.children = new ArrayList<>();
+            this.visited = Collections.newSetFromMap(new IdentityHashMap<>(512));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DependencyNode> action) {
+            while (true) {
+                if (!started) {
+                    started = true;
+                    if (enter(root, action)) {
+                        return true;
+                    }
+                } else if (children.isEmpty()) {
+                    return false;
+                } else {
+                    Iterator<DependencyNode> it = children.get(children.size() - 1);
+                    if (it.hasNext()) {
+                        if (enter(it.next(), action)) {
+                            return true;
+                        }
+                    } else if (leave(action)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Enters the node, returns {@code true} if node was emitted.
+         */
+        private boolean enter(DependencyNode node, Consumer<? super DependencyNode> action) {
+            path.push(node);
+            if (!visited.add(node)) {
+                // already visited: children are not walked
+                path.pop();
+                return false;
+            }
+            children.add(node.getChildren().iterator());
+            if (preorder && filter.accept(node, path.head())) {
+                action.accept(node);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Leaves the node on top of the stack, returns {@code true} if node was emitted.
+         */
+        private boolean leave(Consumer<? super DependencyNode> action) {
+            children.remove(children.size() - 1);
+            DependencyNode node = path.pop();
+            if (!preorder && filter.accept(node, path.head())) {
+                action.accept(node);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.graph.Dependency;
@@ -129,38 +130,58 @@ public final class NodeListGenerator implements Consumer<DependencyNode> {
     }
 
     static List<Dependency> getDependencies(List<DependencyNode> nodes, boolean includeUnresolved) {
-        return getNodesWithDependencies(nodes).stream()
+        return nodes.stream()
                 .map(DependencyNode::getDependency)
-                .filter(d -> includeUnresolved || d.getArtifact().getPath() != null)
+                .filter(d -> d != null && (includeUnresolved || d.getArtifact().getPath() != null))
                 .collect(toList());
     }
 
     static List<Artifact> getArtifacts(List<DependencyNode> nodes, boolean includeUnresolved) {
-        return getNodesWithDependencies(nodes).stream()
-                .map(d -> d.getDependency().getArtifact())
+        return nodes.stream()
+                .map(DependencyNode::getDependency)
+                .filter(Objects::nonNull)
+                .map(Dependency::getArtifact)
                 .filter(artifact -> includeUnresolved || artifact.getPath() != null)
                 .collect(toList());
     }
 
     @Deprecated
     static List<File> getFiles(List<DependencyNode> nodes) {
-        return getNodesWithDependencies(nodes).stream()
-                .map(d -> d.getDependency().getArtifact().getFile())
+        return nodes.stream()
+                .map(DependencyNode::getDependency)
+                .filter(Objects::nonNull)
+                .map(d -> d.getArtifact().getFile())
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
 
     static List<Path> getPaths(List<DependencyNode> nodes) {
-        return getNodesWithDependencies(nodes).stream()
-                .map(d -> d.getDependency().getArtifact().getPath())
-                .filter(Objects::nonNull)
-                .collect(toList());
+        return paths(nodes.stream()).collect(toList());
     }
 
     static String getClassPath(List<DependencyNode> nodes) {
-        return getPaths(nodes).stream()
-                .map(Path::toAbsolutePath)
-                .map(Path::toString)
-                .collect(joining(File.pathSeparator));
+        return getClassPath(nodes.stream());
+    }
+
+    /**
+     * Returns the paths of resolved artifacts of nodes in passed in stream.
+     *
+     * @since 2.0.23
+     */
+    public static Stream<Path> paths(Stream<DependencyNode> nodes) {
+        return nodes.map(DependencyNode::getDependency)
+                .filter(Objects::nonNull)
+                .map(d -> d.getArtifact().getPath())
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Returns class path built from resolved artifacts of nodes in passed in stream (in single pass), see
+     * {@link DependencyNodeStreams} for node streams.
+     *
+     * @since 2.0.23
+     */
+    public static String getClassPath(Stream<DependencyNode> nodes) {
+        return paths(nodes).map(Path::toAbsolutePath).map(Path::toString).collect(joining(File.pathSeparator));
     }
 }
@@ -20,6 +20,8 @@ package org.eclipse.aether.util.repository;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.aether.ConfigurationProperties;
@@ -123,6 +125,22 @@ public final class ChainedLocalRepositoryManager implements LocalRepositoryManag
         return head.getRepository();
     }
 
+    /**
+     * Returns the local repository managers of the tail that are only read from, that is, all the tail members except
+     * the ones configured as install or cache target. Never returns {@code null}.
+     *
+     * @since 2.0.23
+     */
+    public List<LocalRepositoryManager> getReadOnlyTail() {
+        List<LocalRepositoryManager> result = new ArrayList<>(tail.size());
+        for (int i = 0; i < tail.size(); i++) {
+            if (installTarget != i + 1 && cacheTarget != i + 1) {
+                result.add(tail.get(i));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     private LocalRepositoryManager getInstallTarget() {
         if (installTarget == 0) {
             return head;
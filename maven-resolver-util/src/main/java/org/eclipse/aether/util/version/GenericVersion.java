@@ -36,7 +36,16 @@ public final class GenericVersion implements Version {
 
     private final String version;
 
-    private final List<Item> items;
+    /**
+     * Compact encoding of the parsed items: kinds of items, their int values (for int and qualifier items) and their
+     * object values (for big int and string items, {@code null} if none). Items are materialized only on demand, see
+     * {@link #asItems()}.
+     */
+    private final byte[] kinds;
+
+    private final int[] ints;
+
+    private final Object[] objects;
 
     private final int hash;
 
@@ -47,7 +56,24 @@ public final class GenericVersion implements Version {
      */
     GenericVersion(String version) {
         this.version = requireNonNull(version, "version cannot be null");
-        items = parse(version);
+        List<Item> items = parse(version);
+        int size = items.size();
+        kinds = new byte[size];
+        ints = new int[size];
+        Object[] objects = null;
+        for (int i = 0; i < size; i++) {
+            Item item = items.get(i);
+            kinds[i] = (byte) item.kind;
+            if (item.kind == Item.KIND_INT || item.kind == Item.KIND_QUALIFIER) {
+                ints[i] = (Integer) item.value;
+            } else if (item.kind == Item.KIND_BIGINT || item.kind == Item.KIND_STRING) {
+                if (objects == null) {
+                    objects = new Object[size];
+                }
+                objects[i] = item.value;
+            }
+        }
+        this.objects = objects;
         hash = items.hashCode();
     }
 
@@ -61,12 +87,30 @@ public final class GenericVersion implements Version {
     }
 
     /**
-     * Returns this instance tokenized representation as unmodifiable list.
+     * Returns this instance tokenized representation as unmodifiable list. The list is created from the compact
+     * representation on each invocation.
      *
      * @since 1.9.5
      */
     public List<Item> asItems() {
-        return items;
+        List<Item> items = new ArrayList<>(kinds.length);
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case Item.KIND_MAX:
+                    items.add(Item.MAX);
+                    break;
+                case Item.KIND_MIN:
+                    items.add(Item.MIN);
+                    break;
+                case Item.KIND_INT:
+                case Item.KIND_QUALIFIER:
+                    items.add(new Item(kinds[i], ints[i]));
+                    break;
+                default:
+                    items.add(new Item(kinds[i], objects[i]));
+            }
+        }
+        return Collections.unmodifiableList(items);
     }
 
     private static List<Item> parse(String version) {
@@ -105,51 +149,101 @@ public final class GenericVersion implements Version {
 
     @Override
     public int compareTo(Version obj) {
-        final List<Item> these = items;
-        final List<Item> those = ((GenericVersion) obj).items;
+        final GenericVersion that = (GenericVersion) obj;
+        final int theseSize = kinds.length;
+        final int thoseSize = that.kinds.length;
 
         boolean number = true;
 
         for (int index = 0; ; index++) {
-            if (index >= these.size() && index >= those.size()) {
+            if (index >= theseSize && index >= thoseSize) {
                 return 0;
-            } else if (index >= these.size()) {
-                return -comparePadding(those, index, null);
-            } else if (index >= those.size()) {
-                return comparePadding(these, index, null);
+            } else if (index >= theseSize) {
+                return -that.comparePadding(index, false, false);
+            } else if (index >= thoseSize) {
+                return comparePadding(index, false, false);
             }
 
-            Item thisItem = these.get(index);
-            Item thatItem = those.get(index);
+            int thisKind = kinds[index];
+            int thatKind = that.kinds[index];
+            boolean thisNumber = isNumber(thisKind);
 
-            if (thisItem.isNumber() != thatItem.isNumber()) {
+            if (thisNumber != isNumber(thatKind)) {
                 if (index == 0) {
-                    return thisItem.compareTo(thatItem);
+                    return thisKind - thatKind;
                 }
-                if (number == thisItem.isNumber()) {
-                    return comparePadding(these, index, number);
+                if (number == thisNumber) {
+                    return comparePadding(index, true, number);
                 } else {
-                    return -comparePadding(those, index, number);
+                    return -that.comparePadding(index, true, number);
                 }
             } else {
-                int rel = thisItem.compareTo(thatItem);
+                int rel = thisKind - thatKind;
+                if (rel == 0) {
+                    rel = compareSameKind(thisKind, that, index);
+                }
                 if (rel != 0) {
                     return rel;
                 }
-                number = thisItem.isNumber();
+                number = thisNumber;
             }
         }
     }
 
-    private static int comparePadding(List<Item> items, int index, Boolean number) {
+    private static boolean isNumber(int kind) {
+        return (kind & Item.KIND_QUALIFIER) == 0; // i.e. kind != string/qualifier
+    }
+
+    /**
+     * Compares item at given index of this and passed in version, where both items are of same kind. Semantics are
+     * same as of {@link Item#compareTo(Item)}.
+     */
+    private int compareSameKind(int kind, GenericVersion that, int index) {
+        switch (kind) {
+            case Item.KIND_MAX:
+            case Item.KIND_MIN:
+                return 0;
+            case Item.KIND_BIGINT:
+                return ((BigInteger) objects[index]).compareTo((BigInteger) that.objects[index]);
+            case Item.KIND_INT:
+            case Item.KIND_QUALIFIER:
+                return Integer.compare(ints[index], that.ints[index]);
+            case Item.KIND_STRING:
+                return ((String) objects[index]).compareToIgnoreCase((String) that.objects[index]);
+            default:
+                throw new IllegalStateException("unknown version item kind " + kind);
+        }
+    }
+
+    /**
+     * Compares items starting at given index with the pad item. If {@code filter} is {@code true}, only items whose
+     * "numberness" equals to {@code number} are considered. Semantics are same as of {@link Item#compareTo(Item)}
+     * invoked with {@code null}.
+     */
+    private int comparePadding(int index, boolean filter, boolean number) {
         int rel = 0;
-        for (int i = index; i < items.size(); i++) {
-            Item item = items.get(i);
-            if (number != null && number != item.isNumber()) {
+        for (int i = index; i < kinds.length; i++) {
+            int kind = kinds[i];
+            if (filter && number != isNumber(kind)) {
                 // do not stop here, but continue, skipping non-number members
                 continue;
             }
-            rel = item.compareTo(null);
+            switch (kind) {
+                case Item.KIND_MIN:
+                    rel = -1;
+                    break;
+                case Item.KIND_MAX:
+                case Item.KIND_BIGINT:
+                case Item.KIND_STRING:
+                    rel = 1;
+                    break;
+                case Item.KIND_INT:
+                case Item.KIND_QUALIFIER:
+                    rel = ints[i];
+                    break;
+                default:
+                    throw new IllegalStateException("unknown version item kind " + kind);
+            }
             if (rel != 0) {
                 break;
             }
@@ -20,9 +20,13 @@ package org.eclipse.aether.util.version;
 
 import java.nio.charset.StandardCharsets;
 
+import org.eclipse.aether.util.concurrency.ConcurrentBoundedCache;
+import org.eclipse.aether.util.concurrency.ConcurrentCache;
 import org.eclipse.aether.util.concurrency.ConcurrentWeakCache;
 import org.eclipse.aether.version.InvalidVersionSpecificationException;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A version scheme using a generic version syntax and common sense sorting.
  * <p>
@@ -50,10 +54,28 @@ import org.eclipse.aether.version.InvalidVersionSpecificationException;
  */
 public class GenericVersionScheme extends VersionSchemeSupport {
 
-    // Concurrent cache with weak keys and weak values: lock-free reads (volatile read, no lock
-    // acquisition via ConcurrentHashMap), lock-striped writes, zero allocation on get() via
-    // ThreadLocal lookup key, weak references allow GC under memory pressure.
-    private final ConcurrentWeakCache<String, GenericVersion> versionCache = new ConcurrentWeakCache<>();
+    private final ConcurrentCache<String, GenericVersion> versionCache;
+
+    /**
+     * Creates a new instance of this scheme, caching parsed versions in a concurrent cache with weak keys and weak
+     * values: lock-free reads (volatile read, no lock acquisition via ConcurrentHashMap), lock-striped writes, zero
+     * allocation on get() via ThreadLocal lookup key, weak references allow GC under memory pressure.
+     */
+    public GenericVersionScheme() {
+        this(new ConcurrentWeakCache<>());
+    }
+
+    /**
+     * Creates a new instance of this scheme, caching parsed versions in the given cache. This makes possible to use
+     * other kind of caches (like {@link ConcurrentBoundedCache} in long-lived processes), and to share the cache
+     * across multiple scheme instances.
+     *
+     * @param versionCache the cache of parsed versions, must not be {@code null}
+     * @since 2.0.23
+     */
+    public GenericVersionScheme(ConcurrentCache<String, GenericVersion> versionCache) {
+        this.versionCache = requireNonNull(versionCache, "versionCache cannot be null");
+    }
 
     @Override
     public GenericVersion parseVersion(final String version) throws InvalidVersionSpecificationException {
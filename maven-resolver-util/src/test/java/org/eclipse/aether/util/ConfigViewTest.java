@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigViewTest {
+
+    private final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+
+    private final RemoteRepository central =
+            new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2/").build();
+
+    @Test
+    void testSameViewForUnchangedConfig() {
+        session.setConfigProperty("some-int", 5);
+        ConfigView view = ConfigView.of(session);
+        assertSame(view, ConfigView.of(session));
+        assertEquals(5, view.get(ConfigView.integerKey(1, "no-int", "some-int")));
+        assertEquals(1, view.get(ConfigView.integerKey(1, "no-int")));
+    }
+
+    @Test
+    void testNewViewForChangedConfig() {
+        ConfigView.Key<Boolean> key = ConfigView.booleanKey(false, "some-boolean");
+        session.setConfigProperty("some-boolean", "true");
+        ConfigView view = ConfigView.of(session);
+        assertTrue(view.get(key));
+
+        session.setConfigProperty("some-boolean", "false");
+        ConfigView changed = ConfigView.of(session);
+        assertNotSame(view, changed);
+        assertFalse(changed.get(key));
+    }
+
+    @Test
+    void testNullString() {
+        ConfigView view = ConfigView.of(session);
+        assertNull(view.get(ConfigView.stringKey(null, "no-string")));
+        assertEquals("default", view.get(ConfigView.stringKey("default", "no-string")));
+    }
+
+    @Test
+    void testRepositoryKeys() {
+        session.setConfigProperty("prop", "false");
+        session.setConfigProperty("prop.central", "true");
+        session.setConfigProperty("long.central", "42");
+        session.setConfigProperty("wildcard.*", "false");
+        ConfigView view = ConfigView.of(session);
+        RemoteRepository other = new RemoteRepository.Builder("other", "default", "https://example.com/").build();
+
+        ConfigView.Key<Boolean> prop = ConfigView.booleanKey(true, "prop");
+        assertTrue(view.get(prop, central));
+        assertFalse(view.get(prop, other));
+        assertFalse(view.get(prop));
+        ConfigView.Key<Long> longKey = ConfigView.longKey(1L, "long");
+        assertEquals(42L, view.get(longKey, central));
+        assertEquals(1L, view.get(longKey, other));
+        assertEquals("true", view.get(ConfigView.stringKey(null, "prop"), central));
+        assertEquals(
+                ConfigUtils.getInteger(session, 7, "long.other", "long"),
+                view.get(ConfigView.integerKey(7, "long"), other));
+
+        ConfigView.Key<Boolean> wildcard = ConfigView.booleanKey(true, "wildcard.*").withRepositoryKey("wildcard");
+        session.setConfigProperty("wildcard.central", "true");
+        view = ConfigView.of(session);
+        assertTrue(view.get(wildcard, central));
+        assertFalse(view.get(wildcard, other));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentBoundedCacheTest {
+
+    @Test
+    void testPutIfAbsentAndGet() {
+        ConcurrentBoundedCache<String, String> cache = new ConcurrentBoundedCache<>(10);
+        String value = new String("value");
+        assertSame(value, cache.putIfAbsent("key", value));
+        assertSame(value, cache.putIfAbsent("key", new String("value")));
+        assertSame(value, cache.get("key"));
+        assertNull(cache.get("other"));
+        assertEquals(1, cache.size());
+        // only get counts as lookup
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testGetThenPutIfAbsentCountsOneMiss() {
+        ConcurrentBoundedCache<String, String> cache = new ConcurrentBoundedCache<>(10);
+        for (String key : new String[] {"a", "b", "c"}) {
+            String value = cache.get(key);
+            if (value == null) {
+                value = cache.putIfAbsent(key, key);
+            }
+            assertEquals(key, value);
+        }
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void testBounded() {
+        ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<>(100);
+        for (int i = 0; i < 10_000; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        assertTrue(cache.size() <= 100, cache.toString());
+        assertEquals(10_000 - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    void testFrequentlyUsedEntriesRetained() {
+        assertFrequentlyUsedEntriesRetained(100);
+    }
+
+    @Test
+    void testFrequentlyUsedEntriesRetainedWithGrowingSketch() {
+        assertFrequentlyUsedEntriesRetained(5_000);
+    }
+
+    private static void assertFrequentlyUsedEntriesRetained(int maximumSize) {
+        ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<>(maximumSize);
+        for (int i = 0; i < 10; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(cache.get(i), "hot entry " + i + " evicted: " + cache);
+            }
+            for (int i = 0; i < maximumSize; i++) {
+                int key = 1_000_000 + round * maximumSize + i;
+                cache.putIfAbsent(key, key);
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(cache.get(i), "hot entry " + i + " evicted: " + cache);
+        }
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentBoundedCache<>(0));
+    }
+}
@@ -168,6 +168,24 @@ public class PatternInclusionsDependencyFilterTest extends AbstractDependencyFil
         assertFalse(acceptVersionRange(node, prefix + "(1.0.2,1.0.3)", prefix + "(1.0.3,)"), prefix + "(1.0.2,1.0.3)");
     }
 
+    @Test
+    void acceptTestMultiplePatterns() {
+        NodeBuilder builder = new NodeBuilder();
+        builder.groupId("com.example.test")
+                .artifactId("testArtifact")
+                .ext("jar")
+                .version("1.0.3");
+        DependencyNode node = builder.build();
+
+        assertTrue(acceptVersionRange(node, "com.example.test:other", "com.example.test:testArtifact:jar:[1,2)"));
+        assertTrue(acceptVersionRange(node, "com.example.test:other", "com.example.test:*Artifact"));
+        assertTrue(acceptVersionRange(node, "org.example:testArtifact", "*:testArtifact:jar"));
+        assertTrue(acceptVersionRange(node, "org.example", "*.example.*"));
+        assertFalse(acceptVersionRange(node, "com.example.test:other", "org.example:testArtifact", "*:*:pom"));
+        assertFalse(acceptVersionRange(
+                node, "com.example.test:testArtifact:jar:[2,3)", "com.example.test:testArtifact:war"));
+    }
+
     public boolean accept(DependencyNode node, String expression) {
         return new PatternInclusionsDependencyFilter(expression).accept(node, new LinkedList<>());
     }
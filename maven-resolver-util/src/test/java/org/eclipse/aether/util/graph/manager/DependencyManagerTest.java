@@ -20,6 +20,7 @@ package org.eclipse.aether.util.graph.manager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -32,6 +33,7 @@ import org.eclipse.aether.collection.DependencyManager;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.Exclusion;
 import org.eclipse.aether.internal.test.util.TestUtils;
+import org.eclipse.aether.scope.SystemDependencyScope;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -473,4 +475,112 @@ public class DependencyManagerTest {
         assertSame(manager, result1, "empty list should return this");
         assertSame(result1, result2, "memoization should return same instance for empty list");
     }
+
+    /**
+     * Verifies that equality ignores state not affecting behavior: the exact depth (once depth does not change
+     * behavior anymore) and ancestors not carrying rules, so equal subtrees share collector cache entries.
+     */
+    @Test
+    void testEqualityIgnoresIrrelevantState() {
+        DependencyManager depth1 =
+                new TransitiveDependencyManager(null).deriveChildManager(newContext(new Dependency(A2, null, null)));
+        // depth=3 manager, with rule-less manager at depth=2 on the path
+        DependencyManager deep = depth1.deriveChildManager(newContext())
+                .deriveChildManager(newContext(new Dependency(B2, null, null)));
+        // depth=2 manager carrying same rules
+        DependencyManager shallow = depth1.deriveChildManager(newContext(new Dependency(B2, null, null)));
+        assertNotSame(deep, shallow);
+        assertEquals(deep, shallow);
+        assertEquals(deep.hashCode(), shallow.hashCode());
+        assertEquals(
+                deep.manageDependency(new Dependency(A1, null)).getVersion(),
+                shallow.manageDependency(new Dependency(A1, null)).getVersion());
+        DependencyManager deepChild = deep.deriveChildManager(newContext());
+        DependencyManager shallowChild = shallow.deriveChildManager(newContext());
+        assertEquals(deepChild, shallowChild);
+        assertEquals(B2.getVersion(), deepChild.manageDependency(new Dependency(B1, null)).getVersion());
+        assertEquals(B2.getVersion(), shallowChild.manageDependency(new Dependency(B1, null)).getVersion());
+
+        // different rules are still different
+        DependencyManager other = depth1.deriveChildManager(newContext(new Dependency(E2, null, null)));
+        assertNotEquals(shallow, other);
+    }
+
+    /**
+     * Verifies that equality is exact for subclasses overriding methods defining behavior at given depth, as they
+     * may not keep them constant beyond the depth behavioral equality relies on.
+     */
+    @Test
+    void testEqualityExactWhenBehaviorOverridden() {
+        DependencyManager depth1 =
+                new EvenDepthDependencyManager().deriveChildManager(newContext(new Dependency(A2, null, null)));
+        DependencyManager deep = depth1.deriveChildManager(newContext())
+                .deriveChildManager(newContext(new Dependency(B2, null, null)));
+        DependencyManager shallow = depth1.deriveChildManager(newContext(new Dependency(B2, null, null)));
+        assertNotEquals(deep, shallow);
+        assertNull(deep.manageDependency(new Dependency(A1, null)));
+        assertEquals(A2.getVersion(), shallow.manageDependency(new Dependency(A1, null)).getVersion());
+
+        // same path is still equal
+        assertEquals(shallow, depth1.deriveChildManager(newContext(new Dependency(B2, null, null))));
+    }
+
+    /**
+     * Manager applying rules at even depths only.
+     */
+    private static final class EvenDepthDependencyManager extends AbstractDependencyManager {
+        EvenDepthDependencyManager() {
+            super(Integer.MAX_VALUE, 2, null);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private EvenDepthDependencyManager(
+                AbstractDependencyManager parent,
+                int depth,
+                int deriveUntil,
+                int applyFrom,
+                MMap<Key, String> managedVersions,
+                MMap<Key, String> managedScopes,
+                MMap<Key, Boolean> managedOptionals,
+                MMap<Key, String> managedLocalPaths,
+                MMap<Key, Holder<Collection<Exclusion>>> managedExclusions,
+                SystemDependencyScope systemDependencyScope) {
+            super(
+                    parent,
+                    depth,
+                    deriveUntil,
+                    applyFrom,
+                    managedVersions,
+                    managedScopes,
+                    managedOptionals,
+                    managedLocalPaths,
+                    managedExclusions,
+                    systemDependencyScope);
+        }
+
+        @Override
+        protected boolean isApplied() {
+            return super.isApplied() && depth % 2 == 0;
+        }
+
+        @Override
+        protected DependencyManager newInstance(
+                MMap<Key, String> managedVersions,
+                MMap<Key, String> managedScopes,
+                MMap<Key, Boolean> managedOptionals,
+                MMap<Key, String> managedLocalPaths,
+                MMap<Key, Holder<Collection<Exclusion>>> managedExclusions) {
+            return new EvenDepthDependencyManager(
+                    this,
+                    depth + 1,
+                    deriveUntil,
+                    applyFrom,
+                    managedVersions,
+                    managedScopes,
+                    managedOptionals,
+                    managedLocalPaths,
+                    managedExclusions,
+                    systemDependencyScope);
+        }
+    }
 }
@@ -18,14 +18,26 @@
  */
 package org.eclipse.aether.util.graph.transformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
 
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.DependencyGraphTransformationContext;
 import org.eclipse.aether.collection.DependencyGraphTransformer;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.internal.test.util.DependencyGraphParser;
+import org.eclipse.aether.internal.test.util.TestUtils;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -105,4 +117,138 @@ public class ConflictIdSorterTest extends AbstractDependencyGraphTransformerTest
         expectOrder("gid:aid::jar", "gid3:aid::jar", "gid2:aid::jar", "gid4:aid::jar");
         expectCycle(false);
     }
+
+    @Test
+    void testDeepGraph() throws Exception {
+        // deep chain of nodes must not overflow the stack
+        DependencyNode root = new DefaultDependencyNode(new Dependency(new DefaultArtifact("gid:root:1"), "compile"));
+        DependencyNode node = root;
+        for (int i = 0; i < 10000; i++) {
+            DependencyNode child =
+                    new DefaultDependencyNode(new Dependency(new DefaultArtifact("gid:aid" + i + ":1"), "compile"));
+            node.setChildren(new ArrayList<>(Collections.singletonList(child)));
+            node = child;
+        }
+        context = TestUtils.newTransformationContext(session);
+        assertSame(root, new ConflictIdSorter().transformGraph(root, context));
+
+        @SuppressWarnings("unchecked")
+        List<String> sorted = (List<String>) context.get(TransformationContextKeys.SORTED_CONFLICT_IDS);
+        assertEquals(10001, sorted.size());
+        expectCycle(false);
+    }
+
+    @Test
+    void testDeepCyclicGraph() throws Exception {
+        // deep cycle of conflict ids must not overflow the stack
+        int depth = 100000;
+        DependencyNode root = new DefaultDependencyNode(new Dependency(new DefaultArtifact("gid:root:1"), "compile"));
+        DependencyNode node = root;
+        for (int i = 0; i < depth; i++) {
+            DependencyNode child =
+                    new DefaultDependencyNode(new Dependency(new DefaultArtifact("gid:aid" + i + ":1"), "compile"));
+            node.setChildren(new ArrayList<>(Collections.singletonList(child)));
+            node = child;
+        }
+        DependencyNode cyclic = new DefaultDependencyNode(new Dependency(new DefaultArtifact("gid:root:2"), "compile"));
+        node.setChildren(new ArrayList<>(Collections.singletonList(cyclic)));
+        context = TestUtils.newTransformationContext(session);
+        assertSame(root, new ConflictIdSorter().transformGraph(root, context));
+
+        @SuppressWarnings("unchecked")
+        List<String> sorted = (List<String>) context.get(TransformationContextKeys.SORTED_CONFLICT_IDS);
+        assertEquals(depth + 1, sorted.size());
+        @SuppressWarnings("unchecked")
+        Collection<Collection<String>> cycles =
+                (Collection<Collection<String>>) context.get(TransformationContextKeys.CYCLIC_CONFLICT_IDS);
+        assertEquals(1, cycles.size());
+        assertEquals(depth + 1, cycles.iterator().next().size());
+    }
+
+    @Test
+    void testRandomGraphs() throws Exception {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            int keyCount = 1 + random.nextInt(20);
+            List<DependencyNode> nodes = new ArrayList<>();
+            for (int i = 0, count = 1 + random.nextInt(60); i < count; i++) {
+                String coords = "gid:aid" + random.nextInt(keyCount) + ":" + i;
+                nodes.add(new DefaultDependencyNode(new Dependency(new DefaultArtifact(coords), "compile")));
+            }
+            // every node (but root) has a parent preceding it, shared nodes are allowed
+            for (int i = 1; i < nodes.size(); i++) {
+                List<DependencyNode> children = new ArrayList<>(nodes.get(i).getChildren());
+                nodes.get(random.nextInt(i)).getChildren().add(nodes.get(i));
+                for (int j = i + 1; j < nodes.size(); j++) {
+                    if (random.nextInt(10) == 0) {
+                        children.add(nodes.get(j));
+                    }
+                }
+                nodes.get(i).setChildren(children);
+            }
+            assertRandomGraph(nodes);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertRandomGraph(List<DependencyNode> nodes) throws Exception {
+        DependencyNode root = nodes.get(0);
+        context = TestUtils.newTransformationContext(session);
+        new ConflictIdSorter().transformGraph(root, context);
+        Map<DependencyNode, String> conflictIds =
+                (Map<DependencyNode, String>) context.get(TransformationContextKeys.CONFLICT_IDS);
+        List<String> sorted = (List<String>) context.get(TransformationContextKeys.SORTED_CONFLICT_IDS);
+        Collection<?> cycles = (Collection<?>) context.get(TransformationContextKeys.CYCLIC_CONFLICT_IDS);
+
+        // same partitioning as simple marker, as there are no relocations nor aliases
+        DependencyGraphTransformationContext simpleContext = TestUtils.newTransformationContext(session);
+        new SimpleConflictMarker().transformGraph(root, simpleContext);
+        Map<DependencyNode, Object> simpleIds =
+                (Map<DependencyNode, Object>) simpleContext.get(TransformationContextKeys.CONFLICT_IDS);
+        for (DependencyNode a : nodes) {
+            for (DependencyNode b : nodes) {
+                assertEquals(simpleIds.get(a).equals(simpleIds.get(b)), conflictIds.get(a).equals(conflictIds.get(b)));
+            }
+        }
+
+        // each conflict id sorted once, and parents precede children if there is no cycle
+        assertEquals(new HashSet<>(conflictIds.values()), new HashSet<>(sorted));
+        assertEquals(sorted.size(), new HashSet<>(sorted).size());
+        Map<String, Set<String>> edges = new HashMap<>();
+        for (DependencyNode node : nodes) {
+            for (DependencyNode child : node.getChildren()) {
+                edges.computeIfAbsent(conflictIds.get(node), k -> new HashSet<>()).add(conflictIds.get(child));
+            }
+        }
+        boolean cyclic = isCyclic(edges);
+        assertEquals(cyclic, !cycles.isEmpty());
+        if (!cyclic) {
+            edges.forEach((parent, children) -> children.forEach(
+                    child -> assertTrue(sorted.indexOf(parent) < sorted.indexOf(child))));
+        }
+    }
+
+    private static boolean isCyclic(Map<String, Set<String>> edges) {
+        Map<String, Integer> inDegrees = new HashMap<>();
+        edges.forEach((parent, children) -> {
+            inDegrees.putIfAbsent(parent, 0);
+            children.forEach(child -> inDegrees.merge(child, 1, Integer::sum));
+        });
+        Queue<String> roots = new LinkedList<>();
+        inDegrees.forEach((id, inDegree) -> {
+            if (inDegree == 0) {
+                roots.add(id);
+            }
+        });
+        int processed = 0;
+        while (!roots.isEmpty()) {
+            processed++;
+            for (String child : edges.getOrDefault(roots.poll(), Collections.emptySet())) {
+                if (inDegrees.merge(child, -1, Integer::sum) == 0) {
+                    roots.add(child);
+                }
+            }
+        }
+        return processed < inDegrees.size();
+    }
 }
@@ -20,8 +20,15 @@ package org.eclipse.aether.util.graph.transformer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.eclipse.aether.RepositoryException;
@@ -34,7 +41,9 @@ import org.eclipse.aether.internal.test.util.DependencyGraphParser;
 import org.eclipse.aether.internal.test.util.TestVersion;
 import org.eclipse.aether.internal.test.util.TestVersionConstraint;
 import org.eclipse.aether.util.graph.visitor.DependencyGraphDumper;
+import org.eclipse.aether.util.graph.visitor.DependencyNodeStreams;
 import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -859,6 +868,175 @@ public final class ConflictResolverTest extends AbstractConflictResolverTest {
         assertSame(baz1Node, fooNode.getChildren().get(1));
     }
 
+    /**
+     * Verifies that parallel {@link PathConflictResolver} produces same graph as sequential one.
+     */
+    @org.junit.jupiter.api.Test
+    void parallelPathConflictResolverSameAsSequential() throws RepositoryException {
+        PathConflictResolver conflictResolver = new PathConflictResolver(
+                new NearestVersionSelector(),
+                new JavaScopeSelector(),
+                new SimpleOptionalitySelector(),
+                new JavaScopeDeriver());
+        for (ConflictResolver.Verbosity verbosity : ConflictResolver.Verbosity.values()) {
+            setVerbosity(verbosity);
+            session.setConfigProperty(PathConflictResolver.CONFIG_PROP_PARALLEL, false);
+            String sequential = dump(transform(conflictResolver, makeLargeGraph()));
+            session.setConfigProperty(PathConflictResolver.CONFIG_PROP_PARALLEL, true);
+            String parallel = dump(transform(conflictResolver, makeLargeGraph()));
+            assertEquals(sequential, parallel, verbosity.name());
+        }
+    }
+
+    /**
+     * Verifies that lazily recorded verbose conflict data is same as eagerly recorded one.
+     */
+    @ParameterizedTest
+    @MethodSource("conflictResolverSource")
+    void lazyVerboseDataSameAsEager(ConflictResolver conflictResolver) throws RepositoryException {
+        for (ConflictResolver.Verbosity verbosity : ConflictResolver.Verbosity.values()) {
+            setVerbosity(verbosity);
+            session.setConfigProperty(ConflictResolver.CONFIG_PROP_LAZY_VERBOSE_DATA, false);
+            DependencyNode eager = transform(conflictResolver, makeLargeGraph());
+            session.setConfigProperty(ConflictResolver.CONFIG_PROP_LAZY_VERBOSE_DATA, true);
+            DependencyNode lazy = transform(conflictResolver, makeLargeGraph());
+            assertEquals(dump(eager), dump(lazy), verbosity.name());
+            assertEquals(dumpData(eager), dumpData(lazy), verbosity.name());
+            if (verbosity != ConflictResolver.Verbosity.NONE) {
+                assertTrue(DependencyNodeStreams.preorder(lazy)
+                        .anyMatch(n -> n.getData().get(ConflictResolver.NODE_DATA_WINNER) != null));
+            }
+        }
+    }
+
+    /**
+     * Verifies that deep graphs are resolved without recursion, in a thread having small stack.
+     */
+    @ParameterizedTest
+    @MethodSource("conflictResolverSource")
+    void deepGraph(ConflictResolver conflictResolver) throws Exception {
+        deepGraph(conflictResolver, false);
+    }
+
+    /**
+     * Verifies that deep graphs are resolved without recursion, in a thread having small stack, when the root also
+     * depends directly on the second node of the chain, pulling up the depth of the whole chain below it.
+     */
+    @ParameterizedTest
+    @MethodSource("conflictResolverSource")
+    void deepGraphWithShortcut(ConflictResolver conflictResolver) throws Exception {
+        deepGraph(conflictResolver, true);
+    }
+
+    private void deepGraph(ConflictResolver conflictResolver, boolean shortcut) throws Exception {
+        DependencyNode root = makeDependencyNode("group-id", "root", "1.0");
+        DependencyNode last = root;
+        DependencyNode second = null;
+        for (int i = 0; i < 5000; i++) {
+            DependencyNode dep = makeDependencyNode("group-id", "dep-" + i, "1.0");
+            last.setChildren(mutableList(dep));
+            last = dep;
+            if (i == 1) {
+                second = dep;
+            }
+        }
+        if (shortcut) {
+            root.getChildren().add(second);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(
+                null,
+                () -> {
+                    try {
+                        assertSame(root, transform(conflictResolver, root));
+                    } catch (Throwable t) {
+                        failure.set(t);
+                    }
+                },
+                "deep-graph",
+                256 * 1024);
+        thread.start();
+        thread.join();
+        assertNull(failure.get());
+        assertSame(last, DependencyNodeStreams.preorder(root).reduce((a, b) -> b).orElse(null));
+    }
+
+    private static DependencyNode makeLargeGraph() {
+        String[] scopes = {"compile", "runtime", "test", "provided"};
+        Random random = new Random(42);
+        List<List<DependencyNode>> libs = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            List<DependencyNode> versions = new ArrayList<>();
+            for (int v = 1; v <= 3; v++) {
+                versions.add(makeDependencyNode("lib", "lib" + i, v + ".0", null, scopes[random.nextInt(4)]));
+            }
+            libs.add(versions);
+        }
+        // libs depend only on libs with higher index, hence graph is cycle free
+        for (int i = 0; i < libs.size(); i++) {
+            for (DependencyNode lib : libs.get(i)) {
+                List<DependencyNode> children = new ArrayList<>();
+                for (int j = i + 1; j < libs.size(); j++) {
+                    if (random.nextInt(8) == 0) {
+                        children.add(libs.get(j).get(random.nextInt(3)));
+                    }
+                }
+                lib.setChildren(children);
+            }
+        }
+        DependencyNode root = makeDependencyNode("app", "root", "1.0");
+        List<DependencyNode> modules = new ArrayList<>();
+        for (int m = 0; m < 10; m++) {
+            DependencyNode module = makeDependencyNode("app", "module" + m, "1.0");
+            List<DependencyNode> children = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                children.add(libs.get(random.nextInt(libs.size())).get(random.nextInt(3)));
+            }
+            module.setChildren(children);
+            modules.add(module);
+        }
+        root.setChildren(modules);
+        return root;
+    }
+
+    private static String dump(DependencyNode node) {
+        StringBuilder sb = new StringBuilder();
+        node.accept(new DependencyGraphDumper(l -> sb.append(l).append('\n')));
+        return sb.toString();
+    }
+
+    @Test
+    void lazyVerboseDataEntries() {
+        DependencyNode node = new DefaultDependencyNode(new Dependency(new DefaultArtifact("g:a:1"), "compile"));
+        node.setData("custom", "value");
+        LazyConflictData.record(node, null, "test", true, true);
+
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put("custom", "value");
+        expected.put(ConflictResolver.NODE_DATA_ORIGINAL_SCOPE, "test");
+        expected.put(ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY, true);
+        assertEquals(expected, new HashMap<>(node.getData()));
+        assertEquals(3, node.getData().entrySet().size());
+        assertSame(node.getData().entrySet(), node.getData().entrySet());
+        @SuppressWarnings("unchecked")
+        Iterator<Map.Entry<Object, Object>> it = ((Map<Object, Object>) node.getData()).entrySet().iterator();
+        for (int i = 0; i < 3; i++) {
+            assertThrows(UnsupportedOperationException.class, () -> it.next().setValue("other"));
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    private static List<String> dumpData(DependencyNode node) {
+        List<String> result = new ArrayList<>();
+        DependencyNodeStreams.preorder(node).forEach(n -> {
+            TreeMap<String, String> data = new TreeMap<>();
+            n.getData().forEach((k, v) -> data.put(String.valueOf(k), String.valueOf(v)));
+            result.add(n + " " + data);
+        });
+        return result;
+    }
+
     private static DependencyNode makeDependencyNode(String groupId, String artifactId, String version) {
         return makeDependencyNode(groupId, artifactId, version, "compile");
     }
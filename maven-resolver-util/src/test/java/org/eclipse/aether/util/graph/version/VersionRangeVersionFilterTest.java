@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.version;
+
+import org.eclipse.aether.collection.VersionFilter.VersionFilterContext;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.VersionConstraint;
+import org.eclipse.aether.version.VersionRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionRangeVersionFilterTest extends AbstractVersionFilterTest {
+
+    private final GenericVersionScheme scheme = new GenericVersionScheme();
+
+    private VersionRange range(String range) throws InvalidVersionSpecificationException {
+        return scheme.parseVersionRange(range);
+    }
+
+    private VersionRange union(String constraint) throws InvalidVersionSpecificationException {
+        VersionConstraint versionConstraint = scheme.parseVersionConstraint(constraint);
+        return versionConstraint.getRange();
+    }
+
+    @Test
+    void testFilterVersionsInclusive() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(range("[3,7]"));
+        VersionFilterContext ctx = newContext("g:a:[1,9]", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        filter.filterVersions(ctx);
+        assertVersions(ctx, "3", "4", "5", "6", "7");
+    }
+
+    @Test
+    void testFilterVersionsExclusive() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(range("(3,7)"));
+        VersionFilterContext ctx = newContext("g:a:[1,9]", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        filter.filterVersions(ctx);
+        assertVersions(ctx, "4", "5", "6");
+    }
+
+    @Test
+    void testFilterVersionsOpen() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(range("[7,)"));
+        VersionFilterContext ctx = newContext("g:a:[1,9]", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        filter.filterVersions(ctx);
+        assertVersions(ctx, "7", "8", "9");
+
+        filter = new VersionRangeVersionFilter(range("(,2]"));
+        ctx = newContext("g:a:[1,9]", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        filter.filterVersions(ctx);
+        assertVersions(ctx, "1", "2");
+    }
+
+    @Test
+    void testFilterVersionsNone() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(range("(4,5)"));
+        VersionFilterContext ctx = newContext("g:a:[1,9]", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        filter.filterVersions(ctx);
+        assertVersions(ctx);
+    }
+
+    @Test
+    void testFilterVersionsUnion() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(union("[2,3],[7,8]"));
+        VersionFilterContext ctx = newContext("g:a:[1,9]", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        filter.filterVersions(ctx);
+        assertVersions(ctx, "2", "3", "7", "8");
+    }
+
+    @Test
+    void testDeriveChildFilter() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(range("[1,2]"));
+        assertSame(filter, derive(filter, "g:a:1"));
+    }
+
+    @Test
+    void testEquals() throws Exception {
+        VersionRangeVersionFilter filter = new VersionRangeVersionFilter(range("[1,2]"));
+        assertNotEquals(null, filter);
+        assertEquals(filter, new VersionRangeVersionFilter(range("[1,2]")));
+        assertNotEquals(filter, new VersionRangeVersionFilter(range("[1,3]")));
+    }
+}
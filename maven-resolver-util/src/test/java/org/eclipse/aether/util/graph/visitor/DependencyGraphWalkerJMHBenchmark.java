@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.visitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares recursive {@link DependencyNode#accept(org.eclipse.aether.graph.DependencyVisitor)} with iterative
+ * {@link DependencyGraphWalker#walk(DependencyNode, org.eclipse.aether.graph.DependencyVisitor)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 2, timeUnit = TimeUnit.SECONDS)
+public class DependencyGraphWalkerJMHBenchmark {
+    private DependencyNode snake;
+
+    private DependencyNode tree;
+
+    @Setup
+    public void setup() {
+        snake = uniqueSnake(2000);
+        tree = symmetricTree(8, 4);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(DependencyGraphWalkerJMHBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+
+    @Benchmark
+    public int uniqueSnake_2000_accept() {
+        return accept(snake);
+    }
+
+    @Benchmark
+    public int uniqueSnake_2000_walk() {
+        return walk(snake);
+    }
+
+    @Benchmark
+    public int symmetricTree_8x4_accept() {
+        return accept(tree);
+    }
+
+    @Benchmark
+    public int symmetricTree_8x4_walk() {
+        return walk(tree);
+    }
+
+    private static int accept(DependencyNode root) {
+        NodeListGenerator nodes = new NodeListGenerator();
+        root.accept(new PreorderDependencyNodeConsumerVisitor(nodes));
+        return nodes.getNodes().size();
+    }
+
+    private static int walk(DependencyNode root) {
+        NodeListGenerator nodes = new NodeListGenerator();
+        DependencyGraphWalker.walk(root, new PreorderDependencyNodeConsumerVisitor(nodes));
+        return nodes.getNodes().size();
+    }
+
+    /**
+     * A "snake", plain chain of unique dependencies of given length.
+     */
+    private static DependencyNode uniqueSnake(int length) {
+        DependencyNode root = makeDependencyNode("root");
+        DependencyNode last = root;
+        for (int i = 0; i < length; i++) {
+            DependencyNode dep = makeDependencyNode("dep-" + i);
+            last.setChildren(new ArrayList<>(Collections.singletonList(dep)));
+            last = dep;
+        }
+        return root;
+    }
+
+    /**
+     * A symmetric tree of unique dependencies with given depth, where each node has given count of children.
+     */
+    private static DependencyNode symmetricTree(int depth, int width) {
+        DependencyNode root = makeDependencyNode("root");
+        List<DependencyNode> level = Collections.singletonList(root);
+        int idCounter = 0;
+        for (int d = 0; d < depth; d++) {
+            List<DependencyNode> next = new ArrayList<>();
+            for (DependencyNode node : level) {
+                List<DependencyNode> children = new ArrayList<>(width);
+                for (int w = 0; w < width; w++) {
+                    children.add(makeDependencyNode("d" + idCounter++));
+                }
+                node.setChildren(children);
+                next.addAll(children);
+            }
+            level = next;
+        }
+        return root;
+    }
+
+    private static DependencyNode makeDependencyNode(String artifactId) {
+        return new DefaultDependencyNode(
+                new Dependency(new DefaultArtifact("group-id:" + artifactId + ":1.0"), "compile"));
+    }
+}
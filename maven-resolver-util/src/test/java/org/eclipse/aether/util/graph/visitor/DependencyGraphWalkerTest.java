@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.visitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.aether.internal.test.util.DependencyGraphParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependencyGraphWalkerTest {
+
+    private DependencyNode parse(String resource) throws Exception {
+        return new DependencyGraphParser("visitor/ordered-list/").parseResource(resource);
+    }
+
+    /**
+     * Records visits, does not enter children of {@code skipChildren} and stops siblings after {@code stopSiblings}.
+     */
+    private static final class RecordingVisitor implements DependencyVisitor {
+        private final List<String> events = new ArrayList<>();
+
+        private final String skipChildren;
+
+        private final String stopSiblings;
+
+        private RecordingVisitor(String skipChildren, String stopSiblings) {
+            this.skipChildren = skipChildren;
+            this.stopSiblings = stopSiblings;
+        }
+
+        @Override
+        public boolean visitEnter(DependencyNode node) {
+            String id = node.getArtifact().getArtifactId();
+            events.add("enter " + id);
+            return !id.equals(skipChildren);
+        }
+
+        @Override
+        public boolean visitLeave(DependencyNode node) {
+            String id = node.getArtifact().getArtifactId();
+            events.add("leave " + id);
+            return !id.equals(stopSiblings);
+        }
+    }
+
+    private void assertSameAsAccept(DependencyNode root, String skipChildren, String stopSiblings) {
+        RecordingVisitor accepted = new RecordingVisitor(skipChildren, stopSiblings);
+        boolean acceptResult = root.accept(new TreeDependencyVisitor(accepted));
+        RecordingVisitor walked = new RecordingVisitor(skipChildren, stopSiblings);
+        boolean walkResult = DependencyGraphWalker.walk(root, new TreeDependencyVisitor(walked));
+        assertEquals(accepted.events, walked.events);
+        assertEquals(acceptResult, walkResult);
+    }
+
+    @Test
+    void testSameAsAccept() throws Exception {
+        for (String resource : new String[] {"simple.txt", "cycles.txt"}) {
+            DependencyNode root = parse(resource);
+            assertSameAsAccept(root, null, null);
+            for (String id : new String[] {"a", "b", "c", "d", "e"}) {
+                assertSameAsAccept(root, id, null);
+                assertSameAsAccept(root, null, id);
+            }
+        }
+    }
+
+    @Test
+    void testDeepGraph() {
+        int depth = 100_000;
+        DependencyNode root = new DefaultDependencyNode(new Dependency(new DefaultArtifact("g:root:1"), "compile"));
+        DependencyNode last = root;
+        for (int i = 0; i < depth; i++) {
+            DependencyNode child =
+                    new DefaultDependencyNode(new Dependency(new DefaultArtifact("g:a" + i + ":1"), "compile"));
+            last.setChildren(new ArrayList<>(Collections.singletonList(child)));
+            last = child;
+        }
+        NodeListGenerator nodes = new NodeListGenerator();
+        assertTrue(DependencyGraphWalker.walk(root, new PostorderDependencyNodeConsumerVisitor(nodes)));
+        assertEquals(depth + 1, nodes.getNodes().size());
+        assertSame(last, nodes.getNodes().get(0));
+        assertSame(root, nodes.getNodes().get(depth));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.eclipse.aether.util.graph.visitor;
+
+import java.util.List;
+
+import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.internal.test.util.DependencyGraphParser;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependencyNodeStreamsTest {
+
+    private DependencyNode parse(String resource) throws Exception {
+        return new DependencyGraphParser("visitor/ordered-list/").parseResource(resource);
+    }
+
+    private void assertSequence(List<DependencyNode> actual, String... expected) {
+        assertEquals(expected.length, actual.size(), actual.toString());
+        for (int i = 0; i < expected.length; i++) {
+            DependencyNode node = actual.get(i);
+            assertEquals(expected[i], node.getDependency().getArtifact().getArtifactId(), actual.toString());
+        }
+    }
+
+    @Test
+    void testPreOrder() throws Exception {
+        assertSequence(DependencyNodeStreams.preorder(parse("simple.txt")).collect(toList()), "a", "b", "c", "d", "e");
+        assertSequence(DependencyNodeStreams.preorder(parse("cycles.txt")).collect(toList()), "a", "b", "c", "d", "e");
+    }
+
+    @Test
+    void testPostOrder() throws Exception {
+        assertSequence(DependencyNodeStreams.postorder(parse("simple.txt")).collect(toList()), "c", "b", "e", "d", "a");
+        assertSequence(DependencyNodeStreams.postorder(parse("cycles.txt")).collect(toList()), "c", "b", "e", "d", "a");
+    }
+
+    @Test
+    void testLevelOrder() throws Exception {
+        assertSequence(
+                DependencyNodeStreams.levelOrder(parse("simple.txt")).collect(toList()), "a", "b", "d", "c", "e");
+        assertSequence(
+                DependencyNodeStreams.levelOrder(parse("cycles.txt")).collect(toList()), "a", "b", "d", "c", "e");
+    }
+
+    @Test
+    void testFilterSameAsVisitors() throws Exception {
+        DependencyNode root = parse("simple.txt");
+        for (int depth = 0; depth < 4; depth++) {
+            int max = depth;
+            DependencyFilter filter = (n, p) -> p.size() <= max;
+
+            NodeListGenerator preorder = new NodeListGenerator();
+            root.accept(new PreorderDependencyNodeConsumerVisitor(preorder, filter));
+            assertEquals(preorder.getNodes(), DependencyNodeStreams.preorder(root, filter).collect(toList()));
+
+            NodeListGenerator postorder = new NodeListGenerator();
+            root.accept(new PostorderDependencyNodeConsumerVisitor(postorder, filter));
+            assertEquals(postorder.getNodes(), DependencyNodeStreams.postorder(root, filter).collect(toList()));
+        }
+    }
+
+    @Test
+    void testLazy() throws Exception {
+        DependencyNode root = parse("simple.txt");
+        assertSequence(DependencyNodeStreams.preorder(root).limit(2).collect(toList()), "a", "b");
+        assertEquals("", NodeListGenerator.getClassPath(DependencyNodeStreams.preorder(root)));
+    }
+}
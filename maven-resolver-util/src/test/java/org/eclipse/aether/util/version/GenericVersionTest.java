@@ -195,6 +195,21 @@ public class GenericVersionTest extends AbstractVersionTest {
 
     // End of https://issues.apache.org/jira/browse/MRESOLVER-336
 
+    @Test
+    void testAsItemsFromCompactForm() {
+        for (String version :
+                new String[] {"1.2.3", "1-alpha-2", "1.0-SNAPSHOT", "1.foo.BAR", "1.max", "min", "12345678901234567890"}) {
+            List<GenericVersion.Item> expected = new ArrayList<>();
+            for (GenericVersion.Tokenizer tokenizer = new GenericVersion.Tokenizer(version); tokenizer.next(); ) {
+                expected.add(tokenizer.toItem());
+            }
+            GenericVersion.trimPadding(expected);
+            List<GenericVersion.Item> items = ((GenericVersion) newVersion(version)).asItems();
+            assertEquals(expected, items, version);
+            assertEquals(expected.toString(), items.toString(), version);
+        }
+    }
+
     @Test
     void testNumericOrdering() {
         assertOrder(X_LT_Y, "2", "10");